@@ -0,0 +1,48 @@
+package com.webapp.Eventified.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Configuration of the thread pool running the @Scheduled jobs.
+ * Without it the jobs would share a single thread (or the STOMP broker's scheduler), so a long sweep
+ * or batch would delay every other job, including the lifecycle engine's once-a-second tick.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    @Value("${app.scheduling.pool-size:8}")
+    private int poolSize;
+
+    /**
+     * Provides the scheduler running the @Scheduled jobs.
+     *
+     * @return ThreadPoolTaskScheduler with the configured number of threads
+     */
+    @Bean
+    public ThreadPoolTaskScheduler scheduledJobsTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduled-job-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        return scheduler;
+    }
+
+    /**
+     * Runs the @Scheduled jobs on the dedicated scheduler.
+     *
+     * @param registrar the scheduled task registrar
+     */
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.setTaskScheduler(scheduledJobsTaskScheduler());
+    }
+}
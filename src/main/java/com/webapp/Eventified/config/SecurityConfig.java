@@ -115,6 +115,8 @@ public class SecurityConfig {
                         .requestMatchers("/v3/api-docs/**").permitAll()
                     .requestMatchers("/actuator/health/**", "/actuator/info").permitAll()
                         .requestMatchers("/error").permitAll()
+                        // WebSocket handshake; STOMP CONNECT frames are authenticated with the JWT
+                        .requestMatchers("/ws/**").permitAll()
                         
                         // Admin endpoints
                         .requestMatchers("/admin/**").hasRole("ADMIN")
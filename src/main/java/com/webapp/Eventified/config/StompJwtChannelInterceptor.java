@@ -0,0 +1,100 @@
+package com.webapp.Eventified.config;
+
+import com.webapp.Eventified.util.JWTutil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * Channel interceptor authenticating STOMP sessions with JWT tokens.
+ * The CONNECT frame must carry an "Authorization: Bearer &lt;token&gt;" native header;
+ * the authenticated user becomes the session principal, which user destinations are resolved against.
+ * Connections without a valid token are refused.
+ * Clients may only subscribe to their own /user/queue/... destinations and may only send to
+ * application destinations, so they can neither listen on nor publish to the broker's queues directly.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompJwtChannelInterceptor implements ChannelInterceptor {
+
+    private static final String USER_QUEUE_PATTERN = "/user/queue/**";
+    private static final String APPLICATION_PATTERN = "/app/**";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final JWTutil jwtUtil;
+    private final UserDetailsService userDetailsService;
+
+    /**
+     * Authenticates CONNECT frames, checks the destinations of SUBSCRIBE and SEND frames
+     * and passes every other frame through unchanged.
+     *
+     * @param message the inbound message
+     * @param channel the inbound channel
+     * @return the message
+     * @throws AccessDeniedException if a CONNECT frame has no valid JWT token, or a SUBSCRIBE or SEND frame
+     *                               is not authenticated or targets a destination the client may not use
+     */
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        return switch (accessor.getCommand()) {
+            case CONNECT -> authenticate(message, accessor);
+            case SUBSCRIBE -> authorize(message, accessor, USER_QUEUE_PATTERN);
+            case SEND -> authorize(message, accessor, APPLICATION_PATTERN);
+            default -> message;
+        };
+    }
+
+    private Message<?> authorize(Message<?> message, StompHeaderAccessor accessor, String allowedPattern) {
+        String destination = accessor.getDestination();
+        if (accessor.getUser() == null) {
+            throw new AccessDeniedException("STOMP session is not authenticated");
+        }
+        if (destination == null || destination.contains("..") || !pathMatcher.match(allowedPattern, destination)) {
+            log.warn("Refused STOMP {} to {} for user: {}", accessor.getCommand(), destination, accessor.getUser().getName());
+            throw new AccessDeniedException("Destination not allowed: " + destination);
+        }
+        return message;
+    }
+
+    private Message<?> authenticate(Message<?> message, StompHeaderAccessor accessor) {
+        String authHeader = accessor.getFirstNativeHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            throw new AccessDeniedException("Missing JWT token");
+        }
+
+        String jwt = authHeader.substring(7);
+        try {
+            String username = jwtUtil.extractUsername(jwt);
+            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+
+            if (userDetails.isEnabled() && jwtUtil.validateToken(jwt, userDetails)) {
+                accessor.setUser(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+                log.debug("STOMP session authenticated for user: {}", username);
+                return message;
+            }
+        } catch (Exception e) {
+            log.warn("STOMP authentication error: {}", e.getMessage());
+        }
+        throw new AccessDeniedException("Invalid JWT token");
+    }
+}
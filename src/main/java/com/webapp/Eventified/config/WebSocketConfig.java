@@ -0,0 +1,63 @@
+package com.webapp.Eventified.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * WebSocket configuration for pushing notifications to connected users over STOMP.
+ * Clients connect to /ws, authenticate the STOMP CONNECT frame with the same JWT bearer token
+ * used for the REST API and subscribe to their /user/queue/... destinations.
+ * Messages are routed by the in-memory simple broker; replacing enableSimpleBroker with
+ * enableStompBrokerRelay moves them to an external broker without changing any sender.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final StompJwtChannelInterceptor stompJwtChannelInterceptor;
+
+    @Value("${cors.allowed-origins:http://localhost:3000,http://localhost:3001,http://localhost:4200,http://localhost:5173}")
+    private String[] allowedOrigins;
+
+    /**
+     * Registers the STOMP endpoint clients connect to.
+     *
+     * @param registry the endpoint registry
+     */
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws").setAllowedOriginPatterns(allowedOrigins);
+    }
+
+    /**
+     * Configures the in-memory broker and the destination prefixes.
+     *
+     * @param registry the broker registry
+     */
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/queue");
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.setUserDestinationPrefix("/user");
+    }
+
+    /**
+     * Authenticates inbound STOMP frames with the JWT interceptor.
+     *
+     * @param registration the inbound channel registration
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompJwtChannelInterceptor);
+    }
+}
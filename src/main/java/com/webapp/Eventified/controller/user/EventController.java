@@ -6,6 +6,7 @@ import org.springframework.security.core.Authentication;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.webapp.Eventified.dto.user.EventPageDTO;
 import com.webapp.Eventified.dto.user.EventRequest;
 import com.webapp.Eventified.service.EventService;
 
@@ -94,11 +96,19 @@ public class EventController {
     /**
      * Retrieves all events in the system for public viewing.
      * Returns all events regardless of organizer, status, or timing.
+     * When cursor or limit is supplied, a single keyset page is returned instead of the full list.
      *
+     * @param cursor opaque cursor returned with the previous page (optional)
+     * @param limit maximum number of events per page (optional)
      * @return ResponseEntity containing all events as DTOs, or 404 if no events exist
      */
     @GetMapping("/all")
-    public ResponseEntity<?> getAllEvents(){
+    public ResponseEntity<?> getAllEvents(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit){
+        if (isPaged(cursor, limit)) {
+            return eventPage(() -> eventService.getAllEventsPage(cursor, limit));
+        }
         if (eventService.getAllEvents().isEmpty()) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("No events found");
         } else {
@@ -111,11 +121,18 @@ public class EventController {
      * Filters events where the start time is after the current timestamp.
      *
      * @param authentication the Spring Security authentication object containing user credentials
+     * @param cursor opaque cursor returned with the previous page (optional)
+     * @param limit maximum number of events per page (optional)
      * @return ResponseEntity containing upcoming events or empty array if none found
      */
     @GetMapping("/hosted/upcoming")
-    public ResponseEntity<?> getAllMyUpcomingEvents(Authentication authentication){
+    public ResponseEntity<?> getAllMyUpcomingEvents(Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit){
         String username = authentication.getName();
+        if (isPaged(cursor, limit)) {
+            return eventPage(() -> eventService.getHostedEventsUpcomingPage(username, cursor, limit));
+        }
         return ResponseEntity.ok(eventService.getHostedEventsUpcoming(username));
     }
 
@@ -124,11 +141,18 @@ public class EventController {
      * Filters events where the end time is before the current timestamp.
      *
      * @param authentication the Spring Security authentication object containing user credentials
+     * @param cursor opaque cursor returned with the previous page (optional)
+     * @param limit maximum number of events per page (optional)
      * @return ResponseEntity containing past events or empty array if none found
      */
     @GetMapping("/hosted/past")
-    public ResponseEntity<?> getAllMyPastEvents(Authentication authentication){
+    public ResponseEntity<?> getAllMyPastEvents(Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit){
         String username = authentication.getName();
+        if (isPaged(cursor, limit)) {
+            return eventPage(() -> eventService.getHostedEventsPastPage(username, cursor, limit));
+        }
         return ResponseEntity.ok(eventService.getHostedEventsPast(username));
     }
 
@@ -137,10 +161,17 @@ public class EventController {
      * Returns events that match the specified sport identifier.
      *
      * @param sport the integer identifier of the sport to filter by
+     * @param cursor opaque cursor returned with the previous page (optional)
+     * @param limit maximum number of events per page (optional)
      * @return ResponseEntity containing events for the specified sport or error if none found
      */
     @GetMapping("/filter/by/sport/{sport}")
-    public ResponseEntity<?> getEventsBySport(@PathVariable Integer sport){
+    public ResponseEntity<?> getEventsBySport(@PathVariable Integer sport,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit){
+        if (isPaged(cursor, limit)) {
+            return eventPage(() -> eventService.getFilteredEventsPage(List.of(sport), null, null, null, null, cursor, limit));
+        }
         if (eventService.getEventsBySport(sport).isEmpty()) {
             return ResponseEntity.status(500).body("No events for this sport found");
         } else {
@@ -153,10 +184,17 @@ public class EventController {
      * Returns events that match the specified skill level.
      *
      * @param skillLevel the integer identifier of the skill level to filter by
+     * @param cursor opaque cursor returned with the previous page (optional)
+     * @param limit maximum number of events per page (optional)
      * @return ResponseEntity containing events for the specified skill level or error if none found
      */
     @GetMapping("/filter/by/skillLevel/{skillLevel}")
-    public ResponseEntity<?> getEventsBySkillLevel(@PathVariable Integer skillLevel){
+    public ResponseEntity<?> getEventsBySkillLevel(@PathVariable Integer skillLevel,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit){
+        if (isPaged(cursor, limit)) {
+            return eventPage(() -> eventService.getFilteredEventsPage(null, List.of(skillLevel), null, null, null, cursor, limit));
+        }
         if(eventService.getEventsBySkillLevel(skillLevel).isEmpty()){
             return ResponseEntity.status(500).body("No events for this skill level found");
         } else{
@@ -169,17 +207,25 @@ public class EventController {
      * Parses the datetime string parameter and filters events accordingly.
      *
      * @param dateTime the ISO datetime string after which events should start
+     * @param cursor opaque cursor returned with the previous page (optional)
+     * @param limit maximum number of events per page (optional)
      * @return ResponseEntity containing events starting after the specified time or error if none found
      */
     @GetMapping("/filter/by/startTimeAfter/{dateTime}")
-    public ResponseEntity<?> getEventsByStartTimeAfter(@PathVariable String dateTime){
+    public ResponseEntity<?> getEventsByStartTimeAfter(@PathVariable String dateTime,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit){
         
         LocalDateTime parseDateTime = LocalDateTime.parse(dateTime);
 
+        if (isPaged(cursor, limit)) {
+            return eventPage(() -> eventService.getFilteredEventsPage(null, null, parseDateTime, null, null, cursor, limit));
+        }
+
         if (eventService.getEventsByStartTimeAfter(parseDateTime).isEmpty()) {
             return ResponseEntity.status(500).body("No events found after this date");
         } else{
-            return ResponseEntity.ok(getEventsByStartTimeAfter(dateTime));
+            return ResponseEntity.ok(eventService.getEventsByStartTimeAfter(parseDateTime));
         }
     }
 
@@ -188,12 +234,20 @@ public class EventController {
      * Parses the datetime string parameter and filters events accordingly.
      *
      * @param dateTime the ISO datetime string before which events should end
+     * @param cursor opaque cursor returned with the previous page (optional)
+     * @param limit maximum number of events per page (optional)
      * @return ResponseEntity containing events ending before the specified time or error if none found
      */
     @GetMapping("/filter/by/startTimeBefore/{dateTime}")
-    public ResponseEntity<?> getEventsByEndTimeBefore(@PathVariable String dateTime){
+    public ResponseEntity<?> getEventsByEndTimeBefore(@PathVariable String dateTime,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit){
         LocalDateTime parseDateTime = LocalDateTime.parse(dateTime);
 
+        if (isPaged(cursor, limit)) {
+            return eventPage(() -> eventService.getFilteredEventsPage(null, null, null, parseDateTime, null, cursor, limit));
+        }
+
         if(eventService.getEventsByEndTimeBefore(parseDateTime).isEmpty()){
             return ResponseEntity.status(500).body("No events found before this date");
         } else{
@@ -206,10 +260,17 @@ public class EventController {
      * Calculates available capacity by comparing total capacity with occupied slots.
      *
      * @param freeSlots the minimum number of free spots required
+     * @param cursor opaque cursor returned with the previous page (optional)
+     * @param limit maximum number of events per page (optional)
      * @return ResponseEntity containing events with sufficient available capacity or error if none found
      */
     @GetMapping("/filter/by/freeSlots/{freeSlots}")
-    public ResponseEntity<?> getEventsByFreeSlots(@PathVariable Integer freeSlots){
+    public ResponseEntity<?> getEventsByFreeSlots(@PathVariable Integer freeSlots,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit){
+        if (isPaged(cursor, limit)) {
+            return eventPage(() -> eventService.getFilteredEventsPage(null, null, null, null, freeSlots, cursor, limit));
+        }
         if(eventService.getEventsByFreeSlots(freeSlots).isEmpty()){
             return ResponseEntity.status(500).body("No events found with that number of free slots");
         } else{
@@ -226,6 +287,8 @@ public class EventController {
      * @param startTimeAfter optional ISO datetime string for minimum start time
      * @param endTimeBefore optional ISO datetime string for maximum end time
      * @param freeSlots optional minimum number of free spots required
+     * @param cursor optional opaque cursor returned with the previous page
+     * @param limit optional maximum number of events per page
      * @return ResponseEntity containing filtered events or error message if none match criteria
      */
     @GetMapping("/filter")
@@ -234,12 +297,18 @@ public class EventController {
             @RequestParam (required = false) List<Integer> skillLevels,
             @RequestParam (required = false) String startTimeAfter,
             @RequestParam (required = false) String endTimeBefore,
-            @RequestParam (required = false) Integer freeSlots){
+            @RequestParam (required = false) Integer freeSlots,
+            @RequestParam (required = false) String cursor,
+            @RequestParam (required = false) Integer limit){
 
         try {
             LocalDateTime startTimeAfterParsed = startTimeAfter != null ? LocalDateTime.parse(startTimeAfter) : null;
             LocalDateTime endTimeBeforeParsed = endTimeBefore != null ? LocalDateTime.parse(endTimeBefore) : null;
 
+            if (isPaged(cursor, limit)) {
+                return ResponseEntity.ok(eventService.getFilteredEventsPage(sports, skillLevels, startTimeAfterParsed, endTimeBeforeParsed, freeSlots, cursor, limit));
+            }
+
             var filteredEvents = eventService.getFilteredEvents(sports, skillLevels, startTimeAfterParsed, endTimeBeforeParsed, freeSlots);
 
             return ResponseEntity.ok(filteredEvents);
@@ -249,15 +318,77 @@ public class EventController {
         }
     }
 
+    /**
+     * Retrieves upcoming events near the given coordinates, nearest first.
+     * Can be combined with the sport and skill level filters.
+     *
+     * @param lat latitude of the searched point in degrees
+     * @param lon longitude of the searched point in degrees
+     * @param radiusKm search radius in kilometres
+     * @param sports optional list of sport IDs to filter by
+     * @param skillLevels optional list of skill levels to filter by
+     * @param limit optional maximum number of events to return
+     * @return ResponseEntity containing nearby events with distances, or error if parameters are invalid
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<?> getNearbyEvents(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(required = false) List<Integer> sports,
+            @RequestParam(required = false) List<Integer> skillLevels,
+            @RequestParam(required = false) Integer limit){
+        try {
+            return ResponseEntity.ok(eventService.getNearbyEvents(lat, lon, radiusKm, sports, skillLevels, limit));
+        } catch (IllegalArgumentException e){
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves markers of upcoming events inside a map viewport.
+     * Answered from the in-memory geo index, intended for the map view.
+     *
+     * @param minLat southern edge of the viewport in degrees
+     * @param minLon western edge of the viewport in degrees
+     * @param maxLat northern edge of the viewport in degrees
+     * @param maxLon eastern edge of the viewport in degrees
+     * @param limit optional maximum number of markers to return
+     * @return ResponseEntity containing event markers, or error if the viewport is invalid
+     */
+    @GetMapping("/map")
+    public ResponseEntity<?> getEventsInViewport(
+            @RequestParam double minLat,
+            @RequestParam double minLon,
+            @RequestParam double maxLat,
+            @RequestParam double maxLon,
+            @RequestParam(required = false) Integer limit){
+        try {
+            return ResponseEntity.ok(eventService.getEventsInViewport(minLat, minLon, maxLat, maxLon, limit));
+        } catch (IllegalArgumentException e){
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
     @GetMapping("/attended/past")
-    public ResponseEntity<?> getMyAttendedPastEvents(Authentication authentication){
+    public ResponseEntity<?> getMyAttendedPastEvents(Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit){
         String username = authentication.getName();
+        if (isPaged(cursor, limit)) {
+            return eventPage(() -> eventService.getMyAttendedPastEventsPage(username, cursor, limit));
+        }
         return ResponseEntity.ok(eventService.getMyAttendedPastEvents(username));
     }
 
     @GetMapping("/attended/upcoming")
-    public ResponseEntity<?> getMyAttendedUpcomingEvents(Authentication authentication){
+    public ResponseEntity<?> getMyAttendedUpcomingEvents(Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit){
         String username = authentication.getName();
+        if (isPaged(cursor, limit)) {
+            return eventPage(() -> eventService.getMyAttendedUpcomingEventsPage(username, cursor, limit));
+        }
         return ResponseEntity.ok(eventService.getMyAttendedUpcomingEvents(username));
     }
 
@@ -275,4 +406,30 @@ public class EventController {
     public ResponseEntity<?> getEventParticipants(@PathVariable UUID eventId){
         return ResponseEntity.ok(eventService.getEventParticipants(eventId));
     }
+
+    /**
+     * Checks whether the client opted into cursor pagination.
+     * Requests without cursor and limit keep receiving the full, unpaginated list.
+     *
+     * @param cursor the cursor request parameter
+     * @param limit the limit request parameter
+     * @return true if a single page should be returned
+     */
+    private boolean isPaged(String cursor, Integer limit){
+        return cursor != null || limit != null;
+    }
+
+    /**
+     * Wraps a page lookup into a response, mapping invalid cursors or unknown users to 400.
+     *
+     * @param pageSupplier the service call producing the page
+     * @return ResponseEntity containing the page or an error message
+     */
+    private ResponseEntity<?> eventPage(Supplier<EventPageDTO> pageSupplier){
+        try {
+            return ResponseEntity.ok(pageSupplier.get());
+        } catch (IllegalArgumentException e){
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
 }
@@ -2,13 +2,20 @@ package com.webapp.Eventified.controller.user;
 
 import org.springframework.security.core.Authentication;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.webapp.Eventified.service.NotificationService;
@@ -41,6 +48,26 @@ public class NotificationController {
         return ResponseEntity.ok(notificationService.getUserNotifications(username));
     }
 
+    /**
+     * Retrieves one page of the authenticated user's notification feed, newest first.
+     *
+     * @param cursor opaque cursor returned with the previous page (optional)
+     * @param limit maximum number of notifications per page (optional)
+     * @param authentication the Spring Security authentication object containing user credentials
+     * @return ResponseEntity containing the page and the cursor of the next page, or error if the input is invalid
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<?> getNotificationFeed(@RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit, Authentication authentication){
+        String username = authentication.getName();
+
+        try {
+            return ResponseEntity.ok(notificationService.getNotificationFeed(username, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
     /**
      * Retrieves only unread notifications for the authenticated user.
      *
@@ -85,18 +112,54 @@ public class NotificationController {
      * Marks all notifications for the authenticated user as read.
      *
      * @param authentication the Spring Security authentication object containing user credentials
-     * @return ResponseEntity with success message if all marked, or error if operation failed
+     * @return ResponseEntity containing the number of notifications marked as read, or error if the user is not found
      */
     @PutMapping("/read/all")
     public ResponseEntity<?> markAllAsRead(Authentication authentication){
         String username = authentication.getName();
 
-        if(notificationService.markAllAsRead(username)){
-            return ResponseEntity.ok("All notifications were marked as read");
-        }else{
-            return ResponseEntity.status(500).body("Failed to mark all notifications as read");
+        try {
+            return ResponseEntity.ok(notificationService.markAllAsRead(username));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Marks the given notifications of the authenticated user as read.
+     *
+     * @param notificationIds the unique identifiers of the notifications to mark as read
+     * @param authentication the Spring Security authentication object containing user credentials
+     * @return ResponseEntity containing the number of notifications marked as read, or error if the user is not found
+     */
+    @PutMapping("/read")
+    public ResponseEntity<?> markAsRead(@RequestBody List<UUID> notificationIds, Authentication authentication){
+        String username = authentication.getName();
+
+        try {
+            return ResponseEntity.ok(notificationService.markAsRead(username, notificationIds));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }
     }
 
-    
+    /**
+     * Deletes the notifications of the authenticated user created before the given date and time.
+     *
+     * @param olderThan the ISO datetime string before which notifications are deleted
+     * @param authentication the Spring Security authentication object containing user credentials
+     * @return ResponseEntity containing the number of notifications deleted, or error if the input is invalid
+     */
+    @DeleteMapping
+    public ResponseEntity<?> deleteNotificationsOlderThan(@RequestParam String olderThan, Authentication authentication){
+        String username = authentication.getName();
+
+        try {
+            return ResponseEntity.ok(notificationService.deleteNotificationsOlderThan(username, LocalDateTime.parse(olderThan)));
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid date format");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
 }
@@ -62,15 +62,19 @@ public class UserController {
      *
      * @param eventId the unique identifier of the event to join
      * @param authentication the Spring Security authentication object containing user credentials
-     * @return ResponseEntity with success message if joined successfully, or error if already joined
+     * @return ResponseEntity with success message if joined successfully, or error if already joined, full or not open for joining
      */
     @PostMapping("/event/join")
     public ResponseEntity<?> joinEvent(@RequestParam UUID eventId, Authentication authentication){
         String username = authentication.getName();
-        if (userService.joinEvent(username, eventId)) {
-            return ResponseEntity.ok("Successfully joined the event.");
-        } else {
-            return ResponseEntity.badRequest().body("User has already joined the event.");
+        try {
+            if (userService.joinEvent(username, eventId)) {
+                return ResponseEntity.ok("Successfully joined the event.");
+            } else {
+                return ResponseEntity.badRequest().body("User has already joined the event.");
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
@@ -93,6 +97,54 @@ public class UserController {
         }
     }
 
+    /**
+     * Adds the authenticated user to the waitlist of a full event.
+     * The user is promoted to a participant automatically, in waitlist order, when a spot frees up.
+     *
+     * @param eventId the unique identifier of the full event
+     * @param authentication the Spring Security authentication object containing user credentials
+     * @return ResponseEntity with the user's 1-based waitlist position, or error if the event cannot be waitlisted
+     */
+    @PostMapping("/event/waitlist")
+    public ResponseEntity<?> joinWaitlist(@RequestParam UUID eventId, Authentication authentication){
+        String username = authentication.getName();
+        try {
+            return ResponseEntity.ok(userService.joinWaitlist(username, eventId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the authenticated user's position on the waitlist of an event.
+     *
+     * @param eventId the unique identifier of the event
+     * @param authentication the Spring Security authentication object containing user credentials
+     * @return ResponseEntity with the 1-based waitlist position, or 0 if the user is not on the waitlist
+     */
+    @GetMapping("/event/waitlist")
+    public ResponseEntity<?> getWaitlistPosition(@RequestParam UUID eventId, Authentication authentication){
+        String username = authentication.getName();
+        return ResponseEntity.ok(userService.getWaitlistPosition(username, eventId));
+    }
+
+    /**
+     * Removes the authenticated user from the waitlist of an event.
+     *
+     * @param eventId the unique identifier of the event
+     * @param authentication the Spring Security authentication object containing user credentials
+     * @return ResponseEntity with success message if removed, or error if the user was not on the waitlist
+     */
+    @DeleteMapping("/event/waitlist")
+    public ResponseEntity<?> leaveWaitlist(@RequestParam UUID eventId, Authentication authentication){
+        String username = authentication.getName();
+        if (userService.leaveWaitlist(username, eventId)) {
+            return ResponseEntity.ok("Successfully left the waitlist.");
+        } else {
+            return ResponseEntity.badRequest().body("User is not on the waitlist of the event.");
+        }
+    }
+
     /**
      * Permanently deletes the authenticated user's account and all associated data.
      * This operation cannot be undone and removes all user data from the system.
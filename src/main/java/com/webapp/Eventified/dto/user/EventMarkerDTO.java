@@ -0,0 +1,49 @@
+package com.webapp.Eventified.dto.user;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import lombok.Data;
+
+/**
+ * Data Transfer Object for an event marker shown on the map view.
+ * Contains only the event identifier, its position and sport.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Data
+public class EventMarkerDTO {
+    private UUID id;
+    private double latitude;
+    private double longitude;
+    private int sport;
+
+    /**
+     * Constructs an EventMarkerDTO from primitive values.
+     *
+     * @param id the unique identifier of the event
+     * @param latitude the latitude coordinate of the event location
+     * @param longitude the longitude coordinate of the event location
+     * @param sport the integer identifier of the sport type
+     */
+    public EventMarkerDTO(UUID id, double latitude, double longitude, int sport) {
+        this.id = id;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.sport = sport;
+    }
+
+    /**
+     * Constructs an EventMarkerDTO from event columns.
+     * Used by JPQL constructor expressions when loading markers from the database.
+     *
+     * @param id the unique identifier of the event
+     * @param latitude the latitude coordinate of the event location
+     * @param longitude the longitude coordinate of the event location
+     * @param sport the integer identifier of the sport type
+     */
+    public EventMarkerDTO(UUID id, BigDecimal latitude, BigDecimal longitude, Integer sport) {
+        this(id, latitude.doubleValue(), longitude.doubleValue(), sport);
+    }
+}
@@ -0,0 +1,20 @@
+package com.webapp.Eventified.dto.user;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for one page of a cursor-paginated event listing.
+ * The nextCursor is null when there are no more events to fetch.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Data
+@AllArgsConstructor
+public class EventPageDTO {
+    private List<EventPoolDTO> events;
+    private String nextCursor;
+}
@@ -1,6 +1,7 @@
 package com.webapp.Eventified.dto.user;
 
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 import com.webapp.Eventified.model.Event;
 
@@ -40,4 +41,28 @@ public class EventPoolDTO {
         this.occupied = event.getOccupied();
         this.skillLevel = event.getSkillLevel();
     }
+
+    /**
+     * Constructs an EventPoolDTO directly from selected event columns.
+     * Used by JPQL/Criteria constructor expressions so that no Event entity has to be loaded.
+     *
+     * @param id the unique identifier of the event
+     * @param title the title of the event
+     * @param sport the integer identifier of the sport type
+     * @param address the physical address of the event
+     * @param startTime the date and time when the event starts
+     * @param capacity the maximum number of participants allowed
+     * @param occupied the number of already occupied spots
+     * @param skillLevel the required skill level for participants
+     */
+    public EventPoolDTO(UUID id, String title, Integer sport, String address, LocalDateTime startTime, Integer capacity, Integer occupied, Integer skillLevel) {
+        this.id = id;
+        this.title = title;
+        this.sport = sport;
+        this.address = address;
+        this.startTime = startTime.toString();
+        this.capacity = capacity;
+        this.occupied = occupied;
+        this.skillLevel = skillLevel;
+    }
 }
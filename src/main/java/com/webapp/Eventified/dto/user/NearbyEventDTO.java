@@ -0,0 +1,59 @@
+package com.webapp.Eventified.dto.user;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.Data;
+
+/**
+ * Data Transfer Object for events returned by the nearby search.
+ * Contains the event pool information plus the location and distance from the searched point.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Data
+public class NearbyEventDTO {
+    private UUID id;
+    private String title;
+    private Integer sport;
+    private String address;
+    private String startTime;
+    private Integer capacity;
+    private Integer occupied;
+    private Integer skillLevel;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private Double distanceKm;
+
+    /**
+     * Constructs a NearbyEventDTO from selected event columns and the computed distance.
+     * Used by the Criteria constructor expression of the nearby query.
+     *
+     * @param id the unique identifier of the event
+     * @param title the title of the event
+     * @param sport the integer identifier of the sport type
+     * @param address the physical address of the event
+     * @param startTime the date and time when the event starts
+     * @param capacity the maximum number of participants allowed
+     * @param occupied the number of already occupied spots
+     * @param skillLevel the required skill level for participants
+     * @param latitude the latitude coordinate of the event location
+     * @param longitude the longitude coordinate of the event location
+     * @param distanceKm the distance from the searched point in kilometres
+     */
+    public NearbyEventDTO(UUID id, String title, Integer sport, String address, LocalDateTime startTime, Integer capacity, Integer occupied, Integer skillLevel, BigDecimal latitude, BigDecimal longitude, Double distanceKm) {
+        this.id = id;
+        this.title = title;
+        this.sport = sport;
+        this.address = address;
+        this.startTime = startTime.toString();
+        this.capacity = capacity;
+        this.occupied = occupied;
+        this.skillLevel = skillLevel;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.distanceKm = distanceKm;
+    }
+}
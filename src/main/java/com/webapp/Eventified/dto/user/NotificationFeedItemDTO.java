@@ -0,0 +1,46 @@
+package com.webapp.Eventified.dto.user;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.Data;
+
+/**
+ * Data Transfer Object for one entry of the notification feed.
+ * Built directly by a JPQL constructor expression, so no Notification, Event or User entities are loaded.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Data
+public class NotificationFeedItemDTO {
+    private UUID id;
+    private Integer typeOfNotification;
+    private String title;
+    private String messageOfNotification;
+    private Boolean isRead;
+    private LocalDateTime createdAt;
+    private UUID eventId;
+
+    /**
+     * Constructs a NotificationFeedItemDTO from notification columns.
+     *
+     * @param id the unique identifier of the notification
+     * @param typeOfNotification the integer identifier of the notification type
+     * @param title the title of the notification
+     * @param messageOfNotification the message of the notification
+     * @param isRead whether the notification has been read
+     * @param createdAt the creation timestamp of the notification
+     * @param eventId the unique identifier of the related event, or null
+     */
+    public NotificationFeedItemDTO(UUID id, Integer typeOfNotification, String title, String messageOfNotification,
+            Boolean isRead, LocalDateTime createdAt, UUID eventId) {
+        this.id = id;
+        this.typeOfNotification = typeOfNotification;
+        this.title = title;
+        this.messageOfNotification = messageOfNotification;
+        this.isRead = isRead;
+        this.createdAt = createdAt;
+        this.eventId = eventId;
+    }
+}
@@ -0,0 +1,20 @@
+package com.webapp.Eventified.dto.user;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for one page of the cursor-paginated notification feed.
+ * The nextCursor is null when there are no more notifications to fetch.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Data
+@AllArgsConstructor
+public class NotificationPageDTO {
+    private List<NotificationFeedItemDTO> notifications;
+    private String nextCursor;
+}
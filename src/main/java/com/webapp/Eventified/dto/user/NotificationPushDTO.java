@@ -0,0 +1,43 @@
+package com.webapp.Eventified.dto.user;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.Data;
+
+/**
+ * Data Transfer Object for a notification pushed to a connected user over WebSocket.
+ * Contains the same fields a client receives from the notification REST endpoints.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Data
+public class NotificationPushDTO {
+    private UUID id;
+    private Integer typeOfNotification;
+    private String title;
+    private String messageOfNotification;
+    private UUID eventId;
+    private LocalDateTime createdAt;
+
+    /**
+     * Constructs a NotificationPushDTO.
+     *
+     * @param id the unique identifier of the notification
+     * @param typeOfNotification the integer identifier of the notification type
+     * @param title the title of the notification
+     * @param messageOfNotification the message of the notification
+     * @param eventId the unique identifier of the related event, or null
+     * @param createdAt the creation timestamp of the notification
+     */
+    public NotificationPushDTO(UUID id, Integer typeOfNotification, String title, String messageOfNotification,
+            UUID eventId, LocalDateTime createdAt) {
+        this.id = id;
+        this.typeOfNotification = typeOfNotification;
+        this.title = title;
+        this.messageOfNotification = messageOfNotification;
+        this.eventId = eventId;
+        this.createdAt = createdAt;
+    }
+}
@@ -47,7 +47,7 @@ public class Event {
     @Column(name = "title", nullable = false)
     private String title;
 
-    @Column(name = "occupied" , nullable = false)
+    @Column(name = "occupied" , nullable = false, updatable = false)
     private Integer occupied;
 
     @Column(name = "sport", nullable = false)
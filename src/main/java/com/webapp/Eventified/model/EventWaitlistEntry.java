@@ -0,0 +1,55 @@
+package com.webapp.Eventified.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.webapp.Eventified.model.id.EventWaitlistEntryId;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Entity representing a user queued for a spot in a full event.
+ * Entries are served first in, first out by joinedAt and are removed when the user is promoted
+ * to a participant, joins directly or leaves the waitlist.
+ * Uses a composite key of eventId and userId.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Entity
+@Table(name = "event_waitlist")
+@IdClass(EventWaitlistEntryId.class)
+public class EventWaitlistEntry {
+
+    @EqualsAndHashCode.Include
+    @Id
+    @Column(name = "event_id")
+    private UUID eventId;
+
+    @EqualsAndHashCode.Include
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(name = "joined_at", nullable = false)
+    private LocalDateTime joinedAt;
+
+    /**
+     * Default constructor for JPA.
+     */
+    public EventWaitlistEntry() {
+
+    }
+}
@@ -0,0 +1,84 @@
+package com.webapp.Eventified.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Entity representing a pending notification fan-out in the transactional outbox.
+ * An entry is written in the same transaction as the change that triggers the notification
+ * and is removed once the notifications have been created.
+ * An entry whose dispatch failed is retried after a growing delay and dropped after a fixed number of attempts.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Entity
+@Table(name = "notification_outbox")
+public class NotificationOutboxEntry {
+
+    @EqualsAndHashCode.Include
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "type_of_notification", nullable = false)
+    private Integer typeOfNotification;
+
+    @Column(name = "event_id", nullable = false)
+    private UUID eventId;
+
+    @Column(name = "recipient_id")
+    private UUID recipientId;
+
+    @Column(name = "actor_username")
+    private String actorUsername;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * Default constructor for JPA.
+     */
+    public NotificationOutboxEntry() {
+
+    }
+
+    /**
+     * Constructs a new outbox entry and records the creation timestamp.
+     *
+     * @param typeOfNotification the integer identifier of the notification type
+     * @param eventId the unique identifier of the event the notification refers to
+     * @param recipientId the unique identifier of the single recipient, or null if the recipients are derived from the event
+     * @param actorUsername the username of the user who triggered the notification, or null
+     */
+    public NotificationOutboxEntry(Integer typeOfNotification, UUID eventId, UUID recipientId, String actorUsername) {
+        this.typeOfNotification = typeOfNotification;
+        this.eventId = eventId;
+        this.recipientId = recipientId;
+        this.actorUsername = actorUsername;
+        this.createdAt = LocalDateTime.now();
+        this.attempts = 0;
+        this.nextAttemptAt = this.createdAt;
+    }
+}
@@ -0,0 +1,45 @@
+package com.webapp.Eventified.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Entity representing a pending rating prompt for the organizer of an event that has ended.
+ * Entries are enqueued by a database trigger when an unrated event becomes PAST and are removed
+ * in the same transaction that creates the prompt.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Entity
+@Table(name = "rating_prompt_queue")
+public class RatingPromptQueueEntry {
+
+    @EqualsAndHashCode.Include
+    @Id
+    @Column(name = "event_id", nullable = false)
+    private UUID eventId;
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+
+    /**
+     * Default constructor for JPA.
+     */
+    public RatingPromptQueueEntry() {
+
+    }
+}
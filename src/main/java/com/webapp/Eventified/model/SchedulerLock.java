@@ -0,0 +1,49 @@
+package com.webapp.Eventified.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Entity representing the cluster-wide lease of a scheduled job.
+ * A node may run the job only while it holds the lease, i.e. it is the locked_by node and locked_until is in the future.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Entity
+@Table(name = "scheduler_locks")
+public class SchedulerLock {
+
+    @EqualsAndHashCode.Include
+    @Id
+    @Column(name = "name", nullable = false, length = 64)
+    private String name;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+
+    /**
+     * Default constructor for JPA.
+     */
+    public SchedulerLock() {
+
+    }
+}
@@ -0,0 +1,59 @@
+package com.webapp.Eventified.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Entity representing the recommendations precomputed for a user by the recommendation batch job.
+ * The list is valid while neither the user nor one of the sports its candidates were drawn from
+ * has been invalidated since it was computed. An empty sports array means candidates came from every sport.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Entity
+@Table(name = "user_recommendations")
+public class UserRecommendation {
+
+    @EqualsAndHashCode.Include
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "event_ids", nullable = false)
+    private UUID[] eventIds;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "sports", nullable = false)
+    private Integer[] sports;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    @Column(name = "invalidated_at", nullable = false)
+    private LocalDateTime invalidatedAt;
+
+    /**
+     * Default constructor for JPA.
+     */
+    public UserRecommendation() {
+
+    }
+}
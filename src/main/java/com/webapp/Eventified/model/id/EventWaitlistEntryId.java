@@ -0,0 +1,16 @@
+package com.webapp.Eventified.model.id;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventWaitlistEntryId implements Serializable {
+    private UUID eventId;
+    private UUID userId;
+}
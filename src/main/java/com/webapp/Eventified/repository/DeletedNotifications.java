@@ -0,0 +1,24 @@
+package com.webapp.Eventified.repository;
+
+/**
+ * Projection summarising the notifications removed by a set-based delete.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public interface DeletedNotifications {
+
+    /**
+     * Returns the number of notifications deleted.
+     *
+     * @return the deleted count
+     */
+    int getDeleted();
+
+    /**
+     * Returns how many of the deleted notifications were unread.
+     *
+     * @return the deleted unread count
+     */
+    int getUnread();
+}
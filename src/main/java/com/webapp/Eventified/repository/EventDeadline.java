@@ -0,0 +1,41 @@
+package com.webapp.Eventified.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of the lifecycle deadlines of an event, used to seed the lifecycle engine without loading entities.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public interface EventDeadline {
+
+    /**
+     * Returns the unique identifier of the event.
+     *
+     * @return the event ID
+     */
+    UUID getId();
+
+    /**
+     * Returns when the event starts.
+     *
+     * @return the start time
+     */
+    LocalDateTime getStartTime();
+
+    /**
+     * Returns when the event ends.
+     *
+     * @return the end time
+     */
+    LocalDateTime getEndTime();
+
+    /**
+     * Returns the current status of the event.
+     *
+     * @return the status code
+     */
+    Integer getStatusOfEvent();
+}
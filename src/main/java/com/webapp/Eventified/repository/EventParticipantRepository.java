@@ -1,6 +1,7 @@
 package com.webapp.Eventified.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -44,4 +45,14 @@ public interface EventParticipantRepository extends JpaRepository<EventParticipa
            "ORDER BY e.startTime DESC")
     List<Event> findPastEventsByUserId(@Param("userID")UUID userId, @Param("now") LocalDateTime now);
        Optional<EventParticipant> findByEventIdAndUserId(UUID eventId, UUID userId);
+
+    @Query("SELECT new com.webapp.Eventified.repository.ParticipationRow(ep.userId, e.id, e.sport, e.skillLevel, e.startTime) " +
+           "FROM EventParticipant ep JOIN Event e ON ep.eventId = e.id " +
+           "WHERE ep.userId IN :userIds")
+    List<ParticipationRow> findParticipationRowsByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+    @Query("SELECT new com.webapp.Eventified.repository.ParticipationRow(ep.userId, e.id, e.sport, e.skillLevel, e.startTime) " +
+           "FROM EventParticipant ep JOIN Event e ON ep.eventId = e.id " +
+           "WHERE e.startTime > :since AND e.statusOfEvent IN :statuses")
+    List<ParticipationRow> findParticipationRowsForEventsStartingAfter(@Param("since") LocalDateTime since, @Param("statuses") Collection<Integer> statuses);
 }
@@ -0,0 +1,27 @@
+package com.webapp.Eventified.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Data;
+
+/**
+ * Optional filter criteria for event pool queries built by {@link EventRepositoryCustom}.
+ * Every field is optional - null or empty values are not translated into SQL predicates.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Data
+public class EventPoolCriteria {
+    private List<Integer> sports;
+    private List<Integer> skillLevels;
+    private LocalDateTime startTimeAfter;
+    private LocalDateTime endTimeBefore;
+    private Integer freeSlots;
+    private Integer statusOfEvent;
+    private UUID organizerId;
+    private UUID participantId;
+    private Integer participantRole;
+}
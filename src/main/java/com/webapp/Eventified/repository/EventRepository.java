@@ -1,6 +1,7 @@
 package com.webapp.Eventified.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -9,7 +10,10 @@ import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.webapp.Eventified.dto.user.EventMarkerDTO;
+import com.webapp.Eventified.dto.user.EventPoolDTO;
 import com.webapp.Eventified.model.Event;
 import com.webapp.Eventified.model.User;
 
@@ -20,7 +24,7 @@ import com.webapp.Eventified.model.User;
  * @author Eventified Team
  * @version 1.0
  */
-public interface EventRepository extends JpaRepository<Event, UUID> { 
+public interface EventRepository extends JpaRepository<Event, UUID>, EventRepositoryCustom { 
     Optional<Event> findByTitle(String title);
     Optional<Event> findByOrganizer_Id(UUID userId);
     Optional<Event> findByTitleAndOrganizer(String title, User organizer);
@@ -30,17 +34,71 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
     List<Event> findByStartTimeAfter(LocalDateTime dateTime);
     List<Event> findByEndTimeBefore(LocalDateTime dateTime);
 
-    @Query("SELECT e FROM Event e WHERE e.endTime < :currentTime AND e.statusOfEvent != :pastStatus")
-    List<Event> findEventsToMarkAsPast(@Param("currentTime") LocalDateTime currentTime, @Param("pastStatus") Integer pastStatus);
+    /**
+     * Moves every active or ongoing event that has ended to PAST (2) in one statement.
+     * An event has ended once its end time is at or before the current time.
+     * Cancelled events keep their status. The statuses are literals so the partial index on open events is used.
+     * This and {@link #markStartedEventsAsOngoing} are the only status transition statements; both the
+     * lifecycle engine and the status sweep use them, so they always agree on the boundaries.
+     *
+     * @param currentTime the current timestamp
+     * @return the IDs and sports of the events updated
+     */
+    @Transactional
+    @Query(value = "UPDATE events SET status_of_event = 2 " +
+           "WHERE status_of_event IN (0, 1) AND end_time <= :currentTime " +
+           "RETURNING id AS \"id\", sport AS \"sport\"",
+           nativeQuery = true)
+    List<EventTransition> markEndedEventsAsPast(@Param("currentTime") LocalDateTime currentTime);
 
-    @Query("SELECT e FROM Event e WHERE e.startTime <= :currentTime AND e.endTime > :currentTime AND e.statusOfEvent = :activeStatus")
-    List<Event> findEventsToMarkAsOngoing(@Param("currentTime") LocalDateTime currentTime, @Param("activeStatus") Integer activeStatus, @Param("ongoingStatus") Integer ongoingStatus);
-   
+    /**
+     * Moves every active event that has started and not yet ended to ONGOING (1) in one statement.
+     * An event has started once its start time is at or before the current time.
+     * The status is a literal so the partial index on active events is used.
+     *
+     * @param currentTime the current timestamp
+     * @return the IDs and sports of the events updated
+     */
+    @Transactional
+    @Query(value = "UPDATE events SET status_of_event = 1 " +
+           "WHERE status_of_event = 0 AND start_time <= :currentTime AND end_time > :currentTime " +
+           "RETURNING id AS \"id\", sport AS \"sport\"",
+           nativeQuery = true)
+    List<EventTransition> markStartedEventsAsOngoing(@Param("currentTime") LocalDateTime currentTime);
+
+    /**
+     * Takes a free spot of an active event and adds the user as a participant in one statement.
+     * The event row is locked before the participant is inserted, so concurrent joiners are serialized on it and
+     * each re-checks the occupied count before taking a spot; the event can never be overbooked.
+     * The participant is inserted with ON CONFLICT DO NOTHING and the occupied count is only raised for an actual
+     * insert, so two concurrent joins of the same user add them once and the second join changes nothing.
+     * Nothing is changed if the event does not exist, is not active, is full or already has the user.
+     * A user who joins directly is removed from the event's waitlist by the same statement.
+     *
+     * @param eventId the unique identifier of the event to join
+     * @param userId the unique identifier of the joining user
+     * @return the joined event's organizer and start time, or empty if the user was not added
+     */
+    @Transactional
+    @Query(value = "WITH joined AS (" +
+           "INSERT INTO event_participants (user_id, event_id, role_of_participant, joined_at) " +
+           "SELECT :userId, e.id, 1, LOCALTIMESTAMP FROM events e " +
+           "WHERE e.id = :eventId AND e.occupied < e.capacity AND e.status_of_event = 0 " +
+           "FOR UPDATE OF e " +
+           "ON CONFLICT (user_id, event_id) DO NOTHING " +
+           "RETURNING event_id), " +
+           "reserved AS (" +
+           "UPDATE events SET occupied = occupied + 1 " +
+           "WHERE id IN (SELECT event_id FROM joined) " +
+           "RETURNING id, organizer_id, start_time), " +
+           "dequeued AS (" +
+           "DELETE FROM event_waitlist WHERE user_id = :userId AND event_id IN (SELECT event_id FROM joined)) " +
+           "SELECT r.organizer_id AS \"organizerId\", r.start_time AS \"startTime\" FROM reserved r",
+           nativeQuery = true)
+    Optional<ReservedSpot> reserveSpotAndJoin(@Param("eventId") UUID eventId, @Param("userId") UUID userId);
 
-    List<Event> findEventByStatusOfEventAndStartTime(int i, LocalDateTime reminderTime);
-    List<Event> findEventByStatusOfEventAndEndTime(Integer statusPast, LocalDateTime ratingReminderTime);
 
-       List<Event> findByStatusOfEventAndEndTimeBeforeAndRatedFalse(Integer statusOfEvent, LocalDateTime now);
+    List<Event> findEventByStatusOfEventAndEndTime(Integer statusPast, LocalDateTime ratingReminderTime);
 
      @Query("SELECT e FROM Event e WHERE e.startTime > :now " +
            "AND e.statusOfEvent = 0 " +
@@ -51,6 +109,13 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
            "AND e.startTime > :now AND e.statusOfEvent = 0")
     List<Event> findEventsBySports(@Param("sportIds") Set<Integer> sportIds, @Param("now") LocalDateTime now);
     
+    @Query("SELECT e FROM Event e JOIN FETCH e.organizer " +
+           "WHERE e.startTime > :now AND e.statusOfEvent = 0 " +
+           "AND (e.sport IN :sportIds OR e.sport IN (" +
+           "SELECT h.sport FROM EventParticipant hp JOIN Event h ON hp.eventId = h.id WHERE hp.userId = :userId)) " +
+           "AND NOT EXISTS (SELECT 1 FROM EventParticipant ep WHERE ep.eventId = e.id AND ep.userId = :userId)")
+    List<Event> findRecommendationCandidates(@Param("userId") UUID userId, @Param("sportIds") Set<Integer> sportIds, @Param("now") LocalDateTime now);
+
     @Query("SELECT e FROM Event e WHERE e.skillLevel BETWEEN :minSkill AND :maxSkill " +
            "AND e.startTime > :now AND e.statusOfEvent = 0")
     List<Event> findEventsBySkillRange(@Param("minSkill") Integer minSkill, @Param("maxSkill") Integer maxSkill, @Param("now") LocalDateTime now);
@@ -60,4 +125,40 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
       @Param("now") LocalDateTime now,
       @Param("pastStatus") Integer pastStatus
   );
+
+    @Query("SELECT new com.webapp.Eventified.dto.user.EventPoolDTO(e.id, e.title, e.sport, e.address, e.startTime, e.capacity, e.occupied, e.skillLevel) " +
+           "FROM Event e WHERE e.id IN :ids AND e.statusOfEvent = 0 AND e.startTime > :now")
+    List<EventPoolDTO> findUpcomingPoolEntriesByIdIn(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    @Query("SELECT new com.webapp.Eventified.dto.user.EventMarkerDTO(e.id, e.latitude, e.longitude, e.sport) " +
+           "FROM Event e WHERE e.statusOfEvent = :status")
+    List<EventMarkerDTO> findMarkersByStatusOfEvent(@Param("status") Integer status);
+
+    /**
+     * Claims the active events starting in (from, until] whose reminder has not been sent yet,
+     * marking them as reminded in one statement. Events locked by a concurrent caller are skipped,
+     * so callers on different nodes split the due events instead of waiting on each other.
+     *
+     * @param from lower bound (exclusive) of the start time window
+     * @param until upper bound (inclusive) of the start time window
+     * @param activeStatus the status of active events
+     * @return List of the claimed event IDs
+     */
+    @Transactional
+    @Query(value = "UPDATE events SET reminder_sent = TRUE " +
+           "WHERE id IN (SELECT id FROM events " +
+           "WHERE reminder_sent = FALSE AND status_of_event = :activeStatus " +
+           "AND start_time > :from AND start_time <= :until " +
+           "FOR UPDATE SKIP LOCKED) " +
+           "RETURNING id",
+           nativeQuery = true)
+    List<UUID> claimEventsForReminder(@Param("from") LocalDateTime from, @Param("until") LocalDateTime until,
+            @Param("activeStatus") Integer activeStatus);
+
+    @Query("SELECT e.id AS id, e.startTime AS startTime, e.endTime AS endTime, e.statusOfEvent AS statusOfEvent " +
+           "FROM Event e WHERE e.statusOfEvent IN :statuses")
+    List<EventDeadline> findDeadlinesByStatusOfEventIn(@Param("statuses") Collection<Integer> statuses);
+
+    @Query("SELECT e.id FROM Event e WHERE e.statusOfEvent = :status")
+    List<UUID> findIdsByStatusOfEvent(@Param("status") Integer status);
 }
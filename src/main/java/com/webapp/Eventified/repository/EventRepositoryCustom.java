@@ -0,0 +1,56 @@
+package com.webapp.Eventified.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.webapp.Eventified.dto.user.EventPoolDTO;
+import com.webapp.Eventified.dto.user.NearbyEventDTO;
+import com.webapp.Eventified.util.EventCursor;
+
+/**
+ * Custom repository fragment for Event queries that are assembled dynamically.
+ * Implemented with the Criteria API so that optional filters end up in a single SQL statement.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public interface EventRepositoryCustom {
+
+    /**
+     * Finds events matching the given optional criteria and projects them directly into EventPoolDTO.
+     * Null or empty parameters are left out of the generated WHERE clause.
+     *
+     * @param sports         list of sport IDs to filter by (optional)
+     * @param skillLevels    list of skill levels to filter by (optional)
+     * @param startTimeAfter minimum start time for events, exclusive (optional)
+     * @param endTimeBefore  maximum end time for events, exclusive (optional)
+     * @param freeSlots      minimum number of free spots required (optional)
+     * @return List of matching events ordered by start time
+     */
+    List<EventPoolDTO> findEventPool(List<Integer> sports, List<Integer> skillLevels, LocalDateTime startTimeAfter, LocalDateTime endTimeBefore, Integer freeSlots);
+
+    /**
+     * Finds one keyset page of events matching the given criteria, ordered by (startTime, id).
+     * Only events positioned strictly after the cursor are returned.
+     *
+     * @param criteria the optional filter criteria
+     * @param after    the position of the last event of the previous page, or null for the first page
+     * @param limit    the maximum number of events to return
+     * @return List of at most limit matching events
+     */
+    List<EventPoolDTO> findEventPoolPage(EventPoolCriteria criteria, EventCursor after, int limit);
+
+    /**
+     * Finds events within a radius of the given point that also match the given criteria.
+     * A latitude/longitude bounding box narrows the search on the coordinate index before
+     * the exact great-circle distance is applied.
+     *
+     * @param criteria  the optional filter criteria
+     * @param latitude  latitude of the searched point in degrees
+     * @param longitude longitude of the searched point in degrees
+     * @param radiusKm  the search radius in kilometres
+     * @param limit     the maximum number of events to return
+     * @return List of at most limit events ordered by distance, nearest first
+     */
+    List<NearbyEventDTO> findNearbyEvents(EventPoolCriteria criteria, double latitude, double longitude, double radiusKm, int limit);
+}
@@ -0,0 +1,266 @@
+package com.webapp.Eventified.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.webapp.Eventified.dto.user.EventPoolDTO;
+import com.webapp.Eventified.dto.user.NearbyEventDTO;
+import com.webapp.Eventified.model.Event;
+import com.webapp.Eventified.model.EventParticipant;
+import com.webapp.Eventified.util.EventCursor;
+import com.webapp.Eventified.util.GeoUtil;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Criteria API implementation of {@link EventRepositoryCustom}.
+ * Selects only the columns needed by EventPoolDTO, so the organizer association is never joined.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public class EventRepositoryCustomImpl implements EventRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<EventPoolDTO> findEventPool(List<Integer> sports, List<Integer> skillLevels, LocalDateTime startTimeAfter, LocalDateTime endTimeBefore, Integer freeSlots) {
+        EventPoolCriteria criteria = new EventPoolCriteria();
+        criteria.setSports(sports);
+        criteria.setSkillLevels(skillLevels);
+        criteria.setStartTimeAfter(startTimeAfter);
+        criteria.setEndTimeBefore(endTimeBefore);
+        criteria.setFreeSlots(freeSlots);
+
+        return entityManager.createQuery(buildPoolQuery(criteria, null)).getResultList();
+    }
+
+    @Override
+    public List<EventPoolDTO> findEventPoolPage(EventPoolCriteria criteria, EventCursor after, int limit) {
+        return entityManager.createQuery(buildPoolQuery(criteria, after))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<NearbyEventDTO> findNearbyEvents(EventPoolCriteria criteria, double latitude, double longitude, double radiusKm, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<NearbyEventDTO> query = cb.createQuery(NearbyEventDTO.class);
+        Root<Event> event = query.from(Event.class);
+
+        Expression<Double> distance = distanceKm(cb, event, latitude, longitude);
+
+        List<Predicate> predicates = filterPredicates(cb, query, event, criteria);
+        predicates.addAll(boundingBoxPredicates(cb, event, latitude, longitude, radiusKm));
+        predicates.add(cb.le(distance, radiusKm));
+
+        query.select(cb.construct(NearbyEventDTO.class,
+                        event.get("id"),
+                        event.get("title"),
+                        event.get("sport"),
+                        event.get("address"),
+                        event.get("startTime"),
+                        event.get("capacity"),
+                        event.get("occupied"),
+                        event.get("skillLevel"),
+                        event.get("latitude"),
+                        event.get("longitude"),
+                        distance))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(distance), cb.asc(event.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Builds the event pool query for the given criteria and optional keyset position.
+     * Results are always ordered by (startTime, id) so that pages are stable.
+     *
+     * @param criteria the optional filter criteria
+     * @param after the keyset position to continue from (optional)
+     * @return the criteria query projecting into EventPoolDTO
+     */
+    private CriteriaQuery<EventPoolDTO> buildPoolQuery(EventPoolCriteria criteria, EventCursor after) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventPoolDTO> query = cb.createQuery(EventPoolDTO.class);
+        Root<Event> event = query.from(Event.class);
+
+        List<Predicate> predicates = filterPredicates(cb, query, event, criteria);
+        if (after != null) {
+            predicates.add(keysetPredicate(cb, event, after));
+        }
+
+        return query.select(poolProjection(cb, event))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(event.get("startTime")), cb.asc(event.get("id")));
+    }
+
+    /**
+     * Builds the constructor expression mapping event columns onto EventPoolDTO.
+     *
+     * @param cb the criteria builder
+     * @param event the event root
+     * @return the DTO constructor selection
+     */
+    private CompoundSelection<EventPoolDTO> poolProjection(CriteriaBuilder cb, Root<Event> event) {
+        return cb.construct(EventPoolDTO.class,
+                event.get("id"),
+                event.get("title"),
+                event.get("sport"),
+                event.get("address"),
+                event.get("startTime"),
+                event.get("capacity"),
+                event.get("occupied"),
+                event.get("skillLevel"));
+    }
+
+    /**
+     * Translates the optional filter criteria into criteria predicates.
+     * Fields that are null or empty produce no predicate.
+     *
+     * @param cb the criteria builder
+     * @param query the query the predicates belong to, used for subqueries
+     * @param event the event root
+     * @param criteria the optional filter criteria
+     * @return List of predicates to be combined with AND
+     */
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, CriteriaQuery<?> query, Root<Event> event, EventPoolCriteria criteria) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (criteria.getSports() != null && !criteria.getSports().isEmpty()) {
+            predicates.add(event.get("sport").in(criteria.getSports()));
+        }
+        if (criteria.getSkillLevels() != null && !criteria.getSkillLevels().isEmpty()) {
+            predicates.add(event.get("skillLevel").in(criteria.getSkillLevels()));
+        }
+        if (criteria.getStartTimeAfter() != null) {
+            predicates.add(cb.greaterThan(event.<LocalDateTime>get("startTime"), criteria.getStartTimeAfter()));
+        }
+        if (criteria.getEndTimeBefore() != null) {
+            predicates.add(cb.lessThan(event.<LocalDateTime>get("endTime"), criteria.getEndTimeBefore()));
+        }
+        if (criteria.getFreeSlots() != null) {
+            predicates.add(cb.ge(cb.diff(event.<Integer>get("capacity"), event.<Integer>get("occupied")), criteria.getFreeSlots()));
+        }
+        if (criteria.getStatusOfEvent() != null) {
+            predicates.add(cb.equal(event.get("statusOfEvent"), criteria.getStatusOfEvent()));
+        }
+        if (criteria.getOrganizerId() != null) {
+            predicates.add(cb.equal(event.get("organizer").get("id"), criteria.getOrganizerId()));
+        }
+        if (criteria.getParticipantId() != null) {
+            Subquery<UUID> participations = query.subquery(UUID.class);
+            Root<EventParticipant> participant = participations.from(EventParticipant.class);
+            List<Predicate> participantPredicates = new ArrayList<>();
+            participantPredicates.add(cb.equal(participant.get("userId"), criteria.getParticipantId()));
+            if (criteria.getParticipantRole() != null) {
+                participantPredicates.add(cb.equal(participant.get("roleOfParticipant"), criteria.getParticipantRole()));
+            }
+            participations.select(participant.<UUID>get("eventId"))
+                    .where(participantPredicates.toArray(new Predicate[0]));
+            predicates.add(event.get("id").in(participations));
+        }
+        return predicates;
+    }
+
+    /**
+     * Builds the keyset predicate (startTime, id) > (cursor.startTime, cursor.id).
+     *
+     * @param cb the criteria builder
+     * @param event the event root
+     * @param after the keyset position to continue from
+     * @return predicate matching only events after the cursor
+     */
+    private Predicate keysetPredicate(CriteriaBuilder cb, Root<Event> event, EventCursor after) {
+        return cb.or(
+                cb.greaterThan(event.<LocalDateTime>get("startTime"), after.getStartTime()),
+                cb.and(
+                        cb.equal(event.get("startTime"), after.getStartTime()),
+                        cb.greaterThan(event.<UUID>get("id"), after.getId())));
+    }
+
+    /**
+     * Builds range predicates for the latitude/longitude box enclosing the search circle.
+     * These are the predicates the coordinate index can serve; a box crossing the
+     * antimeridian is split into two longitude ranges.
+     *
+     * @param cb the criteria builder
+     * @param event the event root
+     * @param latitude latitude of the searched point in degrees
+     * @param longitude longitude of the searched point in degrees
+     * @param radiusKm the search radius in kilometres
+     * @return List of bounding box predicates
+     */
+    private List<Predicate> boundingBoxPredicates(CriteriaBuilder cb, Root<Event> event, double latitude, double longitude, double radiusKm) {
+        List<Predicate> predicates = new ArrayList<>();
+        double latitudeDelta = GeoUtil.latitudeDelta(radiusKm);
+        double longitudeDelta = GeoUtil.longitudeDelta(latitude, radiusKm);
+
+        predicates.add(cb.between(event.<BigDecimal>get("latitude"),
+                BigDecimal.valueOf(Math.max(-90.0, latitude - latitudeDelta)),
+                BigDecimal.valueOf(Math.min(90.0, latitude + latitudeDelta))));
+
+        if (longitudeDelta >= 180.0) {
+            return predicates;
+        }
+
+        double minLongitude = longitude - longitudeDelta;
+        double maxLongitude = longitude + longitudeDelta;
+        Expression<BigDecimal> eventLongitude = event.get("longitude");
+
+        if (minLongitude < -180.0) {
+            predicates.add(cb.or(
+                    cb.greaterThanOrEqualTo(eventLongitude, BigDecimal.valueOf(minLongitude + 360.0)),
+                    cb.lessThanOrEqualTo(eventLongitude, BigDecimal.valueOf(maxLongitude))));
+        } else if (maxLongitude > 180.0) {
+            predicates.add(cb.or(
+                    cb.greaterThanOrEqualTo(eventLongitude, BigDecimal.valueOf(minLongitude)),
+                    cb.lessThanOrEqualTo(eventLongitude, BigDecimal.valueOf(maxLongitude - 360.0))));
+        } else {
+            predicates.add(cb.between(eventLongitude, BigDecimal.valueOf(minLongitude), BigDecimal.valueOf(maxLongitude)));
+        }
+        return predicates;
+    }
+
+    /**
+     * Builds the SQL expression of the great-circle distance between the event and a point,
+     * using the spherical law of cosines.
+     *
+     * @param cb the criteria builder
+     * @param event the event root
+     * @param latitude latitude of the searched point in degrees
+     * @param longitude longitude of the searched point in degrees
+     * @return expression evaluating to the distance in kilometres
+     */
+    private Expression<Double> distanceKm(CriteriaBuilder cb, Root<Event> event, double latitude, double longitude) {
+        double pointLatitude = Math.toRadians(latitude);
+
+        Expression<Double> eventLatitude = cb.function("radians", Double.class, event.get("latitude"));
+        Expression<Double> longitudeDifference = cb.diff(
+                cb.function("radians", Double.class, event.get("longitude")),
+                cb.literal(Math.toRadians(longitude)));
+
+        Expression<Double> cosine = cb.sum(
+                cb.prod(
+                        cb.prod(cb.literal(Math.cos(pointLatitude)), cb.function("cos", Double.class, eventLatitude)),
+                        cb.function("cos", Double.class, longitudeDifference)),
+                cb.prod(cb.literal(Math.sin(pointLatitude)), cb.function("sin", Double.class, eventLatitude)));
+
+        return cb.prod(cb.literal(GeoUtil.EARTH_RADIUS_KM),
+                cb.function("acos", Double.class, cb.function("least", Double.class, cb.literal(1.0), cosine)));
+    }
+}
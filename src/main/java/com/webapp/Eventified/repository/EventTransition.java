@@ -0,0 +1,26 @@
+package com.webapp.Eventified.repository;
+
+import java.util.UUID;
+
+/**
+ * Projection of an event whose status was changed by a set-based status transition.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public interface EventTransition {
+
+    /**
+     * Returns the unique identifier of the event.
+     *
+     * @return the event ID
+     */
+    UUID getId();
+
+    /**
+     * Returns the integer identifier of the event's sport.
+     *
+     * @return the sport ID
+     */
+    Integer getSport();
+}
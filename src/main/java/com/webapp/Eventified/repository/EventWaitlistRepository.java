@@ -0,0 +1,100 @@
+package com.webapp.Eventified.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.webapp.Eventified.model.EventWaitlistEntry;
+import com.webapp.Eventified.model.id.EventWaitlistEntryId;
+
+/**
+ * Repository interface for the per-event FIFO waitlists of full events.
+ * The head of a waitlist is claimed with FOR UPDATE SKIP LOCKED, so a promotion never waits on
+ * a user who is leaving the waitlist at the same moment.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public interface EventWaitlistRepository extends JpaRepository<EventWaitlistEntry, EventWaitlistEntryId> {
+
+    /**
+     * Adds a user to the end of the waitlist of an event.
+     * The event row is locked, so the check that it is full cannot race with a leave promoting from the waitlist.
+     * Nothing is added if the event does not exist, is not active, still has free spots,
+     * already has the user as a participant or already has the user on its waitlist.
+     *
+     * @param eventId the unique identifier of the event
+     * @param userId the unique identifier of the user to queue
+     * @return 1 if the user was added, 0 otherwise
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO event_waitlist (event_id, user_id, joined_at) " +
+           "SELECT e.id, :userId, LOCALTIMESTAMP FROM events e " +
+           "WHERE e.id = :eventId AND e.status_of_event = 0 AND e.occupied >= e.capacity " +
+           "AND NOT EXISTS (SELECT 1 FROM event_participants ep WHERE ep.event_id = e.id AND ep.user_id = :userId) " +
+           "FOR UPDATE OF e " +
+           "ON CONFLICT (event_id, user_id) DO NOTHING",
+           nativeQuery = true)
+    int enqueue(@Param("eventId") UUID eventId, @Param("userId") UUID userId);
+
+    /**
+     * Returns the 1-based position of a user on the waitlist of an event.
+     *
+     * @param eventId the unique identifier of the event
+     * @param userId the unique identifier of the user
+     * @return the user's position, or 0 if the user is not on the waitlist
+     */
+    @Query(value = "SELECT COUNT(*) FROM event_waitlist w " +
+           "JOIN event_waitlist me ON me.event_id = w.event_id AND me.user_id = :userId " +
+           "WHERE w.event_id = :eventId AND (w.joined_at, w.user_id) <= (me.joined_at, me.user_id)",
+           nativeQuery = true)
+    long findPosition(@Param("eventId") UUID eventId, @Param("userId") UUID userId);
+
+    /**
+     * Removes a user from the waitlist of an event.
+     *
+     * @param eventId the unique identifier of the event
+     * @param userId the unique identifier of the user
+     * @return the number of entries removed
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM EventWaitlistEntry w WHERE w.eventId = :eventId AND w.userId = :userId")
+    int removeByEventIdAndUserId(@Param("eventId") UUID eventId, @Param("userId") UUID userId);
+
+    /**
+     * Promotes the first user on the waitlist of an event to a participant in one statement.
+     * The head entry is claimed with FOR UPDATE SKIP LOCKED, a spot is taken with the same conditional UPDATE
+     * as a direct join, and the entry is only removed and the participant only inserted if a spot was taken.
+     * Must be called inside a transaction; if it rolls back, the user stays at the head of the waitlist.
+     *
+     * @param eventId the unique identifier of the event
+     * @return the promoted user and the event's start time, or empty if nobody was promoted
+     */
+    @Query(value = "WITH next AS (" +
+           "SELECT w.user_id FROM event_waitlist w WHERE w.event_id = :eventId " +
+           "AND NOT EXISTS (SELECT 1 FROM event_participants ep WHERE ep.event_id = w.event_id AND ep.user_id = w.user_id) " +
+           "ORDER BY w.joined_at, w.user_id LIMIT 1 FOR UPDATE OF w SKIP LOCKED), " +
+           "reserved AS (" +
+           "UPDATE events SET occupied = occupied + 1 " +
+           "WHERE id = :eventId AND occupied < capacity AND status_of_event = 0 AND EXISTS (SELECT 1 FROM next) " +
+           "RETURNING id, start_time), " +
+           "promoted AS (" +
+           "DELETE FROM event_waitlist w USING next, reserved " +
+           "WHERE w.event_id = reserved.id AND w.user_id = next.user_id " +
+           "RETURNING w.user_id), " +
+           "joined AS (" +
+           "INSERT INTO event_participants (user_id, event_id, role_of_participant, joined_at) " +
+           "SELECT p.user_id, r.id, 1, LOCALTIMESTAMP FROM promoted p CROSS JOIN reserved r " +
+           "RETURNING user_id) " +
+           "SELECT j.user_id AS \"userId\", u.username AS \"username\", r.start_time AS \"startTime\" " +
+           "FROM joined j JOIN users u ON u.id = j.user_id CROSS JOIN reserved r",
+           nativeQuery = true)
+    Optional<PromotedParticipant> promoteNext(@Param("eventId") UUID eventId);
+}
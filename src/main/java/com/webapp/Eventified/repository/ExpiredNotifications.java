@@ -0,0 +1,31 @@
+package com.webapp.Eventified.repository;
+
+/**
+ * Projection of the notifications of one user removed by a retention delete.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public interface ExpiredNotifications {
+
+    /**
+     * Returns the username of the user whose notifications were deleted.
+     *
+     * @return the recipient's username
+     */
+    String getUsername();
+
+    /**
+     * Returns the number of the user's notifications deleted.
+     *
+     * @return the deleted count
+     */
+    Long getDeleted();
+
+    /**
+     * Returns how many of the deleted notifications were unread.
+     *
+     * @return the deleted unread count
+     */
+    Long getUnread();
+}
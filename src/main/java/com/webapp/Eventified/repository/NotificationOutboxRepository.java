@@ -0,0 +1,103 @@
+package com.webapp.Eventified.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.webapp.Eventified.model.NotificationOutboxEntry;
+
+/**
+ * Repository interface for the notification outbox.
+ * Entries are claimed with FOR UPDATE SKIP LOCKED, so concurrent workers never dispatch the same entry twice.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEntry, Long> {
+
+    /**
+     * Counts the entries the dispatcher processes, leaving out player joined (5) and player left (7) entries,
+     * which wait in the outbox to be coalesced.
+     *
+     * @return the number of dispatchable entries
+     */
+    @Query(value = "SELECT COUNT(*) FROM notification_outbox WHERE type_of_notification NOT IN (5, 7)", nativeQuery = true)
+    long countDispatchable();
+
+    /**
+     * Locks and returns the oldest dispatchable entries that are due and not locked by another transaction.
+     * Player joined (5) and player left (7) entries are left for coalescing, and entries waiting for a retry
+     * after a failed dispatch are skipped until their next attempt is due.
+     * Must be called inside a transaction; the locks are held until it ends.
+     *
+     * @param limit the maximum number of entries to claim
+     * @return List of claimed entries ordered by id
+     */
+    @Query(value = "SELECT * FROM notification_outbox WHERE type_of_notification NOT IN (5, 7) " +
+           "AND next_attempt_at <= LOCALTIMESTAMP " +
+           "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutboxEntry> claimBatch(@Param("limit") int limit);
+
+    /**
+     * Locks and returns a single entry unless it is locked by another transaction.
+     * Must be called inside a transaction; the lock is held until it ends.
+     *
+     * @param id the identifier of the entry
+     * @return the claimed entry, or empty if it no longer exists or is locked
+     */
+    @Query(value = "SELECT * FROM notification_outbox WHERE id = :id FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<NotificationOutboxEntry> claimById(@Param("id") Long id);
+
+    /**
+     * Returns the recipient, event and type combinations of player joined (5) and player left (7) entries
+     * whose coalescing window has closed, that is whose oldest due entry was created at or before the given time.
+     *
+     * @param openedBefore the latest creation time of a key's oldest entry for the key to be due
+     * @return List of the due coalescing keys
+     */
+    @Query(value = "SELECT type_of_notification AS \"typeOfNotification\", event_id AS \"eventId\", " +
+           "recipient_id AS \"recipientId\" FROM notification_outbox " +
+           "WHERE type_of_notification IN (5, 7) AND next_attempt_at <= LOCALTIMESTAMP " +
+           "GROUP BY type_of_notification, event_id, recipient_id " +
+           "HAVING MIN(created_at) <= :openedBefore",
+           nativeQuery = true)
+    List<OutboxCoalescingKey> findDueCoalescingKeys(@Param("openedBefore") LocalDateTime openedBefore);
+
+    /**
+     * Locks and returns the due entries of one coalescing key that are not locked by another transaction.
+     * Must be called inside a transaction; the locks are held until it ends.
+     *
+     * @param typeOfNotification the integer identifier of the notification type
+     * @param eventId the unique identifier of the event
+     * @param recipientId the unique identifier of the recipient
+     * @return List of claimed entries ordered by id
+     */
+    @Query(value = "SELECT * FROM notification_outbox " +
+           "WHERE type_of_notification = :type AND event_id = :eventId AND recipient_id = :recipientId " +
+           "AND next_attempt_at <= LOCALTIMESTAMP " +
+           "ORDER BY id FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<NotificationOutboxEntry> claimCoalescingKey(@Param("type") Integer typeOfNotification,
+            @Param("eventId") UUID eventId, @Param("recipientId") UUID recipientId);
+
+    /**
+     * Records a failed attempt to process an entry and postpones its next attempt.
+     * The delay doubles with every failed attempt, starting at the given base delay.
+     *
+     * @param id the identifier of the entry
+     * @param retryDelayMs the delay before the first retry in milliseconds
+     * @return the number of failed attempts including this one, or empty if the entry no longer exists
+     */
+    @Transactional
+    @Query(value = "UPDATE notification_outbox SET attempts = attempts + 1, " +
+           "next_attempt_at = LOCALTIMESTAMP + :retryDelayMs * power(2, LEAST(attempts, 16)) * INTERVAL '1 millisecond' " +
+           "WHERE id = :id RETURNING attempts",
+           nativeQuery = true)
+    Optional<Integer> recordFailedAttempt(@Param("id") Long id, @Param("retryDelayMs") long retryDelayMs);
+}
@@ -0,0 +1,26 @@
+package com.webapp.Eventified.repository;
+
+import java.util.UUID;
+
+/**
+ * Projection of a notification created by a set-based insert, together with the username of its recipient.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public interface NotificationRecipient {
+
+    /**
+     * Returns the unique identifier of the created notification.
+     *
+     * @return the notification ID
+     */
+    UUID getId();
+
+    /**
+     * Returns the username of the user the notification was created for.
+     *
+     * @return the recipient's username
+     */
+    String getUsername();
+}
@@ -1,10 +1,19 @@
 package com.webapp.Eventified.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.webapp.Eventified.dto.user.NotificationFeedItemDTO;
 import com.webapp.Eventified.model.Notification;
 
 /**
@@ -51,5 +60,217 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     List<Notification> findByUserId(UUID id);
 
     boolean existsByUser_IdAndEvent_IdAndTypeOfNotification(UUID userId, UUID eventId, Integer typeOfNotification);
-    
+
+    /**
+     * Creates one notification for every user whose preferences match the sport and skill level,
+     * except the excluded user, in a single INSERT ... SELECT statement.
+     * The created rows are returned together with their recipients' usernames.
+     *
+     * @param eventId the unique identifier of the event the notifications refer to
+     * @param sport the integer identifier of the sport
+     * @param skillLevel the skill level the users must have for the sport
+     * @param excludedUserId the unique identifier of the user who should not be notified
+     * @param typeOfNotification the integer identifier of the notification type
+     * @param title the title of the notifications
+     * @param message the message of the notifications
+     * @param createdAt the creation timestamp of the notifications
+     * @return List of the created notifications and their recipients
+     */
+    @Transactional
+    @Query(value = "WITH inserted AS (" +
+           "INSERT INTO notifications (id, user_id, event_id, type_of_notification, title, message_of_notification, is_read, created_at) " +
+           "SELECT gen_random_uuid(), us.user_id, :eventId, :type, :title, :message, FALSE, :createdAt " +
+           "FROM user_sports us " +
+           "WHERE us.sport = :sport AND us.skill_level = :skillLevel AND us.user_id <> :excludedUserId " +
+           "RETURNING id, user_id) " +
+           "SELECT inserted.id AS id, u.username AS username FROM inserted JOIN users u ON u.id = inserted.user_id",
+           nativeQuery = true)
+    List<NotificationRecipient> insertForUsersWithSportAndSkillLevel(@Param("eventId") UUID eventId, @Param("sport") Integer sport,
+            @Param("skillLevel") Integer skillLevel, @Param("excludedUserId") UUID excludedUserId,
+            @Param("type") Integer typeOfNotification, @Param("title") String title,
+            @Param("message") String message, @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * Creates one notification for every participant of an event in a single INSERT ... SELECT statement.
+     * The created rows are returned together with their recipients' usernames.
+     *
+     * @param eventId the unique identifier of the event whose participants are notified
+     * @param typeOfNotification the integer identifier of the notification type
+     * @param title the title of the notifications
+     * @param message the message of the notifications
+     * @param createdAt the creation timestamp of the notifications
+     * @return List of the created notifications and their recipients
+     */
+    @Transactional
+    @Query(value = "WITH inserted AS (" +
+           "INSERT INTO notifications (id, user_id, event_id, type_of_notification, title, message_of_notification, is_read, created_at) " +
+           "SELECT gen_random_uuid(), ep.user_id, ep.event_id, :type, :title, :message, FALSE, :createdAt " +
+           "FROM event_participants ep " +
+           "WHERE ep.event_id = :eventId " +
+           "RETURNING id, user_id) " +
+           "SELECT inserted.id AS id, u.username AS username FROM inserted JOIN users u ON u.id = inserted.user_id",
+           nativeQuery = true)
+    List<NotificationRecipient> insertForEventParticipants(@Param("eventId") UUID eventId, @Param("type") Integer typeOfNotification,
+            @Param("title") String title, @Param("message") String message, @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * Reads the materialized unread counter of a user, maintained by triggers on the notifications table.
+     *
+     * @param username the username of the user
+     * @return the unread count (0 if the user has no counter yet), or empty if the user does not exist
+     */
+    @Query(value = "SELECT COALESCE(c.unread, 0) FROM users u " +
+           "LEFT JOIN user_notification_counters c ON c.user_id = u.id " +
+           "WHERE u.username = :username",
+           nativeQuery = true)
+    Optional<Integer> findUnreadCountByUsername(@Param("username") String username);
+
+    /**
+     * Returns the users whose unread counter differs from their actual number of unread notifications,
+     * including users with unread notifications but no counter.
+     *
+     * @return List of the user IDs with drifted counters
+     */
+    @Query(value = "SELECT COALESCE(c.user_id, n.user_id) FROM user_notification_counters c " +
+           "FULL JOIN (SELECT user_id, COUNT(*) AS unread FROM notifications WHERE is_read = FALSE GROUP BY user_id) n " +
+           "ON n.user_id = c.user_id " +
+           "WHERE COALESCE(c.unread, 0) <> COALESCE(n.unread, 0)",
+           nativeQuery = true)
+    List<UUID> findDriftedUnreadCounterUserIds();
+
+    /**
+     * Creates a zero unread counter for a user who has none.
+     *
+     * @param userId the unique identifier of the user
+     * @return 1 if the counter was created, 0 if it already existed
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_notification_counters (user_id, unread) VALUES (:userId, 0) " +
+           "ON CONFLICT (user_id) DO NOTHING",
+           nativeQuery = true)
+    int createUnreadCounter(@Param("userId") UUID userId);
+
+    /**
+     * Locks the unread counter of a user until the end of the transaction.
+     * Must be called inside a transaction. Once the lock is held, every transaction that changed the user's
+     * unread notifications before it has committed and every later one waits for it, so a recount in a
+     * following statement sees exactly the changes already applied to the counter.
+     *
+     * @param userId the unique identifier of the user
+     * @return the current value of the counter, or empty if the user has no counter
+     */
+    @Query(value = "SELECT unread FROM user_notification_counters WHERE user_id = :userId FOR UPDATE",
+           nativeQuery = true)
+    Optional<Integer> lockUnreadCounter(@Param("userId") UUID userId);
+
+    /**
+     * Sets the unread counter of a user to the actual number of unread notifications if they differ.
+     * Must be called after {@link #lockUnreadCounter} in the same transaction, in a separate statement.
+     *
+     * @param userId the unique identifier of the user
+     * @return 1 if the counter was repaired, 0 otherwise
+     */
+    @Modifying
+    @Query(value = "UPDATE user_notification_counters c " +
+           "SET unread = (SELECT COUNT(*) FROM notifications n WHERE n.user_id = c.user_id AND n.is_read = FALSE) " +
+           "WHERE c.user_id = :userId " +
+           "AND c.unread <> (SELECT COUNT(*) FROM notifications n WHERE n.user_id = c.user_id AND n.is_read = FALSE)",
+           nativeQuery = true)
+    int recountUnreadCounter(@Param("userId") UUID userId);
+
+    /**
+     * Marks all unread notifications of a user as read with a single UPDATE, without loading them.
+     *
+     * @param userId the unique identifier of the user
+     * @return the number of notifications marked as read
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllAsReadByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Marks the given unread notifications of a user as read with a single UPDATE, without loading them.
+     * Identifiers of notifications that belong to other users are ignored.
+     *
+     * @param userId the unique identifier of the user
+     * @param ids the unique identifiers of the notifications
+     * @return the number of notifications marked as read
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.id IN :ids AND n.isRead = false")
+    int markAsReadByUserIdAndIdIn(@Param("userId") UUID userId, @Param("ids") Collection<UUID> ids);
+
+    /**
+     * Deletes the notifications of a user created before a point in time with a single DELETE, without loading them.
+     * The unread count is taken from the deleted rows themselves, so it always matches what the delete removed.
+     *
+     * @param userId the unique identifier of the user
+     * @param before the exclusive upper bound of the creation time
+     * @return the number of notifications deleted and how many of them were unread
+     */
+    @Transactional
+    @Query(value = "WITH deleted AS (" +
+           "DELETE FROM notifications WHERE user_id = :userId AND created_at < :before " +
+           "RETURNING is_read) " +
+           "SELECT CAST(COUNT(*) AS INT) AS \"deleted\", CAST(COUNT(*) FILTER (WHERE NOT is_read) AS INT) AS \"unread\" FROM deleted",
+           nativeQuery = true)
+    DeletedNotifications deleteByUserIdCreatedBefore(@Param("userId") UUID userId, @Param("before") LocalDateTime before);
+
+    /**
+     * Finds the first page of a user's notification feed, newest first, as lean DTOs.
+     *
+     * @param userId the unique identifier of the user
+     * @param pageable page request carrying the maximum number of notifications
+     * @return List of feed entries ordered by creation time and id descending
+     */
+    @Query("SELECT new com.webapp.Eventified.dto.user.NotificationFeedItemDTO(n.id, n.typeOfNotification, n.title, " +
+           "n.messageOfNotification, n.isRead, n.createdAt, n.event.id) " +
+           "FROM Notification n WHERE n.user.id = :userId " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationFeedItemDTO> findFeedPage(@Param("userId") UUID userId, Pageable pageable);
+
+    /**
+     * Finds the page of a user's notification feed that follows the cursor position (createdAt, id).
+     *
+     * @param userId the unique identifier of the user
+     * @param createdAt the creation time of the last notification on the previous page
+     * @param id the unique identifier of the last notification on the previous page
+     * @param pageable page request carrying the maximum number of notifications
+     * @return List of feed entries ordered by creation time and id descending
+     */
+    @Query("SELECT new com.webapp.Eventified.dto.user.NotificationFeedItemDTO(n.id, n.typeOfNotification, n.title, " +
+           "n.messageOfNotification, n.isRead, n.createdAt, n.event.id) " +
+           "FROM Notification n WHERE n.user.id = :userId " +
+           "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationFeedItemDTO> findFeedPageAfter(@Param("userId") UUID userId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id, Pageable pageable);
+
+    /**
+     * Deletes one chunk of notifications of a type created before a cutoff.
+     * Rows already locked by another deleter are skipped, and the result is grouped per recipient
+     * so unread counts can be corrected after commit.
+     *
+     * @param typeOfNotification the integer identifier of the notification type
+     * @param cutoff notifications created before this time are deleted
+     * @param limit the maximum number of notifications deleted
+     * @return List of the deleted and deleted unread counts per recipient
+     */
+    @Transactional
+    @Query(value = "WITH expired AS (" +
+           "SELECT id FROM notifications " +
+           "WHERE type_of_notification = :type AND created_at < :cutoff " +
+           "LIMIT :limit FOR UPDATE SKIP LOCKED), " +
+           "deleted AS (" +
+           "DELETE FROM notifications n USING expired WHERE n.id = expired.id " +
+           "RETURNING n.user_id, n.is_read) " +
+           "SELECT u.username AS username, COUNT(*) AS deleted, " +
+           "SUM(CASE WHEN deleted.is_read = FALSE THEN 1 ELSE 0 END) AS unread " +
+           "FROM deleted JOIN users u ON u.id = deleted.user_id " +
+           "GROUP BY u.username",
+           nativeQuery = true)
+    List<ExpiredNotifications> deleteExpiredChunk(@Param("type") Integer typeOfNotification,
+            @Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
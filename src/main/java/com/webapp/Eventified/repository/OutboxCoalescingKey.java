@@ -0,0 +1,34 @@
+package com.webapp.Eventified.repository;
+
+import java.util.UUID;
+
+/**
+ * Projection of a recipient, event and notification type combination whose outbox entries are coalesced
+ * into a single notification.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public interface OutboxCoalescingKey {
+
+    /**
+     * Returns the integer identifier of the notification type.
+     *
+     * @return the notification type
+     */
+    Integer getTypeOfNotification();
+
+    /**
+     * Returns the unique identifier of the event.
+     *
+     * @return the event ID
+     */
+    UUID getEventId();
+
+    /**
+     * Returns the unique identifier of the recipient.
+     *
+     * @return the recipient ID
+     */
+    UUID getRecipientId();
+}
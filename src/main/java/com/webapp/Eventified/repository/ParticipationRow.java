@@ -0,0 +1,24 @@
+package com.webapp.Eventified.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One participation of a user, projected together with the sport, skill level and start time of the event.
+ * Used when participations of many users are loaded at once.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class ParticipationRow {
+    private final UUID userId;
+    private final UUID eventId;
+    private final Integer sport;
+    private final Integer skillLevel;
+    private final LocalDateTime startTime;
+}
@@ -0,0 +1,34 @@
+package com.webapp.Eventified.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of a waitlisted user promoted to a participant of an event.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public interface PromotedParticipant {
+
+    /**
+     * Returns the unique identifier of the promoted user.
+     *
+     * @return the user ID
+     */
+    UUID getUserId();
+
+    /**
+     * Returns the username of the promoted user.
+     *
+     * @return the username
+     */
+    String getUsername();
+
+    /**
+     * Returns when the event starts.
+     *
+     * @return the start time
+     */
+    LocalDateTime getStartTime();
+}
@@ -0,0 +1,36 @@
+package com.webapp.Eventified.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.webapp.Eventified.model.RatingPromptQueueEntry;
+
+/**
+ * Repository interface for the queue of pending rating prompts.
+ * Entries are claimed with FOR UPDATE SKIP LOCKED, so workers on any number of nodes split the due prompts.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public interface RatingPromptQueueRepository extends JpaRepository<RatingPromptQueueEntry, UUID> {
+
+    /**
+     * Removes and returns the earliest due entries not locked by another transaction.
+     * Must be called inside a transaction; if it rolls back, the entries are queued again.
+     *
+     * @param now entries due at or before this time are claimed
+     * @param limit the maximum number of entries to claim
+     * @return List of the event IDs of the claimed entries
+     */
+    @Query(value = "DELETE FROM rating_prompt_queue WHERE event_id IN (" +
+           "SELECT event_id FROM rating_prompt_queue WHERE due_at <= :now " +
+           "ORDER BY due_at LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+           "RETURNING event_id",
+           nativeQuery = true)
+    List<UUID> claimDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
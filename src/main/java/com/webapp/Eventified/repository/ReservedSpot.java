@@ -0,0 +1,27 @@
+package com.webapp.Eventified.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of the event a user was added to by a capacity-enforced join.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public interface ReservedSpot {
+
+    /**
+     * Returns the unique identifier of the event's organizer.
+     *
+     * @return the organizer ID
+     */
+    UUID getOrganizerId();
+
+    /**
+     * Returns when the joined event starts.
+     *
+     * @return the start time
+     */
+    LocalDateTime getStartTime();
+}
@@ -0,0 +1,55 @@
+package com.webapp.Eventified.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.webapp.Eventified.model.SchedulerLock;
+
+/**
+ * Repository interface for the cluster-wide leases of scheduled jobs.
+ * Leases are taken and released in their own transactions, using database time, so they are visible
+ * to other nodes immediately and unaffected by clock skew between nodes.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * Takes the lease of a job if nobody holds it or the current lease has expired.
+     *
+     * @param name the name of the job
+     * @param lockedBy the identifier of the node taking the lease
+     * @param lockAtMostForMs how long the lease lasts if it is never released, in milliseconds
+     * @return 1 if the lease was taken, 0 if another node holds it
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "INSERT INTO scheduler_locks (name, locked_until, locked_at, locked_by) " +
+           "VALUES (:name, LOCALTIMESTAMP + :lockAtMostForMs * INTERVAL '1 millisecond', LOCALTIMESTAMP, :lockedBy) " +
+           "ON CONFLICT (name) DO UPDATE SET locked_until = EXCLUDED.locked_until, " +
+           "locked_at = EXCLUDED.locked_at, locked_by = EXCLUDED.locked_by " +
+           "WHERE scheduler_locks.locked_until <= LOCALTIMESTAMP",
+           nativeQuery = true)
+    int tryLock(@Param("name") String name, @Param("lockedBy") String lockedBy, @Param("lockAtMostForMs") long lockAtMostForMs);
+
+    /**
+     * Releases a lease held by a node, keeping it until at least the given time after it was taken.
+     *
+     * @param name the name of the job
+     * @param lockedBy the identifier of the node holding the lease
+     * @param lockAtLeastForMs the minimum time between taking and releasing the lease, in milliseconds
+     * @return 1 if the lease was released, 0 if the node no longer held it
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "UPDATE scheduler_locks " +
+           "SET locked_until = GREATEST(LOCALTIMESTAMP, locked_at + :lockAtLeastForMs * INTERVAL '1 millisecond') " +
+           "WHERE name = :name AND locked_by = :lockedBy",
+           nativeQuery = true)
+    int unlock(@Param("name") String name, @Param("lockedBy") String lockedBy, @Param("lockAtLeastForMs") long lockAtLeastForMs);
+}
@@ -1,5 +1,6 @@
 package com.webapp.Eventified.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -35,4 +36,12 @@ public interface SportUserRepository extends JpaRepository<SportUser, SportUserI
      * @return List of SportUser entities matching the criteria
      */
     List<SportUser> findUserBySportAndSkillLevel(Integer sport, Integer skillLevel);
+
+    /**
+     * Finds the sport preferences of several users at once.
+     *
+     * @param userIds the unique identifiers of the users
+     * @return List of SportUser entities belonging to any of the users
+     */
+    List<SportUser> findByUserIdIn(Collection<UUID> userIds);
 }
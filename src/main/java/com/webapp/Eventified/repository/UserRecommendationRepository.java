@@ -0,0 +1,98 @@
+package com.webapp.Eventified.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.webapp.Eventified.model.UserRecommendation;
+
+/**
+ * Repository interface for precomputed recommendations and the invalidation stamps that retire them.
+ * Lists are written with the database time their computation started, and invalidations are stamped with
+ * database time in their own transactions, so a list is only written, and only read back, if nothing that
+ * affects it was invalidated after its computation started, on any node.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public interface UserRecommendationRepository extends JpaRepository<UserRecommendation, UUID> {
+
+    /**
+     * Returns the current database time, used as the start of a batch computation.
+     *
+     * @return the current timestamp of the database
+     */
+    @Query(value = "SELECT LOCALTIMESTAMP", nativeQuery = true)
+    LocalDateTime currentTimestamp();
+
+    /**
+     * Stores the precomputed recommendations of a user unless the user or one of the candidate sports
+     * was invalidated at or after the time the computation started.
+     * Must be called inside a transaction.
+     *
+     * @param userId the unique identifier of the user
+     * @param eventIds the recommended events, best first
+     * @param sports the sports the candidates were drawn from, empty if candidates came from every sport
+     * @param computedAt the database time the computation started
+     * @return 1 if the list was stored, 0 if it was already stale
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_recommendations (user_id, event_ids, sports, computed_at) " +
+           "SELECT :userId, CAST(:eventIds AS uuid[]), CAST(:sports AS integer[]), :computedAt " +
+           "WHERE NOT EXISTS (SELECT 1 FROM recommendation_sport_invalidations s WHERE s.invalidated_at >= :computedAt " +
+           "AND (cardinality(CAST(:sports AS integer[])) = 0 OR s.sport = ANY(CAST(:sports AS integer[])))) " +
+           "ON CONFLICT (user_id) DO UPDATE SET event_ids = EXCLUDED.event_ids, sports = EXCLUDED.sports, " +
+           "computed_at = EXCLUDED.computed_at " +
+           "WHERE user_recommendations.invalidated_at < EXCLUDED.computed_at",
+           nativeQuery = true)
+    int store(@Param("userId") UUID userId, @Param("eventIds") UUID[] eventIds, @Param("sports") Integer[] sports,
+            @Param("computedAt") LocalDateTime computedAt);
+
+    /**
+     * Returns the precomputed recommendations of a user if they are still valid.
+     *
+     * @param userId the unique identifier of the user
+     * @return the user's valid precomputed list, or empty if there is none
+     */
+    @Query(value = "SELECT r.* FROM user_recommendations r " +
+           "WHERE r.user_id = :userId AND r.invalidated_at < r.computed_at " +
+           "AND NOT EXISTS (SELECT 1 FROM recommendation_sport_invalidations s WHERE s.invalidated_at >= r.computed_at " +
+           "AND (cardinality(r.sports) = 0 OR s.sport = ANY(r.sports)))",
+           nativeQuery = true)
+    Optional<UserRecommendation> findValidByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Marks the precomputed recommendations of a user as invalid, including ones still being computed.
+     *
+     * @param userId the unique identifier of the user
+     * @return the number of rows written
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "INSERT INTO user_recommendations (user_id, invalidated_at) " +
+           "SELECT id, LOCALTIMESTAMP FROM users WHERE id = :userId " +
+           "ON CONFLICT (user_id) DO UPDATE SET invalidated_at = EXCLUDED.invalidated_at",
+           nativeQuery = true)
+    int invalidateUser(@Param("userId") UUID userId);
+
+    /**
+     * Marks the precomputed recommendations drawing candidates from a sport as invalid,
+     * including ones still being computed.
+     *
+     * @param sport the integer identifier of the sport whose events changed
+     * @return the number of rows written
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "INSERT INTO recommendation_sport_invalidations (sport, invalidated_at) VALUES (:sport, LOCALTIMESTAMP) " +
+           "ON CONFLICT (sport) DO UPDATE SET invalidated_at = EXCLUDED.invalidated_at",
+           nativeQuery = true)
+    int invalidateSport(@Param("sport") Integer sport);
+}
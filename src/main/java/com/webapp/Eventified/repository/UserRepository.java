@@ -1,9 +1,13 @@
 package com.webapp.Eventified.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 
 import com.webapp.Eventified.model.User;
@@ -40,4 +44,15 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * @return Optional containing the user if found, empty otherwise
      */
     Optional<User> findByUsername(String username);
+
+    /**
+     * Finds the identifiers of verified users ordered by id, starting after the given id.
+     * Used to walk all users page by page without offsets.
+     *
+     * @param after the last identifier of the previous page
+     * @param pageable the page size
+     * @return List of user identifiers following after
+     */
+    @Query("SELECT u.id FROM User u WHERE u.isVerified = true AND u.id > :after ORDER BY u.id")
+    List<UUID> findVerifiedUserIdsAfter(@Param("after") UUID after, Pageable pageable);
 }
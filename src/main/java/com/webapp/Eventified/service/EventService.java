@@ -2,23 +2,37 @@ package com.webapp.Eventified.service;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.webapp.Eventified.dto.user.EventDetailsDTO;
+import com.webapp.Eventified.dto.user.EventMarkerDTO;
+import com.webapp.Eventified.dto.user.EventPageDTO;
 import com.webapp.Eventified.dto.user.EventParticipantDTO;
 import com.webapp.Eventified.dto.user.EventPoolDTO;
 import com.webapp.Eventified.dto.user.EventUpdateRequest;
+import com.webapp.Eventified.dto.user.NearbyEventDTO;
 import com.webapp.Eventified.dto.user.OrganizerDTO;
 import com.webapp.Eventified.model.Event;
 import com.webapp.Eventified.model.User;
 import com.webapp.Eventified.repository.EventParticipantRepository;
+import com.webapp.Eventified.repository.EventPoolCriteria;
 import com.webapp.Eventified.repository.EventRepository;
 import com.webapp.Eventified.repository.UserRepository;
+import com.webapp.Eventified.service.geo.EventGeoIndex;
+import com.webapp.Eventified.service.lifecycle.EventLifecycleEngine;
+import com.webapp.Eventified.service.notification.NotificationOutbox;
+import com.webapp.Eventified.service.recommendation.CoParticipationIndex;
+import com.webapp.Eventified.service.recommendation.RecommendationCache;
+import com.webapp.Eventified.util.EventCursor;
+import com.webapp.Eventified.util.TransactionCallbacks;
+import com.webapp.Eventified.util.GeoUtil;
 
 import lombok.RequiredArgsConstructor;
 
@@ -35,12 +49,22 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class EventService {
 
+        public static final int DEFAULT_PAGE_SIZE = 20;
+        public static final int MAX_PAGE_SIZE = 100;
+        public static final double MAX_NEARBY_RADIUS_KM = 200.0;
+        public static final int MAX_MAP_MARKERS = 500;
+
         private final EventRepository eventRepository;
         private final UserRepository userRepository;
         private final EventParticipantRepository eventParticipantRepository;
 
         @Autowired
-        private final NotificationService notificationService;
+        private final NotificationOutbox notificationOutbox;
+
+        private final EventGeoIndex eventGeoIndex;
+        private final RecommendationCache recommendationCache;
+        private final CoParticipationIndex coParticipationIndex;
+        private final EventLifecycleEngine eventLifecycleEngine;
 
         /**
          * Creates a new event in the system with the specified details.
@@ -49,6 +73,7 @@ public class EventService {
          * The event is saved to the database and an EventParticipant record is
          * automatically created
          * for the organizer with role 0 (organizer).
+         * Interested users are notified asynchronously through the notification outbox.
          *
          * @param username   the username of the event organizer
          * @param title      the title of the event (must be unique per organizer)
@@ -64,6 +89,7 @@ public class EventService {
          * @throws IllegalArgumentException if the user is not found or an event with
          *                                  the same title already exists
          */
+        @Transactional
         public Event createEvent(String username, String title, Integer sport, String address, Integer skillLevel, LocalDateTime startTime, LocalDateTime endTime, Integer capacity, BigDecimal latitude, BigDecimal longitude) {
 
                 User organizer = userRepository.findByUsername(username)
@@ -78,8 +104,15 @@ public class EventService {
                                 capacity);
 
                 eventRepository.save(event);
+                TransactionCallbacks.afterCommit(() -> {
+                        eventGeoIndex.upsert(event);
+                        eventLifecycleEngine.schedule(event);
+                        recommendationCache.invalidateSport(sport);
+                        recommendationCache.invalidateUser(organizer.getId());
+                        coParticipationIndex.join(organizer.getId(), event.getId(), startTime);
+                });
 
-                notificationService.notifyUsersOfNewEvent(event);
+                notificationOutbox.notifyUsersOfNewEvent(event);
 
                 return event;
         }
@@ -238,7 +271,8 @@ public class EventService {
          * timing, and capacity.
          * All filter parameters are optional - null or empty values are ignored in
          * filtering.
-         * Calculates free slots dynamically by comparing capacity with occupied count.
+         * Filtering, including the free slot calculation, is done by a single SQL query
+         * that selects only the columns needed for EventPoolDTO.
          *
          * @param sports         list of sport IDs to filter by (optional)
          * @param skillLevels    list of skill levels to filter by (optional)
@@ -253,21 +287,7 @@ public class EventService {
                         LocalDateTime startTimeAfter,
                         LocalDateTime endTimeBefore,
                         Integer freeSlots) {
-                List<Event> events = eventRepository.findAll();
-
-                List<EventPoolDTO> filteredEvents = events.stream()
-                                .filter(event -> {
-                                        boolean match = sports == null || sports.isEmpty() || sports.contains(event.getSport());
-                                        return match;
-                                })
-                                .filter(event -> skillLevels == null || skillLevels.isEmpty()
-                                                || skillLevels.contains(event.getSkillLevel()))
-                                .filter(event -> startTimeAfter == null || event.getStartTime().isAfter(startTimeAfter))
-                                .filter(event -> endTimeBefore == null || event.getEndTime().isBefore(endTimeBefore))
-                                .filter(event -> freeSlots == null || event.getCapacity() - event.getOccupied() >= freeSlots)
-                                .map(EventPoolDTO::new)
-                                .toList();
-                return filteredEvents;
+                return eventRepository.findEventPool(sports, skillLevels, startTimeAfter, endTimeBefore, freeSlots);
         }
 
         public List<EventPoolDTO> getMyAttendedPastEvents(String username) {
@@ -298,6 +318,211 @@ public class EventService {
                 return upcomingAttendedEvents;
         }
 
+        /**
+         * Retrieves one cursor-paginated page of all events in the system.
+         *
+         * @param cursor opaque cursor returned with the previous page (optional)
+         * @param limit  requested page size, capped at MAX_PAGE_SIZE (optional)
+         * @return EventPageDTO containing the events and the cursor of the next page
+         * @throws IllegalArgumentException if the cursor is malformed
+         */
+        public EventPageDTO getAllEventsPage(String cursor, Integer limit) {
+                return fetchEventPage(new EventPoolCriteria(), cursor, limit);
+        }
+
+        /**
+         * Retrieves one cursor-paginated page of events matching the optional filter
+         * criteria. Semantics of the filters are the same as in getFilteredEvents.
+         *
+         * @param sports         list of sport IDs to filter by (optional)
+         * @param skillLevels    list of skill levels to filter by (optional)
+         * @param startTimeAfter minimum start time for events (optional)
+         * @param endTimeBefore  maximum end time for events (optional)
+         * @param freeSlots      minimum number of free spots required (optional)
+         * @param cursor         opaque cursor returned with the previous page (optional)
+         * @param limit          requested page size, capped at MAX_PAGE_SIZE (optional)
+         * @return EventPageDTO containing the events and the cursor of the next page
+         * @throws IllegalArgumentException if the cursor is malformed
+         */
+        public EventPageDTO getFilteredEventsPage(
+                        List<Integer> sports,
+                        List<Integer> skillLevels,
+                        LocalDateTime startTimeAfter,
+                        LocalDateTime endTimeBefore,
+                        Integer freeSlots,
+                        String cursor,
+                        Integer limit) {
+                EventPoolCriteria criteria = new EventPoolCriteria();
+                criteria.setSports(sports);
+                criteria.setSkillLevels(skillLevels);
+                criteria.setStartTimeAfter(startTimeAfter);
+                criteria.setEndTimeBefore(endTimeBefore);
+                criteria.setFreeSlots(freeSlots);
+                return fetchEventPage(criteria, cursor, limit);
+        }
+
+        /**
+         * Retrieves one cursor-paginated page of upcoming events organized by a user.
+         *
+         * @param username the username of the event organizer
+         * @param cursor   opaque cursor returned with the previous page (optional)
+         * @param limit    requested page size, capped at MAX_PAGE_SIZE (optional)
+         * @return EventPageDTO containing the events and the cursor of the next page
+         * @throws IllegalArgumentException if the user is not found or the cursor is malformed
+         */
+        public EventPageDTO getHostedEventsUpcomingPage(String username, String cursor, Integer limit) {
+                User user = userRepository.findByUsername(username)
+                                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+                EventPoolCriteria criteria = new EventPoolCriteria();
+                criteria.setOrganizerId(user.getId());
+                criteria.setStartTimeAfter(LocalDateTime.now());
+                return fetchEventPage(criteria, cursor, limit);
+        }
+
+        /**
+         * Retrieves one cursor-paginated page of past events organized by a user.
+         *
+         * @param username the username of the event organizer
+         * @param cursor   opaque cursor returned with the previous page (optional)
+         * @param limit    requested page size, capped at MAX_PAGE_SIZE (optional)
+         * @return EventPageDTO containing the events and the cursor of the next page
+         * @throws IllegalArgumentException if the user is not found or the cursor is malformed
+         */
+        public EventPageDTO getHostedEventsPastPage(String username, String cursor, Integer limit) {
+                User user = userRepository.findByUsername(username)
+                                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+                EventPoolCriteria criteria = new EventPoolCriteria();
+                criteria.setOrganizerId(user.getId());
+                criteria.setEndTimeBefore(LocalDateTime.now());
+                return fetchEventPage(criteria, cursor, limit);
+        }
+
+        /**
+         * Retrieves one cursor-paginated page of past events the user attended as a
+         * regular participant.
+         *
+         * @param username the username of the participant
+         * @param cursor   opaque cursor returned with the previous page (optional)
+         * @param limit    requested page size, capped at MAX_PAGE_SIZE (optional)
+         * @return EventPageDTO containing the events and the cursor of the next page
+         * @throws IllegalArgumentException if the user is not found or the cursor is malformed
+         */
+        public EventPageDTO getMyAttendedPastEventsPage(String username, String cursor, Integer limit) {
+                User user = userRepository.findByUsername(username)
+                                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+                EventPoolCriteria criteria = new EventPoolCriteria();
+                criteria.setParticipantId(user.getId());
+                criteria.setParticipantRole(1);
+                criteria.setEndTimeBefore(LocalDateTime.now());
+                return fetchEventPage(criteria, cursor, limit);
+        }
+
+        /**
+         * Retrieves one cursor-paginated page of upcoming events the user joined as a
+         * regular participant.
+         *
+         * @param username the username of the participant
+         * @param cursor   opaque cursor returned with the previous page (optional)
+         * @param limit    requested page size, capped at MAX_PAGE_SIZE (optional)
+         * @return EventPageDTO containing the events and the cursor of the next page
+         * @throws IllegalArgumentException if the user is not found or the cursor is malformed
+         */
+        public EventPageDTO getMyAttendedUpcomingEventsPage(String username, String cursor, Integer limit) {
+                User user = userRepository.findByUsername(username)
+                                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+                EventPoolCriteria criteria = new EventPoolCriteria();
+                criteria.setParticipantId(user.getId());
+                criteria.setParticipantRole(1);
+                criteria.setStartTimeAfter(LocalDateTime.now());
+                return fetchEventPage(criteria, cursor, limit);
+        }
+
+        /**
+         * Retrieves upcoming active events within a radius of the given point, nearest
+         * first. Optional sport and skill level filters are applied in the same query.
+         *
+         * @param latitude    latitude of the searched point in degrees
+         * @param longitude   longitude of the searched point in degrees
+         * @param radiusKm    search radius in kilometres, at most MAX_NEARBY_RADIUS_KM
+         * @param sports      list of sport IDs to filter by (optional)
+         * @param skillLevels list of skill levels to filter by (optional)
+         * @param limit       maximum number of events, capped at MAX_PAGE_SIZE (optional)
+         * @return List of nearby events with their distance, ordered by distance
+         * @throws IllegalArgumentException if the coordinates or radius are invalid
+         */
+        public List<NearbyEventDTO> getNearbyEvents(double latitude, double longitude, double radiusKm, List<Integer> sports, List<Integer> skillLevels, Integer limit) {
+                if (!GeoUtil.isValidCoordinate(latitude, longitude)) {
+                        throw new IllegalArgumentException("Invalid coordinates");
+                }
+                if (radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+                        throw new IllegalArgumentException("Radius must be between 0 and " + MAX_NEARBY_RADIUS_KM + " km");
+                }
+
+                EventPoolCriteria criteria = new EventPoolCriteria();
+                criteria.setSports(sports);
+                criteria.setSkillLevels(skillLevels);
+                criteria.setStatusOfEvent(0);
+                criteria.setStartTimeAfter(LocalDateTime.now());
+
+                int maxResults = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+                return eventRepository.findNearbyEvents(criteria, latitude, longitude, radiusKm, maxResults);
+        }
+
+        /**
+         * Retrieves markers of active events inside a map viewport.
+         * Served from the in-memory geo index without querying the database.
+         *
+         * @param minLatitude  southern edge of the viewport in degrees
+         * @param minLongitude western edge of the viewport in degrees
+         * @param maxLatitude  northern edge of the viewport in degrees
+         * @param maxLongitude eastern edge of the viewport in degrees, may be lower than
+         *                     minLongitude for viewports crossing the antimeridian
+         * @param limit        maximum number of markers, capped at MAX_MAP_MARKERS (optional)
+         * @return List of event markers inside the viewport
+         * @throws IllegalArgumentException if the viewport is invalid
+         */
+        public List<EventMarkerDTO> getEventsInViewport(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, Integer limit) {
+                if (!GeoUtil.isValidCoordinate(minLatitude, minLongitude) || !GeoUtil.isValidCoordinate(maxLatitude, maxLongitude)
+                                || minLatitude > maxLatitude) {
+                        throw new IllegalArgumentException("Invalid viewport");
+                }
+
+                int maxMarkers = limit == null ? MAX_MAP_MARKERS : Math.max(1, Math.min(limit, MAX_MAP_MARKERS));
+                return eventGeoIndex.query(minLatitude, minLongitude, maxLatitude, maxLongitude, maxMarkers);
+        }
+
+        /**
+         * Runs a keyset-paginated event pool query.
+         * Fetches one row more than the page size to find out whether a next page exists
+         * without issuing a separate count query.
+         *
+         * @param criteria the filter criteria of the listing
+         * @param cursor   opaque cursor returned with the previous page (optional)
+         * @param limit    requested page size (optional)
+         * @return EventPageDTO containing the events and the cursor of the next page
+         * @throws IllegalArgumentException if the cursor is malformed
+         */
+        private EventPageDTO fetchEventPage(EventPoolCriteria criteria, String cursor, Integer limit) {
+                int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+                EventCursor after = cursor == null || cursor.isBlank() ? null : EventCursor.decode(cursor);
+
+                List<EventPoolDTO> events = eventRepository.findEventPoolPage(criteria, after, pageSize + 1);
+
+                if (events.size() <= pageSize) {
+                        return new EventPageDTO(events, null);
+                }
+
+                List<EventPoolDTO> page = new ArrayList<>(events.subList(0, pageSize));
+                EventPoolDTO last = page.get(pageSize - 1);
+                String nextCursor = new EventCursor(LocalDateTime.parse(last.getStartTime()), last.getId()).encode();
+                return new EventPageDTO(page, nextCursor);
+        }
+
+        @Transactional
         public boolean cancelEvent(UUID eventId, String username) {
                 User user = userRepository.findByUsername(username)
                                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
@@ -308,13 +533,20 @@ public class EventService {
                 if (event.getOrganizer().getId().equals(user.getId())) {
                         event.setStatusOfEvent(4);
                         eventRepository.save(event);
-                        notificationService.notifyEventCancelled(event);
+                        TransactionCallbacks.afterCommit(() -> {
+                                eventGeoIndex.upsert(event);
+                                recommendationCache.invalidateSport(event.getSport());
+                                coParticipationIndex.removeEvent(eventId);
+                                eventLifecycleEngine.unschedule(eventId);
+                        });
+                        notificationOutbox.notifyEventCancelled(event);
                         return true;
                 } else {
                         throw new IllegalArgumentException("You are not the organizer of this event.");
                 }
         }
 
+        @Transactional
         public boolean updateEvent(String username, UUID eventId, EventUpdateRequest updateRequest) {
 
                 User user = userRepository.findByUsername(username)
@@ -330,8 +562,13 @@ public class EventService {
                         event.setEndTime(updateRequest.getEndTime());
 
                         eventRepository.save(event);
+                        TransactionCallbacks.afterCommit(() -> {
+                                eventGeoIndex.upsert(event);
+                                eventLifecycleEngine.schedule(event);
+                                recommendationCache.invalidateSport(event.getSport());
+                        });
 
-                        notificationService.notifyEventUpdate(event);
+                        notificationOutbox.notifyEventUpdate(event);
 
                         return true;
                 } else {
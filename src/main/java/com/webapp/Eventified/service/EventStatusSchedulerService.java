@@ -1,15 +1,24 @@
 package com.webapp.Eventified.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.webapp.Eventified.model.Event;
 import com.webapp.Eventified.repository.EventRepository;
-import com.webapp.Eventified.repository.NotificationRepository;
+import com.webapp.Eventified.repository.EventTransition;
+import com.webapp.Eventified.repository.RatingPromptQueueRepository;
+import com.webapp.Eventified.service.cluster.ClusterJobLock;
+import com.webapp.Eventified.service.geo.EventGeoIndex;
+import com.webapp.Eventified.service.recommendation.RecommendationCache;
+import com.webapp.Eventified.util.TransactionCallbacks;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -29,138 +38,153 @@ public class EventStatusSchedulerService {
 
     private final EventRepository eventRepository;
     private final NotificationService notificationService;
-    private final NotificationRepository notificationRepository;
+    private final EventGeoIndex eventGeoIndex;
+    private final ClusterJobLock clusterJobLock;
+    private final RatingPromptQueueRepository ratingPromptQueueRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final RecommendationCache recommendationCache;
 
-    private static final Integer STATUS_PAST = 2;
-    private static final Integer STATUS_ONGOING = 1;
     private static final Integer STATUS_ACTIVE = 0;
 
-    private static final Integer RATE_PARTICIPANTS = 3;
+    private static final int RATING_PROMPT_BATCH_SIZE = 100;
+
+    private static final String STATUS_SWEEP_JOB = "event-status-sweep";
 
     /**
-     * Scheduled task that updates event statuses every minute.
+     * Scheduled sweep that updates event statuses.
      * Marks events as PAST if they have ended and as ONGOING if they have started.
-     * Runs every 60 seconds.
+     * Transitions are normally applied on time by the EventLifecycleEngine, so this only catches
+     * the ones it missed and runs every 15 minutes by default, on one node of the cluster at a time.
      *
      * @throws Exception if an error occurs during status update
      */
-    @Scheduled(fixedRate = 60000)
+    @Scheduled(fixedDelayString = "${app.events.lifecycle.sweep-ms:900000}", initialDelayString = "${app.events.lifecycle.sweep-ms:900000}")
     @Transactional
     public void updateEventStatuses() throws Exception {
-        
-        LocalDateTime now = LocalDateTime.now();
+        clusterJobLock.runExclusively(STATUS_SWEEP_JOB, Duration.ofMinutes(10), Duration.ofMinutes(1), () -> {
+            LocalDateTime now = LocalDateTime.now();
 
-        int pastUpdatedCount = updateEventsToPastStatus(now);
-        int ongoingUpdatedCount = updateEventsToOngoingStatus(now);
+            int pastUpdatedCount = updateEventsToPastStatus(now);
+            int ongoingUpdatedCount = updateEventsToOngoingStatus(now);
 
-        if(pastUpdatedCount > 0 || ongoingUpdatedCount > 0){
-            log.info("Event status update completed. Events marked as PAST: {}, Events marked as ONGOING: {}", pastUpdatedCount, ongoingUpdatedCount);
-        }
+            if(pastUpdatedCount > 0 || ongoingUpdatedCount > 0){
+                log.info("Event status update completed. Events marked as PAST: {}, Events marked as ONGOING: {}", pastUpdatedCount, ongoingUpdatedCount);
+            }
+        });
     }
 
     /**
      * Scheduled task that sends reminder notifications for events starting within one hour.
-     * Runs every 60 seconds and ensures each event receives only one reminder.
+     * Runs every 60 seconds. Events that have not started yet and start within the hour are claimed by a single
+     * UPDATE ... RETURNING that also sets reminder_sent, so every event is reminded exactly once, including
+     * events created less than an hour before they start and events missed while the application was down.
+     * Runs on every node: the claim skips events locked by another node, so nodes split the due events between them.
      *
+     * @return the number of events reminded
      * @throws Exception if an error occurs during reminder sending
      */
     @Scheduled(fixedRate = 60000)
     @Transactional
-    public void sendEventReminders() throws Exception {
+    public int sendEventReminders() throws Exception {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime reminderTime = now.plusHours(1);
 
-        List<Event> eventsToRemind = eventRepository.findEventByStatusOfEventAndStartTime(STATUS_ACTIVE, reminderTime);
+        List<UUID> eventIds = eventRepository.claimEventsForReminder(now, reminderTime, STATUS_ACTIVE);
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
 
+        List<Event> eventsToRemind = eventRepository.findAllById(eventIds);
         for(Event event : eventsToRemind){
-            if (!event.getReminderSent()) {
-                 notificationService.notifyEventReminder(event);
-                 event.setReminderSent(true);
-                 eventRepository.save(event);
-            }
+            notificationService.notifyEventReminder(event);
         }
+
+        log.info("Sent reminders for {} events", eventsToRemind.size());
+        return eventsToRemind.size();
     }
 
     /**
      * Scheduled task that sends rating reminders to organizers after events have ended.
-     * Runs every 60 seconds and sends reminders 30 minutes after event completion.
+     * Events are queued for a prompt 30 minutes after their end when they become PAST. Runs every minute
+     * on every node and claims due prompts in batches with FOR UPDATE SKIP LOCKED, each batch in its own
+     * transaction, so nodes split the queue and a prompt is removed only together with its notification.
      *
+     * @return the number of queued rating prompts processed
      * @throws Exception if an error occurs during reminder sending
      */
-    @Scheduled(cron = "0 */5 * * * *")
-    @Transactional
-    public void sendRatingReminders() throws Exception{
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime ratingReminderTime = now.minusMinutes(30);
-
-        List<Event> eventsToBeRated = eventRepository.findByStatusOfEventAndEndTimeBeforeAndRatedFalse(STATUS_PAST, ratingReminderTime);
-
-        for(Event event : eventsToBeRated){
-            UUID organizerId = event.getOrganizer() != null ? event.getOrganizer().getId() : null;
-            UUID eventId = event.getId();
-            if (organizerId == null || eventId == null) {
-                continue;
-            }
+    @Scheduled(fixedDelayString = "${app.events.rating-prompts.poll-ms:60000}")
+    public int sendRatingReminders() throws Exception{
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int processed = 0;
+        int claimed;
+        do {
+            Integer batch = transactionTemplate.execute(status -> processRatingPrompts(LocalDateTime.now()));
+            claimed = batch == null ? 0 : batch;
+            processed += claimed;
+        } while (claimed == RATING_PROMPT_BATCH_SIZE);
+
+        if (processed > 0) {
+            log.info("Processed {} queued rating prompts", processed);
+        }
+        return processed;
+    }
 
-            boolean alreadyPrompted = notificationRepository.existsByUser_IdAndEvent_IdAndTypeOfNotification(
-                    organizerId,
-                    eventId,
-                    RATE_PARTICIPANTS);
+    /**
+     * Claims one batch of due rating prompts and notifies the organizers of events not rated in the meantime.
+     * Private helper method called by the scheduled rating reminder task.
+     *
+     * @param now the current timestamp
+     * @return the number of prompts claimed
+     */
+    private int processRatingPrompts(LocalDateTime now){
+        List<UUID> eventIds = ratingPromptQueueRepository.claimDue(now, RATING_PROMPT_BATCH_SIZE);
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
 
-            if (!alreadyPrompted) {
+        for(Event event : eventRepository.findAllById(eventIds)){
+            if (!Boolean.TRUE.equals(event.getRated()) && event.getOrganizer() != null) {
                 notificationService.notifyRateParticipants(event, event.getOrganizer());
             }
         }
+        return eventIds.size();
     }
 
     /**
-     * Updates events that have ended to PAST status.
+     * Updates events that have ended to PAST status with a single set-based update.
      * Private helper method called by the scheduled status update task.
      *
      * @param now the current timestamp
      * @return the number of events updated to PAST status
      */
     private int updateEventsToPastStatus(LocalDateTime now){
+        return forgetTransitioned(eventRepository.markEndedEventsAsPast(now));
+    }
 
-            List<Event> eventsToUpdate = eventRepository.findEventsToMarkAsPast(now, STATUS_PAST);
-
-            if(!eventsToUpdate.isEmpty()){
-                log.info("Found {} events to update to PAST status", eventsToUpdate.size());
-
-                for(Event event : eventsToUpdate){
-                    if (event.getStatusOfEvent() != 3) {
-                        event.setStatusOfEvent(STATUS_PAST);
-                    }
-                }
-                
-                eventRepository.saveAll(eventsToUpdate);
-                return eventsToUpdate.size();
-            }
-            return 0;
-        }
-    
     /**
-     * Updates events that have started to ONGOING status.
+     * Updates events that have started to ONGOING status with a single set-based update.
      * Private helper method called by the scheduled status update task.
      *
      * @param now the current timestamp
      * @return the number of events updated to ONGOING status
      */
     private int updateEventsToOngoingStatus(LocalDateTime now){
-        List<Event> eventsToUpdate = eventRepository.findEventsToMarkAsOngoing(now, STATUS_ACTIVE, STATUS_ONGOING);
-
-        if(!eventsToUpdate.isEmpty()){
-            log.info("Found {} events to update to ONGOING status", eventsToUpdate.size());
-
-            for(Event event : eventsToUpdate){
-                if (event.getStatusOfEvent() != 3) {
-                    event.setStatusOfEvent(STATUS_ONGOING);
-                }
-            }
+        return forgetTransitioned(eventRepository.markStartedEventsAsOngoing(now));
+    }
 
-            eventRepository.saveAll(eventsToUpdate);
-            return eventsToUpdate.size();
-        }
-        return 0;
+    /**
+     * Drops transitioned events from the geo index and invalidates cached recommendations in their sports
+     * once the sweep's transaction has committed.
+     * Private helper method called by the status update helpers.
+     *
+     * @param transitions the events whose status changed
+     * @return the number of events whose status changed
+     */
+    private int forgetTransitioned(List<EventTransition> transitions){
+        TransactionCallbacks.afterCommit(() -> {
+            eventGeoIndex.removeAll(transitions.stream().map(EventTransition::getId).toList());
+            transitions.stream().map(EventTransition::getSport).collect(Collectors.toSet()).forEach(recommendationCache::invalidateSport);
+        });
+        return transitions.size();
     }
 }
@@ -1,19 +1,29 @@
 package com.webapp.Eventified.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.webapp.Eventified.dto.user.NotificationFeedItemDTO;
+import com.webapp.Eventified.dto.user.NotificationPageDTO;
+import com.webapp.Eventified.dto.user.NotificationPushDTO;
 import com.webapp.Eventified.model.Event;
-import com.webapp.Eventified.model.EventParticipant;
 import com.webapp.Eventified.model.Notification;
-import com.webapp.Eventified.model.SportUser;
 import com.webapp.Eventified.model.User;
-import com.webapp.Eventified.repository.EventParticipantRepository;
+import com.webapp.Eventified.repository.DeletedNotifications;
+import com.webapp.Eventified.repository.NotificationRecipient;
 import com.webapp.Eventified.repository.NotificationRepository;
-import com.webapp.Eventified.repository.SportUserRepository;
 import com.webapp.Eventified.repository.UserRepository;
+import com.webapp.Eventified.service.notification.NotificationPushService;
+import com.webapp.Eventified.service.notification.UnreadNotificationCounter;
+import com.webapp.Eventified.util.NotificationCursor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,10 +38,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class NotificationService {
 
+    public static final int DEFAULT_FEED_PAGE_SIZE = 20;
+    public static final int MAX_FEED_PAGE_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
-    private final EventParticipantRepository eventParticipantRepository;
     private final UserRepository userRepository;
-    private final SportUserRepository sportUserRepository;
+    private final NotificationPushService notificationPushService;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
     private final Integer NEW_EVENT_RECOMMENDATION = 1;
     private final Integer EVENT_CANCELLED = 2;
@@ -41,6 +54,9 @@ public class NotificationService {
     private final Integer EVENT_UPDATE = 6;
     private final Integer PLAYER_LEFT = 7;
     private final Integer FRIEND_REQUEST = 8;
+    private final Integer WAITLIST_PROMOTED = 9;
+
+    private static final int MAX_LISTED_PLAYERS = 3;
 
     /**
      * Notifies users about a new event that matches their sport and skill level preferences.
@@ -50,18 +66,19 @@ public class NotificationService {
      * @return true if notifications were successfully sent
      */
     public boolean notifyUsersOfNewEvent(Event event) {
-        List<SportUser> interestedUsers = sportUserRepository.findUserBySportAndSkillLevel(event.getSport(),
-                event.getSkillLevel());
-
-        for (SportUser sportUser : interestedUsers) {
-            if (!sportUser.getUserId().equals(event.getOrganizer().getId())) {
-                createSaveNotification(sportUser.getUser(),
-                        event,
-                        NEW_EVENT_RECOMMENDATION,
-                        "New Event",
-                        "There was new event added you might be interested in");
-            }
-        }
+        LocalDateTime now = LocalDateTime.now();
+        String title = "New Event";
+        String message = "There was new event added you might be interested in";
+
+        List<NotificationRecipient> recipients = notificationRepository.insertForUsersWithSportAndSkillLevel(event.getId(),
+                event.getSport(),
+                event.getSkillLevel(),
+                event.getOrganizer().getId(),
+                NEW_EVENT_RECOMMENDATION,
+                title,
+                message,
+                now);
+        pushToRecipients(recipients, event, NEW_EVENT_RECOMMENDATION, title, message, now);
         return true;
     }
 
@@ -72,15 +89,7 @@ public class NotificationService {
      * @return true if notifications were successfully sent
      */
     public boolean notifyEventCancelled(Event event) {
-        List<EventParticipant> participants = eventParticipantRepository.findByEventId(event.getId());
-
-        for (EventParticipant participant : participants) {
-            createSaveNotification(participant.getUser(),
-                    event,
-                    EVENT_CANCELLED,
-                    "Event Cancelled",
-                    "An event you were participating in has been cancelled");
-        }
+        notifyParticipants(event, EVENT_CANCELLED, "Event Cancelled", "An event you were participating in has been cancelled");
         return true;
     }
 
@@ -108,15 +117,7 @@ public class NotificationService {
      * @return true if notifications were successfully sent
      */
     public boolean notifyEventReminder(Event event) {
-        List<EventParticipant> participants = eventParticipantRepository.findByEventId(event.getId());
-
-        for (EventParticipant participant : participants) {
-            createSaveNotification(participant.getUser(),
-                    event,
-                    EVENT_REMINDER,
-                    "Event Reminder",
-                    "This is a reminder for the event you are participating in");
-        }
+        notifyParticipants(event, EVENT_REMINDER, "Event Reminder", "This is a reminder for the event you are participating in");
         return true;
     }
 
@@ -146,15 +147,7 @@ public class NotificationService {
      * @return true if notifications were successfully sent
      */
     public boolean notifyEventUpdate(Event event) {
-        List<EventParticipant> participants = eventParticipantRepository.findByEventId(event.getId());
-
-        for (EventParticipant participant : participants) {
-            createSaveNotification(participant.getUser(),
-                    event,
-                    EVENT_UPDATE,
-                    "Event Updated",
-                    "An event you are participating in has been updated");
-        }
+        notifyParticipants(event, EVENT_UPDATE, "Event Updated", "An event you are participating in has been updated");
         return true;
     }
 
@@ -178,6 +171,72 @@ public class NotificationService {
 
     }
 
+    /**
+     * Notifies the event organizer with one aggregated notification for several players who joined their event.
+     *
+     * @param event the event the players joined
+     * @param organizer the event organizer
+     * @param playerUsernames the usernames of the players who joined, in joining order
+     * @return true if notification was successfully sent
+     */
+    public boolean notifyPlayersJoined(Event event, User organizer, List<String> playerUsernames) {
+        if (playerUsernames.size() == 1) {
+            return notifyNewPlayerJoined(event, organizer, playerUsernames.get(0));
+        }
+
+        createSaveNotification(organizer,
+                event,
+                NEW_PLAYER_JOINED,
+                "New Players Joined",
+                describePlayers(playerUsernames) + " have joined the event you are participating in");
+
+        return true;
+    }
+
+    /**
+     * Notifies the event organizer with one aggregated notification for several players who left their event.
+     *
+     * @param event the event the players left
+     * @param organizer the event organizer
+     * @param playerUsernames the usernames of the players who left, in leaving order
+     * @return true if notification was successfully sent
+     */
+    public boolean notifyPlayersLeft(Event event, User organizer, List<String> playerUsernames) {
+        if (playerUsernames.size() == 1) {
+            return notifyPlayerLeft(event, organizer, playerUsernames.get(0));
+        }
+
+        createSaveNotification(organizer,
+                event,
+                PLAYER_LEFT,
+                "Players Left",
+                describePlayers(playerUsernames) + " have left the event you are participating in");
+
+        return true;
+    }
+
+    /**
+     * Notifies a user that they were promoted from the waitlist of a full event to a participant.
+     *
+     * @param event the event the user was added to
+     * @param userId the unique identifier of the promoted user
+     * @return true if the notification was sent, false if the user no longer exists
+     */
+    public boolean notifyWaitlistPromoted(Event event, UUID userId) {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            return false;
+        }
+
+        createSaveNotification(user,
+                event,
+                WAITLIST_PROMOTED,
+                "Spot Available",
+                "A spot opened up and you have been moved from the waitlist into " + event.getTitle());
+
+        return true;
+    }
+
     public boolean notifyFriendRequest(User receiver, String senderUsername){
 
         createSaveNotification(receiver, null, FRIEND_REQUEST,
@@ -187,6 +246,55 @@ public class NotificationService {
         return true;
     }
 
+    /**
+     * Creates a notification for every participant of an event with one set-based insert
+     * and pushes it to the participants who are connected.
+     *
+     * @param event the event whose participants are notified
+     * @param typeOfNotification the integer identifier of the notification type
+     * @param title the title/subject of the notification
+     * @param messageOfNotification the detailed message content
+     */
+    private void notifyParticipants(Event event, Integer typeOfNotification, String title, String messageOfNotification) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationRecipient> recipients = notificationRepository.insertForEventParticipants(event.getId(),
+                typeOfNotification, title, messageOfNotification, now);
+        pushToRecipients(recipients, event, typeOfNotification, title, messageOfNotification, now);
+    }
+
+    /**
+     * Pushes notifications created by a set-based insert to their recipients.
+     *
+     * @param recipients the created notifications and their recipients
+     * @param event the event the notifications refer to
+     * @param typeOfNotification the integer identifier of the notification type
+     * @param title the title/subject of the notification
+     * @param messageOfNotification the detailed message content
+     * @param createdAt the creation timestamp of the notifications
+     */
+    private void pushToRecipients(List<NotificationRecipient> recipients, Event event, Integer typeOfNotification,
+            String title, String messageOfNotification, LocalDateTime createdAt) {
+        for (NotificationRecipient recipient : recipients) {
+            notificationPushService.pushNotification(recipient.getUsername(), new NotificationPushDTO(recipient.getId(),
+                    typeOfNotification, title, messageOfNotification, event.getId(), createdAt));
+        }
+    }
+
+    /**
+     * Describes a group of players for an aggregated notification, e.g. "5 players (alice, bob, carol and 2 more)".
+     *
+     * @param playerUsernames the usernames of the players
+     * @return the description of the players
+     */
+    private String describePlayers(List<String> playerUsernames) {
+        int listed = Math.min(playerUsernames.size(), MAX_LISTED_PLAYERS);
+        String names = String.join(", ", playerUsernames.subList(0, listed));
+        if (playerUsernames.size() > listed) {
+            names += " and " + (playerUsernames.size() - listed) + " more";
+        }
+        return playerUsernames.size() + " players (" + names + ")";
+    }
+
     /**
      * Creates and saves a notification to the database.
      * This is a private helper method used by all notification methods.
@@ -201,6 +309,9 @@ public class NotificationService {
         Notification notification = new Notification(user, event, typeOfNotification, title,
                 messageOfNotification);
         notificationRepository.save(notification);
+        notificationPushService.pushNotification(user.getUsername(), new NotificationPushDTO(notification.getId(),
+                typeOfNotification, title, messageOfNotification, event == null ? null : event.getId(),
+                notification.getCreatedAt()));
     }
 
     /**
@@ -217,6 +328,41 @@ public class NotificationService {
         return notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
     }
 
+    /**
+     * Retrieves one page of a user's notification feed, newest first.
+     * Uses keyset pagination over (createdAt, id) and returns lean DTOs built by the query,
+     * so the cost of a page does not grow with the number of notifications the user has.
+     *
+     * @param username the username of the user
+     * @param cursor opaque cursor returned with the previous page, or null for the first page
+     * @param limit maximum number of notifications per page, or null for the default
+     * @return NotificationPageDTO containing the page and the cursor of the next page
+     * @throws IllegalArgumentException if the user is not found or the cursor is malformed
+     */
+    public NotificationPageDTO getNotificationFeed(String username, String cursor, Integer limit){
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+        int pageSize = limit == null ? DEFAULT_FEED_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_FEED_PAGE_SIZE));
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<NotificationFeedItemDTO> notifications;
+        if (cursor == null || cursor.isBlank()) {
+            notifications = notificationRepository.findFeedPage(user.getId(), pageable);
+        } else {
+            NotificationCursor after = NotificationCursor.decode(cursor);
+            notifications = notificationRepository.findFeedPageAfter(user.getId(), after.getCreatedAt(), after.getId(), pageable);
+        }
+
+        if (notifications.size() <= pageSize) {
+            return new NotificationPageDTO(notifications, null);
+        }
+
+        List<NotificationFeedItemDTO> page = new ArrayList<>(notifications.subList(0, pageSize));
+        NotificationFeedItemDTO last = page.get(pageSize - 1);
+        return new NotificationPageDTO(page, new NotificationCursor(last.getCreatedAt(), last.getId()).encode());
+    }
+
     /**
      * Retrieves only unread notifications for a specific user, ordered by creation time.
      *
@@ -233,16 +379,14 @@ public class NotificationService {
 
     /**
      * Gets the count of unread notifications for a specific user.
+     * Served from the materialized unread counter, without counting notifications.
      *
      * @param username the username of the user
      * @return the number of unread notifications
      * @throws IllegalArgumentException if the user is not found
      */
     public int getUnreadCount(String username){
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
-        return notificationRepository.countByUserIdAndIsRead(user.getId(), false).intValue();
+        return unreadNotificationCounter.get(username);
     }
 
     /**
@@ -254,31 +398,70 @@ public class NotificationService {
     public boolean markAsRead(UUID notificationId){
         return notificationRepository.findById(notificationId)
                 .map(notification -> {
-                    notification.setIsRead(true);
-                    notificationRepository.save(notification);
+                    if (!notification.getIsRead()) {
+                        notification.setIsRead(true);
+                        notificationRepository.save(notification);
+                        notificationPushService.pushUnreadDelta(notification.getUser().getUsername(), -1);
+                    }
                     return true;
                 }).orElse(false);
     }
 
     /**
-     * Marks all notifications for a specific user as read.
+     * Marks all notifications for a specific user as read with a single set-based update.
      *
      * @param username the username of the user
-     * @return true if all notifications were successfully marked as read
+     * @return the number of notifications marked as read
      * @throws IllegalArgumentException if the user is not found
      */
-    public boolean markAllAsRead(String username){
+    @Transactional
+    public int markAllAsRead(String username){
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        List<Notification> unreadNotifications = notificationRepository.findByUserId(user.getId());
+        int marked = notificationRepository.markAllAsReadByUserId(user.getId());
+        notificationPushService.pushUnreadDelta(username, -marked);
+        return marked;
+    }
 
-        for(Notification notification : unreadNotifications){
-            if(!notification.getIsRead()){
-                notification.setIsRead(true);
-                notificationRepository.save(notification);
-            }
+    /**
+     * Marks the given notifications of a specific user as read with a single set-based update.
+     * Notifications that belong to other users or are already read are left unchanged.
+     *
+     * @param username the username of the user
+     * @param notificationIds the unique identifiers of the notifications
+     * @return the number of notifications marked as read
+     * @throws IllegalArgumentException if the user is not found
+     */
+    @Transactional
+    public int markAsRead(String username, Collection<UUID> notificationIds){
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+        if (notificationIds == null || notificationIds.isEmpty()) {
+            return 0;
         }
-        return true;
+
+        int marked = notificationRepository.markAsReadByUserIdAndIdIn(user.getId(), notificationIds);
+        notificationPushService.pushUnreadDelta(username, -marked);
+        return marked;
+    }
+
+    /**
+     * Deletes all notifications of a specific user created before a point in time with a single set-based delete.
+     *
+     * @param username the username of the user
+     * @param before the exclusive upper bound of the creation time
+     * @return the number of notifications deleted
+     * @throws IllegalArgumentException if the user is not found
+     */
+    @Transactional
+    public int deleteNotificationsOlderThan(String username, LocalDateTime before){
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+        DeletedNotifications deleted = notificationRepository.deleteByUserIdCreatedBefore(user.getId(), before);
+        notificationPushService.pushUnreadDelta(username, -deleted.getUnread());
+        return deleted.getDeleted();
     }
 }
@@ -1,12 +1,14 @@
 package com.webapp.Eventified.service;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.webapp.Eventified.dto.admin.UserInfoAdmin;
 import com.webapp.Eventified.dto.user.SportDTO;
@@ -17,8 +19,16 @@ import com.webapp.Eventified.model.SportUser;
 import com.webapp.Eventified.model.User;
 import com.webapp.Eventified.repository.EventParticipantRepository;
 import com.webapp.Eventified.repository.EventRepository;
+import com.webapp.Eventified.repository.EventWaitlistRepository;
+import com.webapp.Eventified.repository.PromotedParticipant;
+import com.webapp.Eventified.repository.ReservedSpot;
 import com.webapp.Eventified.repository.SportUserRepository;
 import com.webapp.Eventified.repository.UserRepository;
+import com.webapp.Eventified.service.geo.EventGeoIndex;
+import com.webapp.Eventified.service.notification.NotificationOutbox;
+import com.webapp.Eventified.service.recommendation.CoParticipationIndex;
+import com.webapp.Eventified.service.recommendation.RecommendationCache;
+import com.webapp.Eventified.util.TransactionCallbacks;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,13 +36,20 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final Integer STATUS_ACTIVE = 0;
+
     private final UserRepository userRepository;
     private final EventParticipantRepository eventParticipantRepository;
     private final SportUserRepository sportUserRepository;
     private final EventRepository eventRepository;
 
     @Autowired
-    private final NotificationService notificationService;
+    private final NotificationOutbox notificationOutbox;
+
+    private final EventGeoIndex eventGeoIndex;
+    private final RecommendationCache recommendationCache;
+    private final CoParticipationIndex coParticipationIndex;
+    private final EventWaitlistRepository eventWaitlistRepository;
 
     /**
      * Retrieves user profile information for a specific user by their ID.
@@ -122,7 +139,8 @@ public class UserService {
 
     /**
      * Allows a user to join an event by creating an EventParticipant record.
-     * Validates that the user exists and hasn't already joined the event.
+     * The spot is taken and the participant inserted by a single conditional statement,
+     * so concurrent joins can never push an event over its capacity.
      * Sets the participant role to 1 (regular participant) and records the join
      * timestamp.
      *
@@ -130,29 +148,54 @@ public class UserService {
      * @param eventId  the unique identifier of the event to join
      * @return boolean true if the user successfully joined the event, false if
      *         already joined
-     * @throws IllegalArgumentException if the user with the specified username is
-     *                                  not found
+     * @throws IllegalArgumentException if the user or event is not found, the event
+     *                                  is not open for joining or the event is full
      */
+    @Transactional
     public boolean joinEvent(String username, UUID eventId) {
 
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        if (eventParticipantRepository.findByUserIdAndEventId(user.getId(), eventId).isPresent()) {
-            return false;
+        Optional<ReservedSpot> spot = eventRepository.reserveSpotAndJoin(eventId, user.getId());
+        if (spot.isEmpty()) {
+            return rejectJoin(user.getId(), eventId);
         }
+        TransactionCallbacks.afterCommit(() -> {
+            recommendationCache.invalidateUser(user.getId());
+            coParticipationIndex.join(user.getId(), eventId, spot.get().getStartTime());
+        });
 
-        EventParticipant participant = new EventParticipant(user.getId(), eventId);
-        eventParticipantRepository.save(participant);
+        notificationOutbox.notifyNewPlayerJoined(eventRepository.getReferenceById(eventId),
+                userRepository.getReferenceById(spot.get().getOrganizerId()), username);
 
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new IllegalArgumentException("Event not found"));
+        return true;
+    }
 
-        notificationService.notifyNewPlayerJoined(event, event.getOrganizer(), username);
+    /**
+     * Works out why a join did not take a spot. Only reached on the rejected path,
+     * so successful joins never pay for these lookups.
+     *
+     * @param userId  the unique identifier of the joining user
+     * @param eventId the unique identifier of the event
+     * @return false if the user has already joined the event
+     * @throws IllegalArgumentException if the event is not found, is not open for
+     *                                  joining or is full
+     */
+    private boolean rejectJoin(UUID userId, UUID eventId) {
+        if (eventParticipantRepository.findByUserIdAndEventId(userId, eventId).isPresent()) {
+            return false;
+        }
 
-        return true;
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("Event not found"));
+        if (!STATUS_ACTIVE.equals(event.getStatusOfEvent())) {
+            throw new IllegalArgumentException("Event is not open for joining");
+        }
+        throw new IllegalArgumentException("Event is full");
     }
 
+    @Transactional
     public boolean leaveEvent(String username, UUID eventId){
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
@@ -167,6 +210,15 @@ public class UserService {
 
         // Delete the participant record
         eventParticipantRepository.delete(participant);
+        TransactionCallbacks.afterCommit(() -> {
+            recommendationCache.invalidateUser(user.getId());
+            coParticipationIndex.leave(user.getId(), eventId);
+        });
+
+        // Hand the freed spot to the head of the waitlist in this transaction
+        eventParticipantRepository.flush();
+        eventWaitlistRepository.promoteNext(eventId)
+                .ifPresent(promoted -> onPromotedFromWaitlist(event, organizer, promoted));
         
         // Check if there are any remaining participants
         List<EventParticipant> remainingParticipants = eventParticipantRepository.findByEventId(eventId);
@@ -174,13 +226,112 @@ public class UserService {
         if (remainingParticipants.isEmpty()) {
             // No participants left, delete the event
             eventRepository.delete(event);
+            TransactionCallbacks.afterCommit(() -> {
+                eventGeoIndex.remove(eventId);
+                recommendationCache.invalidateSport(event.getSport());
+                coParticipationIndex.removeEvent(eventId);
+            });
         } else {
             // Notify organizer that player left (only if event still exists)
-            notificationService.notifyPlayerLeft(event, organizer, username);
+            notificationOutbox.notifyPlayerLeft(event, organizer, username);
         }
         
         return true;
     }
+
+    /**
+     * Adds a user to the FIFO waitlist of a full event.
+     * Users already on the waitlist keep their place.
+     *
+     * @param username the username of the user who wants to wait for a spot
+     * @param eventId  the unique identifier of the full event
+     * @return int the user's 1-based position on the waitlist
+     * @throws IllegalArgumentException if the user or event is not found, the user
+     *                                  has already joined the event, the event is
+     *                                  not open for joining or it still has free spots
+     */
+    @Transactional
+    public int joinWaitlist(String username, UUID eventId) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+        eventWaitlistRepository.enqueue(eventId, user.getId());
+        long position = eventWaitlistRepository.findPosition(eventId, user.getId());
+        if (position == 0) {
+            rejectWaitlist(user.getId(), eventId);
+        }
+        return (int) position;
+    }
+
+    /**
+     * Removes a user from the waitlist of an event.
+     *
+     * @param username the username of the user leaving the waitlist
+     * @param eventId  the unique identifier of the event
+     * @return boolean true if the user was removed, false if they were not on the waitlist
+     * @throws IllegalArgumentException if the user with the specified username is
+     *                                  not found
+     */
+    @Transactional
+    public boolean leaveWaitlist(String username, UUID eventId) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+        return eventWaitlistRepository.removeByEventIdAndUserId(eventId, user.getId()) > 0;
+    }
+
+    /**
+     * Returns a user's position on the waitlist of an event.
+     *
+     * @param username the username of the user
+     * @param eventId  the unique identifier of the event
+     * @return int the user's 1-based position, or 0 if they are not on the waitlist
+     * @throws IllegalArgumentException if the user with the specified username is
+     *                                  not found
+     */
+    public int getWaitlistPosition(String username, UUID eventId) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+        return (int) eventWaitlistRepository.findPosition(eventId, user.getId());
+    }
+
+    /**
+     * Works out why a user could not be added to a waitlist.
+     *
+     * @param userId  the unique identifier of the user
+     * @param eventId the unique identifier of the event
+     * @throws IllegalArgumentException always, describing the reason
+     */
+    private void rejectWaitlist(UUID userId, UUID eventId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("Event not found"));
+        if (eventParticipantRepository.findByUserIdAndEventId(userId, eventId).isPresent()) {
+            throw new IllegalArgumentException("User has already joined the event");
+        }
+        if (!STATUS_ACTIVE.equals(event.getStatusOfEvent())) {
+            throw new IllegalArgumentException("Event is not open for joining");
+        }
+        throw new IllegalArgumentException("Event has free spots, join it directly");
+    }
+
+    /**
+     * Records a waitlist promotion made while a participant left. The promoted user
+     * and the organizer are notified asynchronously through the outbox.
+     *
+     * @param event     the event the user was promoted into
+     * @param organizer the organizer of the event
+     * @param promoted  the promoted user
+     */
+    private void onPromotedFromWaitlist(Event event, User organizer, PromotedParticipant promoted) {
+        TransactionCallbacks.afterCommit(() -> {
+            recommendationCache.invalidateUser(promoted.getUserId());
+            coParticipationIndex.join(promoted.getUserId(), event.getId(), promoted.getStartTime());
+        });
+        notificationOutbox.notifyWaitlistPromoted(event, userRepository.getReferenceById(promoted.getUserId()));
+        notificationOutbox.notifyNewPlayerJoined(event, organizer, promoted.getUsername());
+    }
+
     /**
      * Permanently deletes a user account and all associated data from the system.
      * This operation cascades to remove all related records including sports
@@ -198,6 +349,7 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         userRepository.delete(user);
+        recommendationCache.invalidateUser(user.getId());
         return true;
     }
 
@@ -218,7 +370,9 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         SportUser sportUser = new SportUser(user.getId(), sport, skillLevel);
-        return sportUserRepository.save(sportUser);
+        SportUser saved = sportUserRepository.save(sportUser);
+        recommendationCache.invalidateUser(user.getId());
+        return saved;
     }
 
     /**
@@ -238,6 +392,7 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("Sport not found for user"));
 
         sportUserRepository.delete(sportUser);
+        recommendationCache.invalidateUser(user.getId());
     }
 
     public List<UserInfoAdmin> getAllUserInfoAdmin() {
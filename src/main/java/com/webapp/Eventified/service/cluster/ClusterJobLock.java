@@ -0,0 +1,143 @@
+package com.webapp.Eventified.service.cluster;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.webapp.Eventified.repository.SchedulerLockRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cluster-wide mutual exclusion for scheduled jobs that must run on one node at a time.
+ * Each job has a lease row in scheduler_locks. A node runs the job only if it can take the lease;
+ * other nodes skip that run. The lease expires after lockAtMostFor, so a node that dies while holding it
+ * blocks the job only until then, and it is kept for at least lockAtLeastFor, so nodes whose schedules
+ * are slightly offset do not run the same job back to back.
+ * When called inside a transaction the lease is released after the transaction completes, so no other
+ * node can start the job before this run's changes are committed.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ClusterJobLock {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId;
+
+    /**
+     * Constructs the lock for this node.
+     *
+     * @param schedulerLockRepository repository of job leases
+     * @param meterRegistry registry for acquired and skipped run metrics
+     * @param nodeId identifier of this node, generated from the host name when empty
+     */
+    public ClusterJobLock(SchedulerLockRepository schedulerLockRepository, MeterRegistry meterRegistry,
+            @Value("${app.cluster.node-id:}") String nodeId) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.meterRegistry = meterRegistry;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? generateNodeId() : nodeId;
+    }
+
+    /**
+     * Runs a task if this node can take the job's lease.
+     *
+     * @param name the name of the job
+     * @param lockAtMostFor how long the lease lasts if this node dies while running the task
+     * @param lockAtLeastFor the minimum time the lease is held, even if the task finishes sooner
+     * @param task the task to run
+     * @return true if the task ran on this node
+     */
+    public boolean runExclusively(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+        return callExclusively(name, lockAtMostFor, lockAtLeastFor, () -> {
+            task.run();
+            return Boolean.TRUE;
+        }).isPresent();
+    }
+
+    /**
+     * Calls a task if this node can take the job's lease.
+     *
+     * @param <T> the type of the task's result
+     * @param name the name of the job
+     * @param lockAtMostFor how long the lease lasts if this node dies while running the task
+     * @param lockAtLeastFor the minimum time the lease is held, even if the task finishes sooner
+     * @param task the task to call
+     * @return the task's result, or empty if another node holds the lease
+     */
+    public <T> Optional<T> callExclusively(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Supplier<T> task) {
+        if (schedulerLockRepository.tryLock(name, nodeId, lockAtMostFor.toMillis()) == 0) {
+            count(name, "skipped");
+            log.debug("Skipping job {}, another node holds its lease", name);
+            return Optional.empty();
+        }
+        count(name, "acquired");
+
+        boolean releaseAfterCompletion = TransactionSynchronizationManager.isSynchronizationActive();
+        if (releaseAfterCompletion) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    release(name, lockAtLeastFor);
+                }
+            });
+        }
+
+        try {
+            return Optional.ofNullable(task.get());
+        } finally {
+            if (!releaseAfterCompletion) {
+                release(name, lockAtLeastFor);
+            }
+        }
+    }
+
+    /**
+     * Returns the identifier this node takes leases under.
+     *
+     * @return the node identifier
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void release(String name, Duration lockAtLeastFor) {
+        try {
+            schedulerLockRepository.unlock(name, nodeId, lockAtLeastFor.toMillis());
+        } catch (RuntimeException e) {
+            log.warn("Releasing the lease of job {} failed, it expires on its own", name, e);
+        }
+    }
+
+    private void count(String name, String result) {
+        Counter.builder("eventified.scheduler.lock")
+                .tag("job", name)
+                .tag("result", result)
+                .description("Scheduled job runs by whether this node took the job's lease")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String generateNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,236 @@
+package com.webapp.Eventified.service.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.webapp.Eventified.dto.user.EventMarkerDTO;
+
+/**
+ * Uniform latitude/longitude grid of event positions.
+ * Each cell keeps its events in parallel primitive arrays, so viewport queries only touch
+ * the cells overlapping the viewport and never materialize entities.
+ * This class is not thread-safe; {@link EventGeoIndex} guards it with a lock.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public class EventGeoGrid {
+
+    private static final int INITIAL_CELL_CAPACITY = 4;
+
+    private final double cellSizeDegrees;
+    private final Map<Long, Cell> cells = new HashMap<>();
+    private final Map<UUID, Long> cellKeyByEvent = new HashMap<>();
+
+    /**
+     * Constructs an empty grid with the given cell size.
+     *
+     * @param cellSizeDegrees the width and height of one cell in degrees
+     */
+    public EventGeoGrid(double cellSizeDegrees) {
+        if (cellSizeDegrees <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.cellSizeDegrees = cellSizeDegrees;
+    }
+
+    /**
+     * Inserts an event or moves it to a new position if it is already present.
+     *
+     * @param id the unique identifier of the event
+     * @param latitude the latitude of the event in degrees
+     * @param longitude the longitude of the event in degrees
+     * @param sport the integer identifier of the sport type
+     */
+    public void put(UUID id, double latitude, double longitude, int sport) {
+        remove(id);
+        long key = cellKey(latitude, longitude);
+        cells.computeIfAbsent(key, k -> new Cell()).add(id, latitude, longitude, sport);
+        cellKeyByEvent.put(id, key);
+    }
+
+    /**
+     * Removes an event from the grid.
+     *
+     * @param id the unique identifier of the event
+     * @return true if the event was present
+     */
+    public boolean remove(UUID id) {
+        Long key = cellKeyByEvent.remove(id);
+        if (key == null) {
+            return false;
+        }
+        Cell cell = cells.get(key);
+        cell.remove(id);
+        if (cell.size == 0) {
+            cells.remove(key);
+        }
+        return true;
+    }
+
+    /**
+     * Finds events inside the given viewport.
+     * A viewport with minLongitude greater than maxLongitude wraps around the antimeridian.
+     *
+     * @param minLatitude southern edge in degrees
+     * @param minLongitude western edge in degrees
+     * @param maxLatitude northern edge in degrees
+     * @param maxLongitude eastern edge in degrees
+     * @param limit the maximum number of markers to return
+     * @return List of at most limit markers inside the viewport
+     */
+    public List<EventMarkerDTO> query(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, int limit) {
+        List<EventMarkerDTO> result = new ArrayList<>();
+        if (minLongitude > maxLongitude) {
+            collect(minLatitude, minLongitude, maxLatitude, 180.0, limit, result);
+            collect(minLatitude, -180.0, maxLatitude, maxLongitude, limit, result);
+        } else {
+            collect(minLatitude, minLongitude, maxLatitude, maxLongitude, limit, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of events in the grid.
+     *
+     * @return the event count
+     */
+    public int size() {
+        return cellKeyByEvent.size();
+    }
+
+    /**
+     * Returns the number of non-empty cells in the grid.
+     *
+     * @return the cell count
+     */
+    public int cellCount() {
+        return cells.size();
+    }
+
+    /**
+     * Returns a snapshot of the identifiers of all indexed events.
+     *
+     * @return Set of event identifiers
+     */
+    public Set<UUID> ids() {
+        return new HashSet<>(cellKeyByEvent.keySet());
+    }
+
+    /**
+     * Collects markers of a viewport that does not cross the antimeridian.
+     * Iterates the non-empty cells instead of the covered cell range when that is cheaper.
+     */
+    private void collect(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, int limit, List<EventMarkerDTO> result) {
+        int minRow = row(minLatitude);
+        int maxRow = row(maxLatitude);
+        int minColumn = column(minLongitude);
+        int maxColumn = column(maxLongitude);
+        long coveredCells = (long) (maxRow - minRow + 1) * (maxColumn - minColumn + 1);
+
+        if (coveredCells > cells.size()) {
+            for (Cell cell : cells.values()) {
+                if (!cell.collect(minLatitude, minLongitude, maxLatitude, maxLongitude, limit, result)) {
+                    return;
+                }
+            }
+            return;
+        }
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                Cell cell = cells.get(key(row, column));
+                if (cell != null && !cell.collect(minLatitude, minLongitude, maxLatitude, maxLongitude, limit, result)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return key(row(latitude), column(longitude));
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor((Math.max(-90.0, Math.min(90.0, latitude)) + 90.0) / cellSizeDegrees);
+    }
+
+    private int column(double longitude) {
+        return (int) Math.floor((Math.max(-180.0, Math.min(180.0, longitude)) + 180.0) / cellSizeDegrees);
+    }
+
+    private static long key(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+
+    /**
+     * One grid cell holding its events in parallel primitive arrays.
+     * Removal swaps the last entry into the freed slot, so arrays stay dense.
+     */
+    private static final class Cell {
+        private long[] idMostBits = new long[INITIAL_CELL_CAPACITY];
+        private long[] idLeastBits = new long[INITIAL_CELL_CAPACITY];
+        private double[] latitudes = new double[INITIAL_CELL_CAPACITY];
+        private double[] longitudes = new double[INITIAL_CELL_CAPACITY];
+        private int[] sports = new int[INITIAL_CELL_CAPACITY];
+        private int size;
+
+        private void add(UUID id, double latitude, double longitude, int sport) {
+            if (size == latitudes.length) {
+                int capacity = size * 2;
+                idMostBits = Arrays.copyOf(idMostBits, capacity);
+                idLeastBits = Arrays.copyOf(idLeastBits, capacity);
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+                sports = Arrays.copyOf(sports, capacity);
+            }
+            idMostBits[size] = id.getMostSignificantBits();
+            idLeastBits[size] = id.getLeastSignificantBits();
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            sports[size] = sport;
+            size++;
+        }
+
+        private void remove(UUID id) {
+            long mostBits = id.getMostSignificantBits();
+            long leastBits = id.getLeastSignificantBits();
+            for (int i = 0; i < size; i++) {
+                if (idMostBits[i] == mostBits && idLeastBits[i] == leastBits) {
+                    int last = --size;
+                    idMostBits[i] = idMostBits[last];
+                    idLeastBits[i] = idLeastBits[last];
+                    latitudes[i] = latitudes[last];
+                    longitudes[i] = longitudes[last];
+                    sports[i] = sports[last];
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Adds the markers of this cell lying inside the viewport to the result.
+         *
+         * @return false once the result has reached the limit
+         */
+        private boolean collect(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, int limit, List<EventMarkerDTO> result) {
+            for (int i = 0; i < size; i++) {
+                double latitude = latitudes[i];
+                double longitude = longitudes[i];
+                if (latitude >= minLatitude && latitude <= maxLatitude && longitude >= minLongitude && longitude <= maxLongitude) {
+                    if (result.size() >= limit) {
+                        return false;
+                    }
+                    result.add(new EventMarkerDTO(new UUID(idMostBits[i], idLeastBits[i]), latitude, longitude, sports[i]));
+                }
+            }
+            return true;
+        }
+    }
+}
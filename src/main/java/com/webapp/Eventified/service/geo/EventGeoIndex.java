@@ -0,0 +1,248 @@
+package com.webapp.Eventified.service.geo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.webapp.Eventified.dto.user.EventMarkerDTO;
+import com.webapp.Eventified.model.Event;
+import com.webapp.Eventified.repository.EventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory spatial index of active (upcoming) events used by the map view.
+ * Built from the database when the application starts and kept up to date incrementally
+ * by the services that create, change or close events. A periodic consistency check
+ * compares the index with the database and rebuilds it when they differ.
+ * Changes made while a rebuild reads the database are journaled and replayed onto the new grid
+ * before it is swapped in, so they are not lost.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class EventGeoIndex {
+
+    private static final Integer STATUS_ACTIVE = 0;
+
+    private final EventRepository eventRepository;
+    private final double cellSizeDegrees;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Timer queryTimer;
+    private final Counter repairCounter;
+    private final Object rebuildMonitor = new Object();
+
+    private EventGeoGrid grid;
+    private List<Consumer<EventGeoGrid>> journal;
+
+    /**
+     * Constructs the index and registers its metrics.
+     *
+     * @param eventRepository repository used to build and verify the index
+     * @param meterRegistry registry for index size, query latency and repair metrics
+     * @param cellSizeDegrees the width and height of one grid cell in degrees
+     */
+    public EventGeoIndex(EventRepository eventRepository, MeterRegistry meterRegistry,
+            @Value("${app.geo-index.cell-size-degrees:0.1}") double cellSizeDegrees) {
+        this.eventRepository = eventRepository;
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.grid = new EventGeoGrid(cellSizeDegrees);
+        this.queryTimer = Timer.builder("eventified.geo.index.query")
+                .description("Latency of viewport queries against the in-memory geo index")
+                .register(meterRegistry);
+        this.repairCounter = Counter.builder("eventified.geo.index.repairs")
+                .description("Number of times the geo index was rebuilt after drifting from the database")
+                .register(meterRegistry);
+        Gauge.builder("eventified.geo.index.size", this, EventGeoIndex::size)
+                .description("Number of active events in the in-memory geo index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Rebuilds the whole index from active events in the database.
+     * The new grid is built without holding the lock. Changes applied to the index in the meantime
+     * are journaled and replayed onto the new grid before it is swapped in.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildMonitor) {
+            rebuildGrid();
+        }
+    }
+
+    private void rebuildGrid() {
+        lock.writeLock().lock();
+        try {
+            journal = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        EventGeoGrid rebuilt = new EventGeoGrid(cellSizeDegrees);
+        try {
+            List<EventMarkerDTO> markers = eventRepository.findMarkersByStatusOfEvent(STATUS_ACTIVE);
+            for (EventMarkerDTO marker : markers) {
+                rebuilt.put(marker.getId(), marker.getLatitude(), marker.getLongitude(), marker.getSport());
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                journal = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            replayed = journal.size();
+            journal.forEach(change -> change.accept(rebuilt));
+            journal = null;
+            grid = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Geo index built with {} active events in {} cells, {} concurrent changes replayed",
+                rebuilt.size(), rebuilt.cellCount(), replayed);
+    }
+
+    /**
+     * Adds, moves or removes an event depending on its current status.
+     * Only active events are kept in the index.
+     *
+     * @param event the event whose state changed
+     */
+    public void upsert(Event event) {
+        if (event.getId() == null) {
+            return;
+        }
+        if (!STATUS_ACTIVE.equals(event.getStatusOfEvent())) {
+            remove(event.getId());
+            return;
+        }
+
+        UUID id = event.getId();
+        double latitude = event.getLatitude().doubleValue();
+        double longitude = event.getLongitude().doubleValue();
+        int sport = event.getSport();
+        apply(target -> target.put(id, latitude, longitude, sport));
+    }
+
+    /**
+     * Removes an event from the index.
+     *
+     * @param eventId the unique identifier of the event
+     */
+    public void remove(UUID eventId) {
+        apply(target -> target.remove(eventId));
+    }
+
+    /**
+     * Removes several events from the index under a single lock acquisition.
+     *
+     * @param eventIds the unique identifiers of the events
+     */
+    public void removeAll(Collection<UUID> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = List.copyOf(eventIds);
+        apply(target -> ids.forEach(target::remove));
+    }
+
+    /**
+     * Applies a change to the current grid and, while a rebuild is running, journals it for the new grid.
+     *
+     * @param change the change to apply
+     */
+    private void apply(Consumer<EventGeoGrid> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(grid);
+            if (journal != null) {
+                journal.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds active events inside the given viewport.
+     *
+     * @param minLatitude southern edge in degrees
+     * @param minLongitude western edge in degrees
+     * @param maxLatitude northern edge in degrees
+     * @param maxLongitude eastern edge in degrees
+     * @param limit the maximum number of markers to return
+     * @return List of event markers inside the viewport
+     */
+    public List<EventMarkerDTO> query(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, int limit) {
+        return queryTimer.record(() -> {
+            lock.readLock().lock();
+            try {
+                return grid.query(minLatitude, minLongitude, maxLatitude, maxLongitude, limit);
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Returns the number of events currently in the index.
+     *
+     * @return the event count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return grid.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scheduled consistency check comparing the indexed events with active events in the database.
+     * Rebuilds the index if any event is missing or stale.
+     */
+    @Scheduled(fixedDelayString = "${app.geo-index.consistency-check-ms:900000}", initialDelayString = "${app.geo-index.consistency-check-ms:900000}")
+    public void verifyConsistency() {
+        Set<UUID> indexed;
+        lock.readLock().lock();
+        try {
+            indexed = grid.ids();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Set<UUID> active = Set.copyOf(eventRepository.findIdsByStatusOfEvent(STATUS_ACTIVE));
+
+        if (!indexed.equals(active)) {
+            long missing = active.stream().filter(id -> !indexed.contains(id)).count();
+            long stale = indexed.stream().filter(id -> !active.contains(id)).count();
+            log.warn("Geo index drifted from database ({} missing, {} stale), rebuilding", missing, stale);
+            repairCounter.increment();
+            rebuild();
+        }
+    }
+}
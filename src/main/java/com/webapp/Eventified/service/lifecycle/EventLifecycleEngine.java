@@ -0,0 +1,202 @@
+package com.webapp.Eventified.service.lifecycle;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.webapp.Eventified.model.Event;
+import com.webapp.Eventified.repository.EventDeadline;
+import com.webapp.Eventified.repository.EventRepository;
+import com.webapp.Eventified.repository.EventTransition;
+import com.webapp.Eventified.service.geo.EventGeoIndex;
+import com.webapp.Eventified.service.recommendation.RecommendationCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drives the ACTIVE to ONGOING to PAST lifecycle of events from in-memory deadlines.
+ * Start and end times of active and ongoing events are kept in two {@link HierarchicalTimerWheel}s,
+ * seeded from the database at startup and kept current by {@link com.webapp.Eventified.service.EventService}
+ * on create, update and cancel. Every tick advances the wheels and, when a start or end deadline fell due,
+ * runs the same set-based transition statements as the status sweep in
+ * {@link com.webapp.Eventified.service.EventStatusSchedulerService}. Those statements only touch rows that are
+ * due according to the index on status and time, so events change status within a tick of their start or end
+ * time without the database being scanned, stale deadlines are harmless, and the engine and the sweep can never
+ * disagree about an event at the exact boundary. Transitions missed because an UPDATE failed are caught by the sweep.
+ * Once a transition commits, the events are dropped from the geo index and cached recommendations in their sports are invalidated.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class EventLifecycleEngine {
+
+    private static final Integer STATUS_ACTIVE = 0;
+    private static final Integer STATUS_ONGOING = 1;
+
+    private final EventRepository eventRepository;
+    private final EventGeoIndex eventGeoIndex;
+    private final RecommendationCache recommendationCache;
+    private final TransactionTemplate transactionTemplate;
+    private final HierarchicalTimerWheel<UUID> startWheel;
+    private final HierarchicalTimerWheel<UUID> endWheel;
+    private final Counter ongoingCounter;
+    private final Counter pastCounter;
+
+    /**
+     * Constructs the engine with empty wheels and registers its metrics.
+     *
+     * @param eventRepository repository used to seed deadlines and apply transitions
+     * @param eventGeoIndex index that no longer lists events once they start or end
+     * @param recommendationCache cache whose entries no longer apply once an event starts or ends
+     * @param transactionManager transaction manager for the transition transactions
+     * @param meterRegistry registry for transition and scheduled deadline metrics
+     * @param tickMs the length of one wheel tick in milliseconds
+     */
+    public EventLifecycleEngine(EventRepository eventRepository, EventGeoIndex eventGeoIndex,
+            RecommendationCache recommendationCache, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${app.events.lifecycle.tick-ms:1000}") long tickMs) {
+        this.eventRepository = eventRepository;
+        this.eventGeoIndex = eventGeoIndex;
+        this.recommendationCache = recommendationCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        long now = System.currentTimeMillis();
+        this.startWheel = new HierarchicalTimerWheel<>(tickMs, now);
+        this.endWheel = new HierarchicalTimerWheel<>(tickMs, now);
+        this.ongoingCounter = Counter.builder("eventified.event.lifecycle.transitions")
+                .tag("to", "ongoing")
+                .description("Events moved to a new status by the lifecycle engine")
+                .register(meterRegistry);
+        this.pastCounter = Counter.builder("eventified.event.lifecycle.transitions")
+                .tag("to", "past")
+                .description("Events moved to a new status by the lifecycle engine")
+                .register(meterRegistry);
+        Gauge.builder("eventified.event.lifecycle.scheduled", this, EventLifecycleEngine::scheduled)
+                .description("Start and end deadlines waiting in the lifecycle wheels")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the deadlines of all active and ongoing events at startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        List<EventDeadline> deadlines = eventRepository.findDeadlinesByStatusOfEventIn(List.of(STATUS_ACTIVE, STATUS_ONGOING));
+        synchronized (this) {
+            for (EventDeadline deadline : deadlines) {
+                schedule(deadline.getId(), deadline.getStatusOfEvent(), deadline.getStartTime(), deadline.getEndTime());
+            }
+        }
+        log.info("Event lifecycle engine seeded with {} events", deadlines.size());
+    }
+
+    /**
+     * Schedules or reschedules the transitions of a created or updated event.
+     * Events that are neither active nor ongoing are unscheduled.
+     *
+     * @param event the event whose deadlines changed
+     */
+    public synchronized void schedule(Event event) {
+        if (event.getId() == null) {
+            return;
+        }
+        schedule(event.getId(), event.getStatusOfEvent(), event.getStartTime(), event.getEndTime());
+    }
+
+    /**
+     * Removes all pending transitions of an event, e.g. when it is cancelled.
+     *
+     * @param eventId the unique identifier of the event
+     */
+    public synchronized void unschedule(UUID eventId) {
+        startWheel.cancel(eventId);
+        endWheel.cancel(eventId);
+    }
+
+    /**
+     * Advances the wheels and applies the transitions that fell due since the previous tick.
+     *
+     * @return the number of events whose status changed
+     */
+    @Scheduled(fixedRateString = "${app.events.lifecycle.tick-ms:1000}")
+    public int tick() {
+        List<UUID> started;
+        List<UUID> ended;
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            started = startWheel.advance(now);
+            ended = endWheel.advance(now);
+        }
+        if (started.isEmpty() && ended.isEmpty()) {
+            return 0;
+        }
+
+        List<EventTransition> changed;
+        try {
+            changed = transactionTemplate.execute(status -> transition(!started.isEmpty(), !ended.isEmpty()));
+        } catch (RuntimeException e) {
+            log.error("Applying {} start and {} end transitions failed, leaving them to the status sweep",
+                    started.size(), ended.size(), e);
+            return 0;
+        }
+        if (changed == null || changed.isEmpty()) {
+            return 0;
+        }
+
+        eventGeoIndex.removeAll(changed.stream().map(EventTransition::getId).toList());
+        changed.stream().map(EventTransition::getSport).collect(Collectors.toSet()).forEach(recommendationCache::invalidateSport);
+        return changed.size();
+    }
+
+    private List<EventTransition> transition(boolean anyStarted, boolean anyEnded) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EventTransition> past = anyEnded ? eventRepository.markEndedEventsAsPast(now) : List.of();
+        List<EventTransition> ongoing = anyStarted ? eventRepository.markStartedEventsAsOngoing(now) : List.of();
+
+        List<EventTransition> changed = new ArrayList<>(past);
+        changed.addAll(ongoing);
+
+        pastCounter.increment(past.size());
+        ongoingCounter.increment(ongoing.size());
+        if (!changed.isEmpty()) {
+            log.info("Lifecycle transitions applied. Events marked as PAST: {}, Events marked as ONGOING: {}", past.size(), ongoing.size());
+        }
+        return changed;
+    }
+
+    private void schedule(UUID eventId, Integer statusOfEvent, LocalDateTime startTime, LocalDateTime endTime) {
+        if (STATUS_ACTIVE.equals(statusOfEvent)) {
+            startWheel.schedule(eventId, toEpochMilli(startTime));
+        } else {
+            startWheel.cancel(eventId);
+        }
+        if (STATUS_ACTIVE.equals(statusOfEvent) || STATUS_ONGOING.equals(statusOfEvent)) {
+            endWheel.schedule(eventId, toEpochMilli(endTime));
+        } else {
+            endWheel.cancel(eventId);
+        }
+    }
+
+    private synchronized int scheduled() {
+        return startWheel.size() + endWheel.size();
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,170 @@
+package com.webapp.Eventified.service.lifecycle;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timer wheel holding one deadline per key.
+ * Time is divided into ticks of a fixed length. Level 0 has one slot per tick for the next 64 ticks,
+ * and every further level has 64 slots that each span 64 slots of the level below, so four levels
+ * cover 64^4 ticks (about 194 days at one-second ticks); later deadlines wait in an overflow list.
+ * When a lower level wraps around, the matching slot of the level above is cascaded down.
+ * Scheduling, rescheduling and cancelling are O(1); advancing costs one step per elapsed tick plus
+ * the deadlines that fire or cascade. Deadlines fire on the first tick at or after them, never early.
+ * Cancelled entries are only marked and are dropped when their slot is next visited.
+ * Instances are not thread-safe; callers synchronize.
+ *
+ * @param <K> the type of the keys
+ * @author Eventified Team
+ * @version 1.0
+ */
+public class HierarchicalTimerWheel<K> {
+
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long SPAN = 1L << (SLOT_BITS * LEVELS);
+
+    private final long tickMs;
+    private final List<List<Entry<K>>> slots = new ArrayList<>(LEVELS * SLOTS);
+    private final List<Entry<K>> overflow = new ArrayList<>();
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private long currentTick;
+
+    /**
+     * Constructs an empty wheel.
+     *
+     * @param tickMs the length of one tick in milliseconds
+     * @param nowMs the current time in epoch milliseconds
+     */
+    public HierarchicalTimerWheel(long tickMs, long nowMs) {
+        if (tickMs <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        this.tickMs = tickMs;
+        this.currentTick = Math.floorDiv(nowMs, tickMs);
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Schedules a key, replacing any deadline it already has. Deadlines in the past fire on the next tick.
+     *
+     * @param key the key to schedule
+     * @param deadlineMs the deadline in epoch milliseconds
+     */
+    public void schedule(K key, long deadlineMs) {
+        cancel(key);
+        long deadlineTick = Math.max(ceilDiv(deadlineMs, tickMs), currentTick + 1);
+        Entry<K> entry = new Entry<>(key, deadlineTick);
+        entries.put(key, entry);
+        place(entry);
+    }
+
+    /**
+     * Cancels the deadline of a key, if it has one.
+     *
+     * @param key the key to cancel
+     * @return true if a deadline was cancelled
+     */
+    public boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.cancelled = true;
+        return true;
+    }
+
+    /**
+     * Advances the wheel to the given time and returns the keys whose deadlines were reached.
+     *
+     * @param nowMs the current time in epoch milliseconds
+     * @return List of the keys that fired, in deadline order
+     */
+    public List<K> advance(long nowMs) {
+        long targetTick = Math.floorDiv(nowMs, tickMs);
+        List<K> fired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+
+            List<Entry<K>> slot = slot(0, (int) (currentTick & SLOT_MASK));
+            for (Entry<K> entry : slot) {
+                if (!entry.cancelled) {
+                    entries.remove(entry.key);
+                    fired.add(entry.key);
+                }
+            }
+            slot.clear();
+        }
+        return fired;
+    }
+
+    /**
+     * Returns the number of keys with a pending deadline.
+     *
+     * @return the number of scheduled keys
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                return;
+            }
+            int index = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            replace(slot(level, index));
+        }
+        if ((currentTick & (SPAN - 1)) == 0) {
+            replace(overflow);
+        }
+    }
+
+    private void replace(List<Entry<K>> pending) {
+        List<Entry<K>> moved = new ArrayList<>(pending);
+        pending.clear();
+        for (Entry<K> entry : moved) {
+            if (!entry.cancelled) {
+                place(entry);
+            }
+        }
+    }
+
+    private void place(Entry<K> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < (1L << (SLOT_BITS * (level + 1)))) {
+                int index = (int) ((entry.deadlineTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+                slot(level, index).add(entry);
+                return;
+            }
+        }
+        overflow.add(entry);
+    }
+
+    private List<Entry<K>> slot(int level, int index) {
+        return slots.get(level * SLOTS + index);
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long deadlineTick;
+        private boolean cancelled;
+
+        private Entry(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.webapp.Eventified.service.notification;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.webapp.Eventified.model.Event;
+import com.webapp.Eventified.model.NotificationOutboxEntry;
+import com.webapp.Eventified.model.User;
+import com.webapp.Eventified.repository.EventRepository;
+import com.webapp.Eventified.repository.NotificationOutboxRepository;
+import com.webapp.Eventified.repository.OutboxCoalescingKey;
+import com.webapp.Eventified.repository.UserRepository;
+import com.webapp.Eventified.service.NotificationService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coalescing stage for high-churn player joined and player left notifications.
+ * Instead of writing one notification per join or leave, their outbox entries are left in the outbox by the
+ * {@link NotificationDispatcher} and merged here per (recipient, event, type). A scheduled flush writes one
+ * aggregated notification per key once the key's window, measured from its oldest entry, has elapsed, so a burst
+ * of joins becomes a single "5 players joined" row. Each key is claimed with FOR UPDATE SKIP LOCKED and its entries
+ * are deleted in the same transaction as the aggregated notification, so nothing is lost if the process dies,
+ * nothing is written twice if the transaction rolls back, and nodes of a cluster split the keys between them.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Component
+public class NotificationCoalescer {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationService notificationService;
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final OutboxRetryPolicy outboxRetryPolicy;
+    private final TransactionTemplate transactionTemplate;
+    private final long windowMs;
+    private final Counter bufferedCounter;
+    private final Counter writtenCounter;
+
+    /**
+     * Constructs the coalescer and registers its metrics.
+     *
+     * @param notificationOutboxRepository repository of pending outbox entries
+     * @param notificationService service creating the aggregated notifications
+     * @param eventRepository repository used to load the events of flushed keys
+     * @param userRepository repository used to reference the recipients of flushed keys
+     * @param outboxRetryPolicy policy postponing and eventually dropping entries that fail to be written
+     * @param transactionManager transaction manager for the flush transactions
+     * @param meterRegistry registry for coalesced and written notification metrics
+     * @param windowMs how long notifications of one key are collected before they are written
+     */
+    public NotificationCoalescer(NotificationOutboxRepository notificationOutboxRepository, NotificationService notificationService,
+            EventRepository eventRepository, UserRepository userRepository, OutboxRetryPolicy outboxRetryPolicy,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${app.notifications.coalescing.window-ms:60000}") long windowMs) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationService = notificationService;
+        this.eventRepository = eventRepository;
+        this.userRepository = userRepository;
+        this.outboxRetryPolicy = outboxRetryPolicy;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.windowMs = windowMs;
+        this.bufferedCounter = Counter.builder("eventified.notification.coalescing.buffered")
+                .description("Player joined and left outbox entries merged into aggregated notifications")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("eventified.notification.coalescing.written")
+                .description("Aggregated notifications written by the coalescing stage")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled flush writing one aggregated notification for every key whose window has closed.
+     *
+     * @return the number of aggregated notifications written
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.coalescing.flush-ms:5000}")
+    public int flush() {
+        LocalDateTime openedBefore = LocalDateTime.now().minus(Duration.ofMillis(windowMs));
+        int written = 0;
+        for (OutboxCoalescingKey key : notificationOutboxRepository.findDueCoalescingKeys(openedBefore)) {
+            written += flush(key);
+        }
+        return written;
+    }
+
+    private int flush(OutboxCoalescingKey key) {
+        List<Long> claimedIds = new ArrayList<>();
+        try {
+            Integer written = transactionTemplate.execute(status -> {
+                List<NotificationOutboxEntry> entries = notificationOutboxRepository.claimCoalescingKey(
+                        key.getTypeOfNotification(), key.getEventId(), key.getRecipientId());
+                entries.forEach(entry -> claimedIds.add(entry.getId()));
+                int result = write(key, entries);
+                notificationOutboxRepository.deleteAllInBatch(entries);
+                return result;
+            });
+            return written == null ? 0 : written;
+        } catch (RuntimeException e) {
+            claimedIds.forEach(id -> outboxRetryPolicy.recordFailure(id, e));
+            return 0;
+        }
+    }
+
+    private int write(OutboxCoalescingKey key, List<NotificationOutboxEntry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        bufferedCounter.increment(entries.size());
+
+        Optional<Event> event = eventRepository.findById(key.getEventId());
+        if (event.isEmpty()) {
+            return 0;
+        }
+
+        User recipient = userRepository.getReferenceById(key.getRecipientId());
+        List<String> playerUsernames = entries.stream().map(NotificationOutboxEntry::getActorUsername).toList();
+        if (key.getTypeOfNotification() == NotificationOutbox.NEW_PLAYER_JOINED) {
+            notificationService.notifyPlayersJoined(event.get(), recipient, playerUsernames);
+        } else {
+            notificationService.notifyPlayersLeft(event.get(), recipient, playerUsernames);
+        }
+        writtenCounter.increment();
+        return 1;
+    }
+}
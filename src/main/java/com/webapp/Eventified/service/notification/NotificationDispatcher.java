@@ -0,0 +1,222 @@
+package com.webapp.Eventified.service.notification;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.webapp.Eventified.model.Event;
+import com.webapp.Eventified.model.NotificationOutboxEntry;
+import com.webapp.Eventified.repository.EventRepository;
+import com.webapp.Eventified.repository.NotificationOutboxRepository;
+import com.webapp.Eventified.service.NotificationService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read side of the transactional notification outbox.
+ * A scheduled poll measures the outbox depth and starts up to a fixed number of workers.
+ * Each worker claims batches of entries with FOR UPDATE SKIP LOCKED, creates their notifications
+ * through the {@link NotificationService} and deletes them in the same transaction, until the outbox is drained.
+ * Player joined and player left entries are left in the outbox for the {@link NotificationCoalescer}, which merges
+ * them per recipient and event before writing.
+ * The outbox table is the buffer: when producers outpace the workers, entries wait in the table
+ * instead of piling up in memory, and the depth and lag metrics grow.
+ * If a batch fails, its entries are retried one by one so a single failing entry cannot block the others.
+ * An entry that fails on its own is handed to the {@link OutboxRetryPolicy}, which postpones it
+ * and drops it only once it has failed a fixed number of times.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final EventRepository eventRepository;
+    private final NotificationService notificationService;
+    private final OutboxRetryPolicy outboxRetryPolicy;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int workers;
+    private final ExecutorService executor;
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final AtomicLong depth = new AtomicLong();
+    private final Counter dispatchedCounter;
+    private final Timer lagTimer;
+
+    /**
+     * Constructs the dispatcher, its worker pool and its metrics.
+     *
+     * @param notificationOutboxRepository repository of pending outbox entries
+     * @param eventRepository repository used to load the events of claimed entries
+     * @param notificationService service creating the notifications
+     * @param outboxRetryPolicy policy postponing and eventually dropping entries that fail to dispatch
+     * @param transactionManager transaction manager for the claim-dispatch-delete transactions
+     * @param meterRegistry registry for depth, lag and throughput metrics
+     * @param batchSize the maximum number of entries claimed per transaction
+     * @param workers the maximum number of concurrently draining workers
+     */
+    public NotificationDispatcher(NotificationOutboxRepository notificationOutboxRepository, EventRepository eventRepository,
+            NotificationService notificationService, OutboxRetryPolicy outboxRetryPolicy,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${app.notifications.outbox.batch-size:200}") int batchSize,
+            @Value("${app.notifications.outbox.workers:4}") int workers) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.eventRepository = eventRepository;
+        this.notificationService = notificationService;
+        this.outboxRetryPolicy = outboxRetryPolicy;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.workers = workers;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "notification-dispatch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatchedCounter = Counter.builder("eventified.notification.outbox.dispatched")
+                .description("Outbox entries turned into notifications")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("eventified.notification.outbox.lag")
+                .description("Time between writing an outbox entry and dispatching it")
+                .register(meterRegistry);
+        Gauge.builder("eventified.notification.outbox.depth", depth, AtomicLong::get)
+                .description("Outbox entries waiting to be dispatched at the last poll, excluding entries waiting to be coalesced")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled poll measuring the outbox depth and starting idle workers while there is work for them.
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.outbox.poll-ms:500}")
+    public void poll() {
+        long pending = notificationOutboxRepository.countDispatchable();
+        depth.set(pending);
+
+        while (pending > 0 && tryStartWorker()) {
+            executor.execute(this::drain);
+            pending -= batchSize;
+        }
+    }
+
+    /**
+     * Claims, dispatches and deletes one batch of outbox entries.
+     *
+     * @return the number of entries processed
+     */
+    public int dispatchBatch() {
+        try {
+            Integer dispatched = transactionTemplate.execute(status -> dispatch(notificationOutboxRepository.claimBatch(batchSize)));
+            return dispatched == null ? 0 : dispatched;
+        } catch (RuntimeException e) {
+            log.warn("Dispatching a batch of outbox entries failed, retrying them one by one", e);
+            return dispatchIndividually();
+        }
+    }
+
+    /**
+     * Stops the worker pool, giving running batches a moment to finish.
+     *
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private boolean tryStartWorker() {
+        int active;
+        do {
+            active = activeWorkers.get();
+            if (active >= workers) {
+                return false;
+            }
+        } while (!activeWorkers.compareAndSet(active, active + 1));
+        return true;
+    }
+
+    private void drain() {
+        try {
+            int dispatched;
+            do {
+                dispatched = dispatchBatch();
+            } while (dispatched == batchSize && !executor.isShutdown());
+        } finally {
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    private int dispatchIndividually() {
+        List<Long> ids = transactionTemplate.execute(status -> notificationOutboxRepository.claimBatch(batchSize).stream()
+                .map(NotificationOutboxEntry::getId)
+                .toList());
+        if (ids == null) {
+            return 0;
+        }
+
+        for (Long id : ids) {
+            try {
+                transactionTemplate.execute(status -> dispatch(notificationOutboxRepository.claimById(id).stream().toList()));
+            } catch (RuntimeException e) {
+                outboxRetryPolicy.recordFailure(id, e);
+            }
+        }
+        return ids.size();
+    }
+
+    private int dispatch(List<NotificationOutboxEntry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        Set<UUID> eventIds = entries.stream().map(NotificationOutboxEntry::getEventId).collect(Collectors.toSet());
+        Map<UUID, Event> events = eventRepository.findAllById(eventIds).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        LocalDateTime now = LocalDateTime.now();
+
+        for (NotificationOutboxEntry entry : entries) {
+            Event event = events.get(entry.getEventId());
+            if (event != null) {
+                dispatch(entry, event);
+            }
+            lagTimer.record(Duration.between(entry.getCreatedAt(), now));
+        }
+
+        notificationOutboxRepository.deleteAllInBatch(entries);
+        dispatchedCounter.increment(entries.size());
+        return entries.size();
+    }
+
+    private void dispatch(NotificationOutboxEntry entry, Event event) {
+        switch (entry.getTypeOfNotification()) {
+            case NotificationOutbox.NEW_EVENT_RECOMMENDATION -> notificationService.notifyUsersOfNewEvent(event);
+            case NotificationOutbox.EVENT_CANCELLED -> notificationService.notifyEventCancelled(event);
+            case NotificationOutbox.EVENT_UPDATE -> notificationService.notifyEventUpdate(event);
+            case NotificationOutbox.WAITLIST_PROMOTED -> notificationService.notifyWaitlistPromoted(event, entry.getRecipientId());
+            default -> log.warn("Skipping outbox entry {} with unknown notification type {}", entry.getId(), entry.getTypeOfNotification());
+        }
+    }
+}
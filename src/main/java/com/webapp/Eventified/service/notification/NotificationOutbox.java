@@ -0,0 +1,100 @@
+package com.webapp.Eventified.service.notification;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.webapp.Eventified.model.Event;
+import com.webapp.Eventified.model.NotificationOutboxEntry;
+import com.webapp.Eventified.model.User;
+import com.webapp.Eventified.repository.NotificationOutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Write side of the transactional notification outbox.
+ * Request-handling services record the notifications they trigger here, in their own transaction,
+ * instead of creating them synchronously. The entries are turned into notifications later by the
+ * {@link NotificationDispatcher}, so request latency does not depend on the number of recipients.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class NotificationOutbox {
+
+    public static final int NEW_EVENT_RECOMMENDATION = 1;
+    public static final int EVENT_CANCELLED = 2;
+    public static final int NEW_PLAYER_JOINED = 5;
+    public static final int EVENT_UPDATE = 6;
+    public static final int PLAYER_LEFT = 7;
+    public static final int WAITLIST_PROMOTED = 9;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    /**
+     * Records that users interested in the sport and skill level of a new event should be notified.
+     *
+     * @param event the newly created event
+     */
+    public void notifyUsersOfNewEvent(Event event) {
+        enqueue(NEW_EVENT_RECOMMENDATION, event, null, null);
+    }
+
+    /**
+     * Records that all participants of an event should be notified of its cancellation.
+     *
+     * @param event the cancelled event
+     */
+    public void notifyEventCancelled(Event event) {
+        enqueue(EVENT_CANCELLED, event, null, null);
+    }
+
+    /**
+     * Records that all participants of an event should be notified of its update.
+     *
+     * @param event the updated event
+     */
+    public void notifyEventUpdate(Event event) {
+        enqueue(EVENT_UPDATE, event, null, null);
+    }
+
+    /**
+     * Records that the organizer should be notified of a new player.
+     *
+     * @param event the event the player joined
+     * @param organizer the organizer of the event
+     * @param playerUsername the username of the player who joined
+     */
+    public void notifyNewPlayerJoined(Event event, User organizer, String playerUsername) {
+        enqueue(NEW_PLAYER_JOINED, event, organizer, playerUsername);
+    }
+
+    /**
+     * Records that the organizer should be notified of a player leaving.
+     *
+     * @param event the event the player left
+     * @param organizer the organizer of the event
+     * @param playerUsername the username of the player who left
+     */
+    public void notifyPlayerLeft(Event event, User organizer, String playerUsername) {
+        enqueue(PLAYER_LEFT, event, organizer, playerUsername);
+    }
+
+    /**
+     * Records that a user should be notified of being promoted from the waitlist of an event.
+     *
+     * @param event the event the user was added to
+     * @param participant the promoted user
+     */
+    public void notifyWaitlistPromoted(Event event, User participant) {
+        enqueue(WAITLIST_PROMOTED, event, participant, null);
+    }
+
+    private void enqueue(int typeOfNotification, Event event, User recipient, String actorUsername) {
+        notificationOutboxRepository.save(new NotificationOutboxEntry(typeOfNotification, event.getId(),
+                recipient == null ? null : recipient.getId(), actorUsername));
+    }
+}
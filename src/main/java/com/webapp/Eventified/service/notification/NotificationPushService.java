@@ -0,0 +1,59 @@
+package com.webapp.Eventified.service.notification;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import com.webapp.Eventified.dto.user.NotificationPushDTO;
+import com.webapp.Eventified.util.TransactionCallbacks;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Pushes notifications and unread-count changes to connected users over STOMP
+ * and applies the unread-count changes to the {@link UnreadNotificationCounter}.
+ * When called inside a transaction, both happen only after it commits,
+ * so clients never see a notification that was rolled back.
+ * Users who are not connected are skipped by the broker; they load their notifications over REST.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationPushService {
+
+    public static final String NOTIFICATIONS_DESTINATION = "/queue/notifications";
+    public static final String UNREAD_DELTA_DESTINATION = "/queue/notifications/unread-delta";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    /**
+     * Pushes a new notification to a user and increments their unread count by one.
+     *
+     * @param username the username of the recipient
+     * @param notification the created notification
+     */
+    public void pushNotification(String username, NotificationPushDTO notification) {
+        TransactionCallbacks.afterCommit(() -> {
+            unreadNotificationCounter.adjust(username, 1);
+            messagingTemplate.convertAndSendToUser(username, NOTIFICATIONS_DESTINATION, notification);
+            messagingTemplate.convertAndSendToUser(username, UNREAD_DELTA_DESTINATION, 1);
+        });
+    }
+
+    /**
+     * Pushes a change of a user's unread count, such as a negative delta after notifications were read.
+     *
+     * @param username the username of the user
+     * @param delta the amount the unread count changed by
+     */
+    public void pushUnreadDelta(String username, int delta) {
+        if (delta != 0) {
+            TransactionCallbacks.afterCommit(() -> {
+                unreadNotificationCounter.adjust(username, delta);
+                messagingTemplate.convertAndSendToUser(username, UNREAD_DELTA_DESTINATION, delta);
+            });
+        }
+    }
+}
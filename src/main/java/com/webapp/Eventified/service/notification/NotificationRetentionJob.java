@@ -0,0 +1,157 @@
+package com.webapp.Eventified.service.notification;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.webapp.Eventified.repository.ExpiredNotifications;
+import com.webapp.Eventified.repository.NotificationRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Scheduled job removing notifications older than the time-to-live of their type.
+ * TTLs are configured per typeOfNotification as comma-separated type:days pairs; types without a TTL are kept.
+ * Expired rows are deleted in chunks, each in its own short transaction, so a large backlog never holds
+ * locks on many rows at once. Unread notifications among the deleted rows are subtracted from the
+ * recipients' unread counts after each chunk commits.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class NotificationRetentionJob {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationPushService notificationPushService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<Integer, Duration> ttls;
+    private final int chunkSize;
+    private final Timer runTimer;
+
+    /**
+     * Constructs the job and registers its metrics.
+     *
+     * @param notificationRepository repository used to delete expired notifications
+     * @param notificationPushService service pushing unread-count changes of affected users
+     * @param transactionManager transaction manager for the per-chunk transactions
+     * @param meterRegistry registry for deleted row and run duration metrics
+     * @param ttlDays comma-separated typeOfNotification:days pairs
+     * @param chunkSize the maximum number of notifications deleted per transaction
+     * @throws IllegalArgumentException if the TTL configuration is malformed
+     */
+    public NotificationRetentionJob(NotificationRepository notificationRepository, NotificationPushService notificationPushService,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${app.notifications.retention.ttl-days:1:30,2:90,3:60,4:7,5:30,6:90,7:30,9:30}") String ttlDays,
+            @Value("${app.notifications.retention.chunk-size:1000}") int chunkSize) {
+        this.notificationRepository = notificationRepository;
+        this.notificationPushService = notificationPushService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.ttls = parseTtls(ttlDays);
+        this.chunkSize = chunkSize;
+        this.runTimer = Timer.builder("eventified.notification.retention.duration")
+                .description("Duration of a full notification retention run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled entry point running the retention at the configured interval.
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.retention.interval-ms:3600000}", initialDelayString = "${app.notifications.retention.initial-delay-ms:300000}")
+    public void run() {
+        Timer.Sample sample = Timer.start();
+        int deleted = purgeExpired();
+        sample.stop(runTimer);
+        if (deleted > 0) {
+            log.info("Notification retention deleted {} expired notifications", deleted);
+        }
+    }
+
+    /**
+     * Deletes all notifications older than the TTL of their type.
+     *
+     * @return the number of notifications deleted
+     */
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        for (Map.Entry<Integer, Duration> ttl : ttls.entrySet()) {
+            total += purgeType(ttl.getKey(), now.minus(ttl.getValue()));
+        }
+        return total;
+    }
+
+    /**
+     * Returns the configured TTL per notification type.
+     *
+     * @return unmodifiable map of typeOfNotification to TTL
+     */
+    public Map<Integer, Duration> getTtls() {
+        return ttls;
+    }
+
+    private int purgeType(Integer type, LocalDateTime cutoff) {
+        Counter deletedCounter = Counter.builder("eventified.notification.retention.deleted")
+                .tag("type", String.valueOf(type))
+                .description("Notifications deleted because their TTL expired")
+                .register(meterRegistry);
+
+        int total = 0;
+        int deleted;
+        do {
+            Integer chunk = transactionTemplate.execute(status -> deleteChunk(type, cutoff));
+            deleted = chunk == null ? 0 : chunk;
+            deletedCounter.increment(deleted);
+            total += deleted;
+        } while (deleted == chunkSize);
+        return total;
+    }
+
+    private int deleteChunk(Integer type, LocalDateTime cutoff) {
+        List<ExpiredNotifications> expired = notificationRepository.deleteExpiredChunk(type, cutoff, chunkSize);
+        int deleted = 0;
+        for (ExpiredNotifications recipient : expired) {
+            deleted += recipient.getDeleted().intValue();
+            int unread = recipient.getUnread() == null ? 0 : recipient.getUnread().intValue();
+            if (unread > 0) {
+                notificationPushService.pushUnreadDelta(recipient.getUsername(), -unread);
+            }
+        }
+        return deleted;
+    }
+
+    private static Map<Integer, Duration> parseTtls(String ttlDays) {
+        Map<Integer, Duration> parsed = new TreeMap<>();
+        if (ttlDays == null || ttlDays.isBlank()) {
+            return Collections.unmodifiableMap(parsed);
+        }
+
+        for (String pair : ttlDays.split(",")) {
+            String[] parts = pair.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid notification TTL: " + pair);
+            }
+            try {
+                parsed.put(Integer.valueOf(parts[0].trim()), Duration.ofDays(Long.parseLong(parts[1].trim())));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid notification TTL: " + pair);
+            }
+        }
+        return Collections.unmodifiableMap(parsed);
+    }
+}
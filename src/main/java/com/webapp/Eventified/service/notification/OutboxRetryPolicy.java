@@ -0,0 +1,78 @@
+package com.webapp.Eventified.service.notification;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.webapp.Eventified.repository.NotificationOutboxRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records failed attempts to process notification outbox entries.
+ * A failed entry stays in the outbox and is retried after a delay that doubles with every failure;
+ * once it has failed a fixed number of times it is logged and dropped.
+ * Shared by the {@link NotificationDispatcher} and the {@link NotificationCoalescer}.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class OutboxRetryPolicy {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long retryDelayMs;
+    private final Counter failedCounter;
+
+    /**
+     * Constructs the retry policy and registers its metric.
+     *
+     * @param notificationOutboxRepository repository of pending outbox entries
+     * @param transactionManager transaction manager for recording failures
+     * @param meterRegistry registry for the dropped entries metric
+     * @param maxAttempts the number of failed attempts after which an entry is dropped
+     * @param retryDelayMs the delay before retrying an entry after its first failed attempt
+     */
+    public OutboxRetryPolicy(NotificationOutboxRepository notificationOutboxRepository,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${app.notifications.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${app.notifications.outbox.retry-delay-ms:1000}") long retryDelayMs) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+        this.retryDelayMs = retryDelayMs;
+        this.failedCounter = Counter.builder("eventified.notification.outbox.failed")
+                .description("Outbox entries dropped because processing them failed too often")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records a failed attempt to process an entry, postponing it or dropping it once it has failed too often.
+     * Must be called outside the transaction that failed.
+     *
+     * @param id the identifier of the entry
+     * @param failure the cause of the failure
+     */
+    public void recordFailure(Long id, RuntimeException failure) {
+        Integer attempts = transactionTemplate.execute(status -> notificationOutboxRepository.recordFailedAttempt(id, retryDelayMs)
+                .map(failed -> {
+                    if (failed >= maxAttempts) {
+                        notificationOutboxRepository.deleteById(id);
+                    }
+                    return failed;
+                })
+                .orElse(0));
+        if (attempts != null && attempts >= maxAttempts) {
+            log.error("Dropping outbox entry {} after {} failed attempts", id, attempts, failure);
+            failedCounter.increment();
+        } else {
+            log.warn("Processing outbox entry {} failed on attempt {} of {}", id, attempts, maxAttempts, failure);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.webapp.Eventified.service.notification;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.webapp.Eventified.repository.NotificationRepository;
+import com.webapp.Eventified.service.cluster.ClusterJobLock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory front of the materialized per-user unread notification counters.
+ * The authoritative counters live in user_notification_counters and are maintained by statement-level
+ * triggers on the notifications table, in the same transaction as every insert, mark-read and delete.
+ * This component caches them by username in a concurrent map of atomic counters for a few seconds, so
+ * repeated reads of a count are a single map lookup; committed changes made on this node are applied
+ * to cached counters as deltas. Changes made on other nodes are only seen once the cached counter expires,
+ * which also bounds any in-memory drift from races between loads and deltas.
+ * A scheduled reconciliation repairs database counters that drifted from the actual unread notifications,
+ * locking each drifted counter before recounting it so concurrent trigger updates are neither lost nor counted twice.
+ * In a cluster every node drops its own cache, but the database repair runs on one node at a time.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class UnreadNotificationCounter {
+
+    private static final String REPAIR_JOB = "unread-counter-repair";
+
+    private final NotificationRepository notificationRepository;
+    private final ClusterJobLock clusterJobLock;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final ConcurrentMap<String, CachedCount> counts = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter repairedCounter;
+
+    /**
+     * Constructs the counter cache and registers its metrics.
+     *
+     * @param notificationRepository repository for reading and reconciling the materialized counters
+     * @param clusterJobLock lock keeping the database repair to one node at a time
+     * @param transactionManager transaction manager for the per-user repair transactions
+     * @param meterRegistry registry for cache and reconciliation metrics
+     * @param maxSize the maximum number of users kept in memory
+     * @param ttlSeconds how long a loaded counter is served from memory
+     */
+    public UnreadNotificationCounter(NotificationRepository notificationRepository, ClusterJobLock clusterJobLock,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${app.notifications.unread-counter.max-size:100000}") int maxSize,
+            @Value("${app.notifications.unread-counter.ttl-seconds:5}") long ttlSeconds) {
+        this.notificationRepository = notificationRepository;
+        this.clusterJobLock = clusterJobLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxSize = maxSize;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.hitCounter = Counter.builder("eventified.notification.unread.requests")
+                .tag("result", "hit")
+                .description("Unread count lookups served from memory")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("eventified.notification.unread.requests")
+                .tag("result", "miss")
+                .description("Unread count lookups loaded from the database")
+                .register(meterRegistry);
+        this.repairedCounter = Counter.builder("eventified.notification.unread.repaired")
+                .description("Unread counters corrected by reconciliation")
+                .register(meterRegistry);
+        Gauge.builder("eventified.notification.unread.cached", counts, ConcurrentMap::size)
+                .description("Number of users with a cached unread count")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the number of unread notifications of a user.
+     *
+     * @param username the username of the user
+     * @return the unread count
+     * @throws IllegalArgumentException if the user is not found
+     */
+    public int get(String username) {
+        long now = System.nanoTime();
+        CachedCount cached = counts.get(username);
+        if (cached != null && now - cached.loadedAt < ttlNanos) {
+            hitCounter.increment();
+            return cached.count.get();
+        }
+
+        missCounter.increment();
+        int loaded = notificationRepository.findUnreadCountByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        if (cached == null && counts.size() >= maxSize) {
+            evictOne();
+        }
+        counts.put(username, new CachedCount(loaded, now));
+        return loaded;
+    }
+
+    /**
+     * Applies a committed change of a user's unread count to the cached counter, if the user is cached.
+     *
+     * @param username the username of the user
+     * @param delta the amount the unread count changed by
+     */
+    public void adjust(String username, int delta) {
+        CachedCount cached = counts.get(username);
+        if (cached != null) {
+            cached.count.addAndGet(delta);
+        }
+    }
+
+    /**
+     * Drops the cached counter of a user, so the next lookup reads it from the database.
+     *
+     * @param username the username of the user
+     */
+    public void invalidate(String username) {
+        counts.remove(username);
+    }
+
+    /**
+     * Scheduled reconciliation repairing drifted database counters and dropping all cached counters.
+     *
+     * @return the number of database counters repaired
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.unread-counter.reconcile-ms:900000}", initialDelayString = "${app.notifications.unread-counter.reconcile-ms:900000}")
+    public int reconcile() {
+        int repaired = clusterJobLock.callExclusively(REPAIR_JOB, Duration.ofMinutes(10), Duration.ofMinutes(1),
+                this::repairCounters)
+                .orElse(0);
+        counts.clear();
+        repairedCounter.increment(repaired);
+        if (repaired > 0) {
+            log.warn("Unread notification counter reconciliation repaired {} counters", repaired);
+        }
+        return repaired;
+    }
+
+    private int repairCounters() {
+        int repaired = 0;
+        for (UUID userId : notificationRepository.findDriftedUnreadCounterUserIds()) {
+            Integer recounted = transactionTemplate.execute(status -> {
+                notificationRepository.createUnreadCounter(userId);
+                notificationRepository.lockUnreadCounter(userId);
+                return notificationRepository.recountUnreadCounter(userId);
+            });
+            repaired += recounted == null ? 0 : recounted;
+        }
+        return repaired;
+    }
+
+    private void evictOne() {
+        Iterator<String> usernames = counts.keySet().iterator();
+        if (usernames.hasNext()) {
+            usernames.next();
+            usernames.remove();
+        }
+    }
+
+    private static final class CachedCount {
+
+        private final AtomicInteger count;
+        private final long loadedAt;
+
+        private CachedCount(int count, long loadedAt) {
+            this.count = new AtomicInteger(count);
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package com.webapp.Eventified.service.recommendation;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.webapp.Eventified.repository.EventParticipantRepository;
+import com.webapp.Eventified.repository.ParticipationRow;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Item-to-item collaborative filtering over event participations ("people who joined X also joined Y").
+ * Keeps a sparse, symmetric co-occurrence matrix of events in memory: each event gets a dense int id and
+ * one primitive {@link IntIntHashMap} row counting, per other event, the users who joined both.
+ * The matrix is built from event_participants when the application starts and is then maintained
+ * incrementally on every join and leave. Changes made while a rebuild reads the database are journaled
+ * and replayed onto the rebuilt matrix, so none are lost. Events that are cancelled or deleted are only marked as removed;
+ * a periodic compaction drops them, together with events older than the configured window,
+ * renumbers the remaining events and trims the rows.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class CoParticipationIndex {
+
+    private static final List<Integer> INDEXED_STATUSES = List.of(0, 1, 2);
+
+    private final EventParticipantRepository eventParticipantRepository;
+    private final double collaborativeWeight;
+    private final int windowDays;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildMonitor = new Object();
+
+    private Map<UUID, Integer> denseIds = new HashMap<>();
+    private UUID[] eventIds = new UUID[16];
+    private LocalDateTime[] startTimes = new LocalDateTime[16];
+    private int[] participantCounts = new int[16];
+    private IntIntHashMap[] coCounts = new IntIntHashMap[16];
+    private boolean[] removed = new boolean[16];
+    private int eventCount;
+    private Map<UUID, IntIntHashMap> eventsByUser = new HashMap<>();
+    private long pairCount;
+    private List<Runnable> journal;
+
+    /**
+     * Constructs the index and registers its metrics.
+     *
+     * @param eventParticipantRepository repository used to build the index
+     * @param meterRegistry registry for index size metrics
+     * @param collaborativeWeight share of the collaborative score in a blended score, between 0 and 1
+     * @param windowDays how many days of past events are kept in the matrix
+     */
+    public CoParticipationIndex(EventParticipantRepository eventParticipantRepository, MeterRegistry meterRegistry,
+            @Value("${app.recommendations.co-participation.weight:0.2}") double collaborativeWeight,
+            @Value("${app.recommendations.co-participation.window-days:180}") int windowDays) {
+        this.eventParticipantRepository = eventParticipantRepository;
+        this.collaborativeWeight = collaborativeWeight;
+        this.windowDays = windowDays;
+        Gauge.builder("eventified.recommendation.co-participation.events", this, CoParticipationIndex::eventCount)
+                .description("Number of events in the co-participation matrix")
+                .register(meterRegistry);
+        Gauge.builder("eventified.recommendation.co-participation.pairs", this, CoParticipationIndex::pairCount)
+                .description("Number of non-zero cells in the co-participation matrix")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Rebuilds the matrix from participations in events that started within the window.
+     * Joins, leaves and removals made while the participations are read are replayed onto the
+     * rebuilt matrix; they are idempotent, so replaying one the database already reflects changes nothing.
+     * The rows are trimmed afterwards, since growing them during the build leaves up to half of each table empty.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildMonitor) {
+            lock.writeLock().lock();
+            try {
+                journal = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            List<ParticipationRow> rows;
+            try {
+                rows = eventParticipantRepository.findParticipationRowsForEventsStartingAfter(
+                        LocalDateTime.now().minusDays(windowDays), INDEXED_STATUSES);
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    journal = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+
+            int replayed;
+            lock.writeLock().lock();
+            try {
+                reset();
+                for (ParticipationRow row : rows) {
+                    addParticipation(row.getUserId(), row.getEventId(), row.getStartTime());
+                }
+                replayed = journal.size();
+                journal.forEach(Runnable::run);
+                journal = null;
+                trimRows();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Co-participation index built with {} events and {} pairs, {} concurrent changes replayed",
+                    eventCount(), pairCount(), replayed);
+        }
+    }
+
+    /**
+     * Records that a user joined an event.
+     *
+     * @param userId the unique identifier of the user
+     * @param eventId the unique identifier of the event
+     * @param startTime the start time of the event
+     */
+    public void join(UUID userId, UUID eventId, LocalDateTime startTime) {
+        apply(() -> addParticipation(userId, eventId, startTime));
+    }
+
+    /**
+     * Records that a user left an event.
+     *
+     * @param userId the unique identifier of the user
+     * @param eventId the unique identifier of the event
+     */
+    public void leave(UUID userId, UUID eventId) {
+        apply(() -> removeParticipation(userId, eventId));
+    }
+
+    /**
+     * Marks an event as removed, so it is no longer recommended. Its cells are dropped by the next compaction.
+     *
+     * @param eventId the unique identifier of the event
+     */
+    public void removeEvent(UUID eventId) {
+        apply(() -> {
+            Integer event = denseIds.get(eventId);
+            if (event != null) {
+                removed[event] = true;
+            }
+        });
+    }
+
+    /**
+     * Calculates collaborative scores of events for a user from the events the user joined.
+     * The score of a candidate is the average, over the user's events, of the cosine similarity
+     * between the participant sets of that event and the candidate. Only events with a non-zero score are returned.
+     *
+     * @param userId the unique identifier of the user
+     * @return Map of event ID to a score between 0.0 and 1.0
+     */
+    public Map<UUID, Double> scoresFor(UUID userId) {
+        lock.readLock().lock();
+        try {
+            IntIntHashMap joined = eventsByUser.get(userId);
+            if (joined == null) {
+                return Map.of();
+            }
+
+            Map<UUID, Double> scores = new HashMap<>();
+            int joinedCount = joined.size();
+            for (int slot = 0; slot < joined.capacity(); slot++) {
+                int event = joined.keyAt(slot);
+                if (event < 0 || removed[event]) {
+                    continue;
+                }
+                IntIntHashMap row = coCounts[event];
+                for (int cell = 0; cell < row.capacity(); cell++) {
+                    int candidate = row.keyAt(cell);
+                    if (candidate < 0 || removed[candidate] || joined.get(candidate) != 0) {
+                        continue;
+                    }
+                    double similarity = row.valueAt(cell) / Math.sqrt((double) participantCounts[event] * participantCounts[candidate]);
+                    scores.merge(eventIds[candidate], similarity / joinedCount, Double::sum);
+                }
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Blends a content-based score with a collaborative score using the configured weight.
+     *
+     * @param contentScore the content-based score
+     * @param collaborativeScore the collaborative score
+     * @return the blended score
+     */
+    public double blend(double contentScore, double collaborativeScore) {
+        return (1.0 - collaborativeWeight) * contentScore + collaborativeWeight * collaborativeScore;
+    }
+
+    /**
+     * Scheduled compaction dropping removed events and events that started before the window,
+     * renumbering the remaining events and trimming all rows.
+     */
+    @Scheduled(fixedDelayString = "${app.recommendations.co-participation.compaction-ms:3600000}", initialDelayString = "${app.recommendations.co-participation.compaction-ms:3600000}")
+    public void compact() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(windowDays);
+
+        lock.writeLock().lock();
+        try {
+            int[] newIds = new int[eventCount];
+            int kept = 0;
+            for (int event = 0; event < eventCount; event++) {
+                boolean keep = !removed[event] && startTimes[event].isAfter(cutoff);
+                newIds[event] = keep ? kept++ : -1;
+            }
+            int dropped = eventCount - kept;
+
+            Map<UUID, Integer> compactedIds = new HashMap<>();
+            UUID[] compactedEventIds = new UUID[Math.max(16, kept)];
+            LocalDateTime[] compactedStartTimes = new LocalDateTime[compactedEventIds.length];
+            int[] compactedCounts = new int[compactedEventIds.length];
+            IntIntHashMap[] compactedRows = new IntIntHashMap[compactedEventIds.length];
+            long compactedPairs = 0;
+
+            for (int event = 0; event < eventCount; event++) {
+                int id = newIds[event];
+                if (id < 0) {
+                    continue;
+                }
+                compactedIds.put(eventIds[event], id);
+                compactedEventIds[id] = eventIds[event];
+                compactedStartTimes[id] = startTimes[event];
+                compactedCounts[id] = participantCounts[event];
+                compactedRows[id] = remap(coCounts[event], newIds);
+                compactedPairs += compactedRows[id].size();
+            }
+
+            Map<UUID, IntIntHashMap> compactedUsers = new HashMap<>();
+            eventsByUser.forEach((userId, joined) -> {
+                IntIntHashMap remapped = remap(joined, newIds);
+                if (remapped.size() > 0) {
+                    compactedUsers.put(userId, remapped);
+                }
+            });
+
+            denseIds = compactedIds;
+            eventIds = compactedEventIds;
+            startTimes = compactedStartTimes;
+            participantCounts = compactedCounts;
+            coCounts = compactedRows;
+            removed = new boolean[compactedEventIds.length];
+            eventCount = kept;
+            eventsByUser = compactedUsers;
+            pairCount = compactedPairs;
+
+            log.info("Co-participation index compacted, {} events dropped, {} events kept", dropped, kept);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of events in the matrix, including removed events not yet compacted.
+     *
+     * @return the event count
+     */
+    public int eventCount() {
+        lock.readLock().lock();
+        try {
+            return eventCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of non-zero cells in the matrix.
+     *
+     * @return the cell count
+     */
+    public long pairCount() {
+        lock.readLock().lock();
+        try {
+            return pairCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (journal != null) {
+                journal.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void trimRows() {
+        for (int event = 0; event < eventCount; event++) {
+            coCounts[event].trim();
+        }
+        eventsByUser.values().forEach(IntIntHashMap::trim);
+    }
+
+    private void reset() {
+        denseIds = new HashMap<>();
+        eventIds = new UUID[16];
+        startTimes = new LocalDateTime[16];
+        participantCounts = new int[16];
+        coCounts = new IntIntHashMap[16];
+        removed = new boolean[16];
+        eventCount = 0;
+        eventsByUser = new HashMap<>();
+        pairCount = 0;
+    }
+
+    private void addParticipation(UUID userId, UUID eventId, LocalDateTime startTime) {
+        int event = intern(eventId, startTime);
+        IntIntHashMap joined = eventsByUser.computeIfAbsent(userId, id -> new IntIntHashMap(4));
+        if (joined.get(event) != 0) {
+            return;
+        }
+
+        for (int slot = 0; slot < joined.capacity(); slot++) {
+            int other = joined.keyAt(slot);
+            if (other >= 0) {
+                incrementPair(event, other);
+            }
+        }
+        joined.add(event, 1);
+        participantCounts[event]++;
+    }
+
+    private void removeParticipation(UUID userId, UUID eventId) {
+        Integer event = denseIds.get(eventId);
+        IntIntHashMap joined = eventsByUser.get(userId);
+        if (event == null || joined == null || joined.get(event) == 0) {
+            return;
+        }
+
+        joined.add(event, -1);
+        for (int slot = 0; slot < joined.capacity(); slot++) {
+            int other = joined.keyAt(slot);
+            if (other >= 0) {
+                decrementPair(event, other);
+            }
+        }
+        participantCounts[event]--;
+        if (joined.size() == 0) {
+            eventsByUser.remove(userId);
+        }
+    }
+
+    private int intern(UUID eventId, LocalDateTime startTime) {
+        Integer existing = denseIds.get(eventId);
+        if (existing != null) {
+            return existing;
+        }
+        if (eventCount == eventIds.length) {
+            int capacity = eventIds.length * 2;
+            eventIds = Arrays.copyOf(eventIds, capacity);
+            startTimes = Arrays.copyOf(startTimes, capacity);
+            participantCounts = Arrays.copyOf(participantCounts, capacity);
+            coCounts = Arrays.copyOf(coCounts, capacity);
+            removed = Arrays.copyOf(removed, capacity);
+        }
+        int event = eventCount++;
+        denseIds.put(eventId, event);
+        eventIds[event] = eventId;
+        startTimes[event] = startTime;
+        coCounts[event] = new IntIntHashMap(4);
+        return event;
+    }
+
+    private void incrementPair(int a, int b) {
+        if (coCounts[a].get(b) == 0) {
+            pairCount += 2;
+        }
+        coCounts[a].add(b, 1);
+        coCounts[b].add(a, 1);
+    }
+
+    private void decrementPair(int a, int b) {
+        coCounts[a].add(b, -1);
+        coCounts[b].add(a, -1);
+        if (coCounts[a].get(b) == 0) {
+            pairCount -= 2;
+        }
+    }
+
+    private static IntIntHashMap remap(IntIntHashMap source, int[] newIds) {
+        IntIntHashMap target = new IntIntHashMap(source.size());
+        for (int slot = 0; slot < source.capacity(); slot++) {
+            int key = source.keyAt(slot);
+            if (key >= 0 && newIds[key] >= 0) {
+                target.add(newIds[key], source.valueAt(slot));
+            }
+        }
+        return target;
+    }
+}
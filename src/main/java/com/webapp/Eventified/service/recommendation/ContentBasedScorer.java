@@ -25,10 +25,23 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class ContentBasedScorer {
 
-    private static final double PREFERENCE_WEIGHT = 0.4;
-    private static final double HISTORY_WEIGHT = 0.3;
-    private static final double SKILL_MATCH_WEIGHT = 0.15;
-    private static final double RECENCY_WEIGHT = 0.05;
+    static final double PREFERENCE_WEIGHT = 0.4;
+    static final double HISTORY_WEIGHT = 0.3;
+    static final double SKILL_MATCH_WEIGHT = 0.15;
+    static final double RECENCY_WEIGHT = 0.05;
+
+    /**
+     * Compiles a user's sport preferences and attendance history into a {@link ScoringProfile}.
+     * Scoring many candidates through the profile gives the same results as {@link #calculateScore}
+     * without walking the user's sports and history again for every event.
+     *
+     * @param user The user for whom to compile the profile
+     * @param attendedEvents List of events the user has previously attended
+     * @return the compiled scoring profile
+     */
+    public ScoringProfile compile(User user, List<Event> attendedEvents){
+        return ScoringProfile.of(user, attendedEvents, LocalDateTime.now());
+    }
 
     /**
      * Calculates a comprehensive recommendation score for an event based on user preferences and history.
@@ -0,0 +1,188 @@
+package com.webapp.Eventified.service.recommendation;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from non-negative int keys to int values, without boxing.
+ * Uses linear probing with backward-shift deletion, so removals leave no tombstones behind.
+ * A key whose value drops to zero is removed. Instances are not thread-safe.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+final class IntIntHashMap {
+
+    private static final int EMPTY = -1;
+    private static final int MIN_CAPACITY = 4;
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+
+    /**
+     * Constructs a map sized for the expected number of keys.
+     *
+     * @param expectedSize the number of keys the map should hold without resizing
+     */
+    IntIntHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key the key, not negative
+     * @return the value, or 0 if the key is absent
+     */
+    int get(int key) {
+        int slot = find(key);
+        return slot < 0 ? 0 : values[slot];
+    }
+
+    /**
+     * Adds delta to the value of a key, inserting the key if absent and removing it if the value becomes zero.
+     *
+     * @param key the key, not negative
+     * @param delta the amount to add
+     */
+    void add(int key, int delta) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                values[slot] += delta;
+                if (values[slot] == 0) {
+                    removeSlot(slot);
+                }
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (delta == 0) {
+            return;
+        }
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * Returns the number of keys in the map.
+     *
+     * @return the key count
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of slots; keyAt and valueAt accept slots from 0 to capacity - 1.
+     *
+     * @return the slot count
+     */
+    int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the key stored in a slot.
+     *
+     * @param slot the slot
+     * @return the key, or a negative number if the slot is empty
+     */
+    int keyAt(int slot) {
+        return keys[slot];
+    }
+
+    /**
+     * Returns the value stored in a slot.
+     *
+     * @param slot the slot
+     * @return the value, 0 for an empty slot
+     */
+    int valueAt(int slot) {
+        return values[slot];
+    }
+
+    /**
+     * Shrinks the table to the smallest capacity that fits the current keys.
+     */
+    void trim() {
+        int capacity = capacityFor(size);
+        if (capacity < keys.length) {
+            rehash(capacity);
+        }
+    }
+
+    private int find(int key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void removeSlot(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (keys[next] == EMPTY) {
+                break;
+            }
+            int home = hash(keys[next]) & mask;
+            boolean stays = hole <= next ? (hole < home && home <= next) : (hole < home || home <= next);
+            if (!stays) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+        }
+        keys[hole] = EMPTY;
+        values[hole] = 0;
+        size--;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = hash(oldKeys[i]) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
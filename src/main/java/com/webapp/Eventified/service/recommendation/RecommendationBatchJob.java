@@ -0,0 +1,371 @@
+package com.webapp.Eventified.service.recommendation;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.webapp.Eventified.dto.user.EventPoolDTO;
+import com.webapp.Eventified.model.SportUser;
+import com.webapp.Eventified.repository.EventParticipantRepository;
+import com.webapp.Eventified.repository.EventPoolCriteria;
+import com.webapp.Eventified.repository.EventRepository;
+import com.webapp.Eventified.repository.ParticipationRow;
+import com.webapp.Eventified.repository.SportUserRepository;
+import com.webapp.Eventified.repository.UserRecommendationRepository;
+import com.webapp.Eventified.repository.UserRepository;
+import com.webapp.Eventified.service.cluster.ClusterJobLock;
+import com.webapp.Eventified.util.EventCursor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Scheduled job that precomputes recommendations for all verified users into the user_recommendations table.
+ * Upcoming events are loaded once per run and partitioned by sport; users are then walked in keyset pages,
+ * their preferences and history are loaded per page, and each page is scored in parallel on a dedicated
+ * fork-join pool and written in one transaction. Memory use is bounded by the page size and the number of
+ * upcoming events, not the number of users. The job runs on one node of the cluster at a time, and lists whose
+ * user or sports were invalidated after the run started are not written, so a run never overwrites an invalidation.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class RecommendationBatchJob {
+
+    private static final Integer STATUS_ACTIVE = 0;
+    private static final UUID FIRST_USER_ID = new UUID(0L, 0L);
+    private static final int EVENT_PAGE_SIZE = 1000;
+    private static final String BATCH_JOB = "recommendation-batch";
+
+    private final UserRepository userRepository;
+    private final SportUserRepository sportUserRepository;
+    private final EventParticipantRepository eventParticipantRepository;
+    private final EventRepository eventRepository;
+    private final UserRecommendationRepository userRecommendationRepository;
+    private final CoParticipationIndex coParticipationIndex;
+    private final ClusterJobLock clusterJobLock;
+    private final TransactionTemplate transactionTemplate;
+    private final int userPageSize;
+    private final int parallelism;
+    private final Timer runTimer;
+    private final Counter userCounter;
+    private final Counter staleCounter;
+
+    /**
+     * Constructs the job and registers its metrics.
+     *
+     * @param userRepository repository used to page through users
+     * @param sportUserRepository repository used to load sport preferences per page
+     * @param eventParticipantRepository repository used to load participations per page
+     * @param eventRepository repository used to load upcoming events
+     * @param userRecommendationRepository the store the precomputed recommendations are written to
+     * @param coParticipationIndex the collaborative scores blended into the content-based scores
+     * @param clusterJobLock lease that keeps the job on one node at a time
+     * @param transactionManager transaction manager for the per-page write transactions
+     * @param meterRegistry registry for run duration, processed user and stale list metrics
+     * @param userPageSize the number of users loaded and scored together
+     * @param parallelism the number of worker threads, 0 for one per available processor
+     */
+    public RecommendationBatchJob(UserRepository userRepository, SportUserRepository sportUserRepository,
+            EventParticipantRepository eventParticipantRepository, EventRepository eventRepository,
+            UserRecommendationRepository userRecommendationRepository, CoParticipationIndex coParticipationIndex,
+            ClusterJobLock clusterJobLock, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${app.recommendations.batch.page-size:1000}") int userPageSize,
+            @Value("${app.recommendations.batch.parallelism:0}") int parallelism) {
+        this.userRepository = userRepository;
+        this.sportUserRepository = sportUserRepository;
+        this.eventParticipantRepository = eventParticipantRepository;
+        this.eventRepository = eventRepository;
+        this.userRecommendationRepository = userRecommendationRepository;
+        this.coParticipationIndex = coParticipationIndex;
+        this.clusterJobLock = clusterJobLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.userPageSize = userPageSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.runTimer = Timer.builder("eventified.recommendation.batch.duration")
+                .description("Duration of a full recommendation batch run")
+                .register(meterRegistry);
+        this.userCounter = Counter.builder("eventified.recommendation.batch.users")
+                .description("Users whose recommendations were precomputed")
+                .register(meterRegistry);
+        this.staleCounter = Counter.builder("eventified.recommendation.batch.stale")
+                .description("Precomputed lists not written because they were invalidated during the run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled entry point running the batch at the configured interval, on one node of the cluster at a time.
+     */
+    @Scheduled(fixedDelayString = "${app.recommendations.batch.interval-ms:600000}", initialDelayString = "${app.recommendations.batch.initial-delay-ms:60000}")
+    public void run() {
+        clusterJobLock.runExclusively(BATCH_JOB, Duration.ofMinutes(30), Duration.ofMinutes(1), () -> {
+            Timer.Sample sample = Timer.start();
+            int processed = generateAll();
+            sample.stop(runTimer);
+            log.info("Recommendation batch precomputed recommendations for {} users", processed);
+        });
+    }
+
+    /**
+     * Precomputes and stores recommendations for every verified user.
+     * The database time is read before the events are loaded; a list is only written if neither its user
+     * nor its candidate sports were invalidated since, so invalidations during the run are never overwritten.
+     *
+     * @return the number of users processed
+     */
+    public int generateAll() {
+        LocalDateTime computedAt = userRecommendationRepository.currentTimestamp();
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, SportPartition> partitions = loadPartitions(now);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        int processed = 0;
+        try {
+            UUID after = FIRST_USER_ID;
+            List<UUID> userIds;
+            do {
+                userIds = userRepository.findVerifiedUserIdsAfter(after, PageRequest.of(0, userPageSize));
+                if (userIds.isEmpty()) {
+                    break;
+                }
+
+                List<UserFeatures> users = loadFeatures(userIds);
+                List<Precomputed> lists = pool.submit(() -> users.parallelStream().map(user -> recommend(user, partitions, now)).toList()).join();
+                transactionTemplate.executeWithoutResult(status -> store(lists, computedAt));
+
+                processed += users.size();
+                userCounter.increment(users.size());
+                after = userIds.get(userIds.size() - 1);
+            } while (userIds.size() == userPageSize);
+        } finally {
+            pool.shutdown();
+        }
+        return processed;
+    }
+
+    /**
+     * Loads all upcoming active events once and groups them by sport.
+     *
+     * @param now the moment the run started
+     * @return Map of sport ID to the upcoming events of that sport
+     */
+    private Map<Integer, SportPartition> loadPartitions(LocalDateTime now) {
+        EventPoolCriteria criteria = new EventPoolCriteria();
+        criteria.setStatusOfEvent(STATUS_ACTIVE);
+        criteria.setStartTimeAfter(now);
+
+        Map<Integer, List<EventPoolDTO>> eventsBySport = new HashMap<>();
+        EventCursor after = null;
+        List<EventPoolDTO> page;
+        do {
+            page = eventRepository.findEventPoolPage(criteria, after, EVENT_PAGE_SIZE);
+            for (EventPoolDTO event : page) {
+                eventsBySport.computeIfAbsent(event.getSport(), sport -> new ArrayList<>()).add(event);
+            }
+            if (!page.isEmpty()) {
+                EventPoolDTO last = page.get(page.size() - 1);
+                after = new EventCursor(LocalDateTime.parse(last.getStartTime()), last.getId());
+            }
+        } while (page.size() == EVENT_PAGE_SIZE);
+
+        Map<Integer, SportPartition> partitions = new HashMap<>();
+        int offset = 0;
+        for (Map.Entry<Integer, List<EventPoolDTO>> sportEvents : eventsBySport.entrySet()) {
+            partitions.put(sportEvents.getKey(), new SportPartition(sportEvents.getKey(), offset, sportEvents.getValue()));
+            offset += sportEvents.getValue().size();
+        }
+        return partitions;
+    }
+
+    /**
+     * Loads preferences and participations for one page of users with two queries.
+     *
+     * @param userIds the unique identifiers of the users in the page
+     * @return the scoring inputs of each user, in page order
+     */
+    private List<UserFeatures> loadFeatures(List<UUID> userIds) {
+        Map<UUID, UserFeatures> features = new HashMap<>();
+        for (UUID userId : userIds) {
+            features.put(userId, new UserFeatures(userId));
+        }
+        for (SportUser sportUser : sportUserRepository.findByUserIdIn(userIds)) {
+            features.get(sportUser.getUserId()).preferences.add(sportUser);
+        }
+        for (ParticipationRow row : eventParticipantRepository.findParticipationRowsByUserIdIn(userIds)) {
+            features.get(row.getUserId()).participations.add(row);
+        }
+
+        List<UserFeatures> ordered = new ArrayList<>(userIds.size());
+        for (UUID userId : userIds) {
+            ordered.add(features.get(userId));
+        }
+        return ordered;
+    }
+
+    /**
+     * Writes the precomputed lists of one page of users, skipping lists that are already stale.
+     * Called inside the page's write transaction.
+     *
+     * @param lists the precomputed lists of the page
+     * @param computedAt the database time the run started
+     */
+    private void store(List<Precomputed> lists, LocalDateTime computedAt) {
+        for (Precomputed list : lists) {
+            if (userRecommendationRepository.store(list.userId, list.eventIds, list.sports, computedAt) == 0) {
+                staleCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * Scores the candidate events of one user and selects the best ones.
+     * Candidates are the upcoming events in the user's preferred and historical sports,
+     * or all upcoming events if the user has no preferences, minus events the user has joined.
+     *
+     * @param user the scoring inputs of the user
+     * @param partitions the upcoming events grouped by sport
+     * @param now the moment the run started
+     * @return the user's recommended events, best first, and the sports they were drawn from
+     */
+    private Precomputed recommend(UserFeatures user, Map<Integer, SportPartition> partitions, LocalDateTime now) {
+        int[] preferredSports = new int[user.preferences.size()];
+        int[] preferredSkills = new int[user.preferences.size()];
+        for (int i = 0; i < preferredSports.length; i++) {
+            preferredSports[i] = user.preferences.get(i).getSport();
+            preferredSkills[i] = user.preferences.get(i).getSkillLevel();
+        }
+
+        int[] historySports = new int[user.participations.size()];
+        int[] historySkills = new int[user.participations.size()];
+        Set<UUID> joined = new HashSet<>();
+        for (int i = 0; i < historySports.length; i++) {
+            ParticipationRow row = user.participations.get(i);
+            historySports[i] = row.getSport();
+            historySkills[i] = row.getSkillLevel();
+            joined.add(row.getEventId());
+        }
+
+        ScoringProfile profile = new ScoringProfile(preferredSports, preferredSkills, historySports, historySkills, now);
+
+        Set<Integer> sports = null;
+        if (preferredSports.length > 0) {
+            sports = new HashSet<>();
+            for (int sport : preferredSports) {
+                sports.add(sport);
+            }
+            for (int sport : historySports) {
+                sports.add(sport);
+            }
+        }
+        Iterable<SportPartition> candidatePartitions = sports == null ? partitions.values() : sports.stream()
+                .map(partitions::get)
+                .filter(partition -> partition != null)
+                .toList();
+
+        Map<UUID, Double> collaborativeScores = coParticipationIndex.scoresFor(user.userId);
+        TopKSelector selector = new TopKSelector(RecommendationCache.CACHED_RECOMMENDATIONS);
+        for (SportPartition partition : candidatePartitions) {
+            for (int i = 0; i < partition.events.length; i++) {
+                UUID eventId = partition.events[i].getId();
+                if (!joined.contains(eventId)) {
+                    double contentScore = profile.score(partition.sport, partition.skillLevels[i], partition.startTimes[i]);
+                    selector.offer(partition.offset + i, coParticipationIndex.blend(contentScore, collaborativeScores.getOrDefault(eventId, 0.0)));
+                }
+            }
+        }
+
+        int[] indices = selector.indicesByScoreDescending();
+        UUID[] eventIds = new UUID[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            eventIds[i] = eventAt(partitions, indices[i]).getId();
+        }
+        return new Precomputed(user.userId, eventIds, sports == null ? new Integer[0] : sports.toArray(new Integer[0]));
+    }
+
+    /**
+     * Resolves a candidate index back to its event.
+     *
+     * @param partitions the upcoming events grouped by sport
+     * @param index the run-wide index of the event
+     * @return the event with that index
+     */
+    private static EventPoolDTO eventAt(Map<Integer, SportPartition> partitions, int index) {
+        for (SportPartition partition : partitions.values()) {
+            if (index >= partition.offset && index < partition.offset + partition.events.length) {
+                return partition.events[index - partition.offset];
+            }
+        }
+        throw new IllegalStateException("No event with index " + index);
+    }
+
+    /**
+     * Upcoming events of one sport with their scoring attributes unpacked into parallel arrays.
+     * Each event has a run-wide index, offset plus its position in the partition.
+     * The DTO instances are shared by every user the events are recommended to.
+     */
+    private static final class SportPartition {
+        private final int sport;
+        private final int offset;
+        private final EventPoolDTO[] events;
+        private final int[] skillLevels;
+        private final LocalDateTime[] startTimes;
+
+        private SportPartition(int sport, int offset, List<EventPoolDTO> events) {
+            this.sport = sport;
+            this.offset = offset;
+            this.events = events.toArray(new EventPoolDTO[0]);
+            this.skillLevels = new int[this.events.length];
+            this.startTimes = new LocalDateTime[this.events.length];
+            for (int i = 0; i < this.events.length; i++) {
+                skillLevels[i] = this.events[i].getSkillLevel();
+                startTimes[i] = LocalDateTime.parse(this.events[i].getStartTime());
+            }
+        }
+    }
+
+    /**
+     * Recommended events of one user, best first, and the sports they were drawn from; empty if from every sport.
+     */
+    private static final class Precomputed {
+        private final UUID userId;
+        private final UUID[] eventIds;
+        private final Integer[] sports;
+
+        private Precomputed(UUID userId, UUID[] eventIds, Integer[] sports) {
+            this.userId = userId;
+            this.eventIds = eventIds;
+            this.sports = sports;
+        }
+    }
+
+    /**
+     * Sport preferences and participations of one user, loaded in bulk for a page of users.
+     */
+    private static final class UserFeatures {
+        private final UUID userId;
+        private final List<SportUser> preferences = new ArrayList<>();
+        private final List<ParticipationRow> participations = new ArrayList<>();
+
+        private UserFeatures(UUID userId) {
+            this.userId = userId;
+        }
+    }
+}
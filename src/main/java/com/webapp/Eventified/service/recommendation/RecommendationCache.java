@@ -0,0 +1,271 @@
+package com.webapp.Eventified.service.recommendation;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.webapp.Eventified.dto.user.EventPoolDTO;
+import com.webapp.Eventified.repository.UserRecommendationRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded in-memory cache of each user's top recommendations, keyed by user id, in front of the
+ * recommendations precomputed by {@link RecommendationBatchJob}.
+ * Entries expire after a fixed time to live and the least recently used entry is evicted
+ * once the cache is full. Entries are also invalidated explicitly when something that
+ * affects a user's candidate set changes: their sport preferences, their participations,
+ * or an event being created, updated, cancelled or changing status in one of the sports their
+ * candidates come from.
+ * <p>
+ * Every invalidation advances a generation counter. Callers read {@link #generation()} before they
+ * start computing and pass it to {@link #put}; an entry computed before an invalidation that affects it
+ * is discarded instead of stored, so a slow computation cannot resurrect data that was just invalidated.
+ * Invalidations are also stamped in the database, which retires precomputed lists on every node,
+ * including lists the batch job is still computing. Callers invalidate after their transaction commits,
+ * while its connection is still held, so those stamps are written by a background thread instead of
+ * borrowing a second pooled connection for every write.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class RecommendationCache {
+
+    /**
+     * Number of recommendations stored per user; requests for up to this many are served from the cache.
+     */
+    public static final int CACHED_RECOMMENDATIONS = 50;
+
+    private final UserRecommendationRepository userRecommendationRepository;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<UUID, Entry> entries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+    private final Map<UUID, Long> userInvalidations;
+    private final Map<Integer, Long> sportInvalidations = new HashMap<>();
+    private final ExecutorService stampExecutor;
+    private long generation;
+    private long forgottenUserInvalidation;
+    private long lastSportInvalidation;
+
+    /**
+     * Constructs the cache and registers its metrics.
+     *
+     * @param meterRegistry registry for hit, miss, eviction and size metrics
+     * @param userRecommendationRepository repository the invalidations of precomputed lists are stamped in
+     * @param maxSize the maximum number of users kept in the cache
+     * @param ttlSeconds how long a cached entry stays valid, in seconds
+     */
+    public RecommendationCache(MeterRegistry meterRegistry, UserRecommendationRepository userRecommendationRepository,
+            @Value("${app.recommendations.cache.max-size:10000}") int maxSize,
+            @Value("${app.recommendations.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRecommendationRepository = userRecommendationRepository;
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.stampExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "recommendation-invalidation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                if (size() > RecommendationCache.this.maxSize) {
+                    evictionCounter.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.userInvalidations = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Long> eldest) {
+                if (size() > RecommendationCache.this.maxSize) {
+                    forgottenUserInvalidation = Math.max(forgottenUserInvalidation, eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.hitCounter = Counter.builder("eventified.recommendation.cache.requests")
+                .tag("result", "hit")
+                .description("Recommendation requests served from the cache")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("eventified.recommendation.cache.requests")
+                .tag("result", "miss")
+                .description("Recommendation requests that had to be computed")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("eventified.recommendation.cache.evictions")
+                .description("Entries evicted because the cache was full")
+                .register(meterRegistry);
+        Gauge.builder("eventified.recommendation.cache.size", this, RecommendationCache::size)
+                .description("Number of users with cached recommendations")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached top recommendations of a user, counting the lookup as a hit or a miss.
+     * Requests for more than {@link #CACHED_RECOMMENDATIONS} events are always misses.
+     *
+     * @param userId the unique identifier of the user
+     * @param limit the number of recommendations requested
+     * @return the first limit cached recommendations, or empty if there is no valid entry
+     */
+    public synchronized Optional<List<EventPoolDTO>> get(UUID userId, int limit) {
+        Entry entry = limit <= CACHED_RECOMMENDATIONS ? entries.get(userId) : null;
+
+        if (entry != null && System.nanoTime() - entry.expiresAt >= 0) {
+            entries.remove(userId);
+            entry = null;
+        }
+        if (entry == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        hitCounter.increment();
+        return Optional.of(entry.recommendations.subList(0, Math.min(limit, entry.recommendations.size())));
+    }
+
+    /**
+     * Returns the current invalidation generation. Read it before computing recommendations
+     * and pass it to {@link #put} with the result.
+     *
+     * @return the number of invalidations so far
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Stores the top recommendations of a user, unless the user or one of the candidate sports
+     * was invalidated after the given generation was read.
+     *
+     * @param userId the unique identifier of the user
+     * @param recommendations the user's best recommendations, at most {@link #CACHED_RECOMMENDATIONS}
+     * @param sports the sports the candidates were drawn from, or null if candidates came from every sport
+     * @param computedAt the {@link #generation()} read before the recommendations were computed
+     * @return true if the entry was stored, false if it was already stale
+     */
+    public synchronized boolean put(UUID userId, List<EventPoolDTO> recommendations, Set<Integer> sports, long computedAt) {
+        if (invalidatedSince(userId, sports, computedAt)) {
+            return false;
+        }
+        entries.put(userId, new Entry(List.copyOf(recommendations), sports == null ? null : Set.copyOf(sports), System.nanoTime() + ttlNanos));
+        return true;
+    }
+
+    private boolean invalidatedSince(UUID userId, Set<Integer> sports, long computedAt) {
+        if (userInvalidations.getOrDefault(userId, forgottenUserInvalidation) > computedAt) {
+            return true;
+        }
+        if (sports == null) {
+            return lastSportInvalidation > computedAt;
+        }
+        for (Integer sport : sports) {
+            if (sportInvalidations.getOrDefault(sport, 0L) > computedAt) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops the cached recommendations of a user, here and in the precomputed store.
+     *
+     * @param userId the unique identifier of the user
+     */
+    public void invalidateUser(UUID userId) {
+        synchronized (this) {
+            userInvalidations.put(userId, ++generation);
+            entries.remove(userId);
+        }
+        stamp(() -> {
+            try {
+                userRecommendationRepository.invalidateUser(userId);
+            } catch (RuntimeException e) {
+                log.warn("Invalidating the precomputed recommendations of user {} failed", userId, e);
+            }
+        });
+    }
+
+    /**
+     * Drops the cached recommendations of every user whose candidates include the given sport,
+     * here and in the precomputed store.
+     *
+     * @param sport the integer identifier of the sport whose events changed
+     */
+    public void invalidateSport(Integer sport) {
+        synchronized (this) {
+            lastSportInvalidation = ++generation;
+            sportInvalidations.put(sport, lastSportInvalidation);
+            entries.values().removeIf(entry -> entry.sports == null || entry.sports.contains(sport));
+        }
+        stamp(() -> {
+            try {
+                userRecommendationRepository.invalidateSport(sport);
+            } catch (RuntimeException e) {
+                log.warn("Invalidating the precomputed recommendations of sport {} failed", sport, e);
+            }
+        });
+    }
+
+    /**
+     * Returns the number of users currently in the cache.
+     *
+     * @return the entry count
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Stops the invalidation thread, giving pending stamps a moment to be written.
+     *
+     * @throws InterruptedException if interrupted while waiting for the pending stamps
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stampExecutor.shutdown();
+        stampExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void stamp(Runnable write) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            stampExecutor.execute(write);
+        } else {
+            write.run();
+        }
+    }
+
+    private static final class Entry {
+        private final List<EventPoolDTO> recommendations;
+        private final Set<Integer> sports;
+        private final long expiresAt;
+
+        private Entry(List<EventPoolDTO> recommendations, Set<Integer> sports, long expiresAt) {
+            this.recommendations = recommendations;
+            this.sports = sports;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
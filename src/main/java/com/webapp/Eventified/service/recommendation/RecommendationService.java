@@ -1,11 +1,15 @@
 package com.webapp.Eventified.service.recommendation;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -15,8 +19,10 @@ import com.webapp.Eventified.dto.user.EventPoolDTO;
 import com.webapp.Eventified.model.Event;
 import com.webapp.Eventified.model.SportUser;
 import com.webapp.Eventified.model.User;
+import com.webapp.Eventified.model.UserRecommendation;
 import com.webapp.Eventified.repository.EventParticipantRepository;
 import com.webapp.Eventified.repository.EventRepository;
+import com.webapp.Eventified.repository.UserRecommendationRepository;
 import com.webapp.Eventified.repository.UserRepository;
 
 import io.jsonwebtoken.lang.Collections;
@@ -39,11 +45,18 @@ public class RecommendationService {
     private final EventRepository eventRepository;
     private final EventParticipantRepository eventParticipantRepository;
     private final ContentBasedScorer contentBasedScorer;
+    private final RecommendationCache recommendationCache;
+    private final CoParticipationIndex coParticipationIndex;
+    private final UserRecommendationRepository userRecommendationRepository;
     
     /**
      * Retrieves personalized event recommendations for a user.
      * Generates recommendations based on user's sport preferences, past event history, and event scores.
      * Returns events sorted by recommendation score in descending order.
+     * The top {@link RecommendationCache#CACHED_RECOMMENDATIONS} are cached per user, so repeated
+     * requests are served from memory until the entry expires or is invalidated.
+     * On a cache miss the user's list precomputed by {@link RecommendationBatchJob} is used if it is still valid.
+     * Empty results are not cached, so a user sees events created in the meantime on the next request.
      *
      * @param username the username of the user requesting recommendations
      * @param limit the maximum number of recommendations to return
@@ -56,33 +69,100 @@ public class RecommendationService {
         User user = userRepository.findByUsername(username)
             .orElseThrow(() -> new  IllegalArgumentException("User not found"));
 
+        Optional<List<EventPoolDTO>> cached = recommendationCache.get(user.getId(), limit);
+        if(cached.isPresent()){
+            return cached.get();
+        }
+
+        long generation = recommendationCache.generation();
+        if(limit <= RecommendationCache.CACHED_RECOMMENDATIONS){
+            Optional<List<EventPoolDTO>> precomputed = loadPrecomputed(user.getId(), generation);
+            if(precomputed.isPresent()){
+                return precomputed.get().subList(0, Math.min(limit, precomputed.get().size()));
+            }
+        }
+
         List<Event> userEventHistory = eventParticipantRepository.findAllEventsByUserId(user.getId());
 
         List<Event> candidateEvents = getCandidateEvents(user);
+        int computedLimit = Math.max(limit, RecommendationCache.CACHED_RECOMMENDATIONS);
 
         if(candidateEvents.isEmpty()){
             log.info("No candidate events found for user: {}", username);
             return Collections.emptyList();
         }
 
-        Map<UUID, Double> eventScores = calculateEventScores(candidateEvents, user, userEventHistory);
+        int[] bestIndices = selectTopEvents(candidateEvents, user, userEventHistory, computedLimit);
 
-        List<EventPoolDTO> recommendations = candidateEvents.stream()
-            .sorted((e1,e2) -> Double.compare(
-                eventScores.getOrDefault(e2.getId(), 0.0),
-                eventScores.getOrDefault(e1.getId(), 0.0)
-            ))
-            .limit(limit)
-            .map(EventPoolDTO::new)
-            .collect(Collectors.toList());
+        List<EventPoolDTO> recommendations = new ArrayList<>(bestIndices.length);
+        for(int index : bestIndices){
+            recommendations.add(new EventPoolDTO(candidateEvents.get(index)));
+        }
 
-        return recommendations;
+        if(computedLimit == RecommendationCache.CACHED_RECOMMENDATIONS){
+            recommendationCache.put(user.getId(), recommendations, getCandidateSports(user, userEventHistory), generation);
+        }
+
+        return recommendations.subList(0, Math.min(limit, recommendations.size()));
+    }
+
+    /**
+     * Loads the user's precomputed recommendations if they are still valid, drops events that have
+     * started or are no longer active, and caches the rest. A list with no events left counts as missing.
+     *
+     * @param userId the unique identifier of the user
+     * @param generation the cache generation read before the lookup
+     * @return the precomputed recommendations, best first, or empty if there is no valid list
+     */
+    private Optional<List<EventPoolDTO>> loadPrecomputed(UUID userId, long generation){
+        Optional<UserRecommendation> stored = userRecommendationRepository.findValidByUserId(userId);
+        if(stored.isEmpty()){
+            return Optional.empty();
+        }
+
+        List<UUID> eventIds = Arrays.asList(stored.get().getEventIds());
+        Map<UUID, EventPoolDTO> upcoming = eventRepository.findUpcomingPoolEntriesByIdIn(eventIds, LocalDateTime.now()).stream()
+            .collect(Collectors.toMap(EventPoolDTO::getId, Function.identity()));
+        List<EventPoolDTO> recommendations = eventIds.stream()
+            .map(upcoming::get)
+            .filter(dto -> dto != null)
+            .toList();
+        if(recommendations.isEmpty()){
+            return Optional.empty();
+        }
+
+        Integer[] sports = stored.get().getSports();
+        recommendationCache.put(userId, recommendations, sports.length == 0 ? null : new HashSet<>(Arrays.asList(sports)), generation);
+        return Optional.of(recommendations);
+    }
+
+    /**
+     * Collects the sports the user's candidate events are drawn from: preferred sports and sports
+     * from the event history. Returns null for users without preferences, whose candidates come from every sport.
+     *
+     * @param user the user whose candidate sports to collect
+     * @param userEventHistory the list of events the user has previously attended
+     * @return Set of sport IDs, or null if candidates are not restricted by sport
+     */
+    private Set<Integer> getCandidateSports(User user, List<Event> userEventHistory){
+        Set<SportUser> userSports = user.getSports();
+
+        if(userSports == null || userSports.isEmpty()){
+            return null;
+        }
+
+        Set<Integer> sports = userSports.stream()
+            .map(SportUser::getSport)
+            .collect(Collectors.toSet());
+        userEventHistory.forEach(event -> sports.add(event.getSport()));
+        return sports;
     }
 
     /**
      * Retrieves candidate events for recommendation based on user's sports preferences and history.
      * Filters events to include only upcoming events the user hasn't joined.
-     * Includes events from both user's preferred sports and sports from their event history.
+     * Preferred sports and sports from the user's event history are merged and joined events are
+     * excluded within a single query, so the number of statements does not grow with the candidates.
      *
      * @param user the user for whom to retrieve candidate events
      * @return List of candidate events for recommendation
@@ -97,50 +177,31 @@ public class RecommendationService {
             .map(SportUser::getSport)
             .collect(Collectors.toSet());
 
-            List<Event> prefferedSportEvents = eventRepository.findEventsBySports(sportIds, now);
-
-            Set<Integer> historicalSports = eventParticipantRepository.findSportsFromUserHistory(user.getId());
-
-            if(!historicalSports.isEmpty() && !historicalSports.equals(sportIds)){
-                List<Event> historicalSportEvents = eventRepository.findEventsBySports(historicalSports, now);
-                prefferedSportEvents.addAll(historicalSportEvents);
-            }
-
-            return prefferedSportEvents.stream()
-                .distinct()
-                .filter(event -> !isUserJoined(user.getId(), event.getId()))
-                .collect(Collectors.toList());    
+            return eventRepository.findRecommendationCandidates(user.getId(), sportIds, now);
         }
         return eventRepository.findUpcomingEventsNotAttendedByUser(user.getId(), now);  
     }
 
     /**
-     * Checks whether a user has already joined a specific event.
-     *
-     * @param userId the unique identifier of the user
-     * @param eventId the unique identifier of the event
-     * @return true if the user has joined the event, false otherwise
-     */
-    private boolean isUserJoined(UUID userId, UUID eventId){
-        return eventParticipantRepository.findByUserIdAndEventId(userId, eventId).isPresent();
-    }
-
-    /**
-     * Calculates recommendation scores for all candidate events.
-     * Uses the ContentBasedScorer to compute a score for each event based on user preferences and history.
+     * Scores all candidate events and selects the best ones in a single pass.
+     * Each event's ContentBasedScorer score is blended with its co-participation score,
+     * and a bounded heap keeps only the top candidates.
      *
      * @param events the list of candidate events to score
      * @param user the user for whom to calculate scores
      * @param userEventHistory the list of events the user has previously attended
-     * @return Map of event IDs to their calculated recommendation scores
+     * @param limit the maximum number of events to select
+     * @return indices into events of the selected events, best first
      */
-    private Map<UUID, Double> calculateEventScores(List<Event> events, User user, List<Event> userEventHistory){
-        Map<UUID, Double> scores = new HashMap<>();
-
-        for(Event event : events){
-            double score = contentBasedScorer.calculateScore(event, user, userEventHistory);
-            scores.put(event.getId(), score);
+    private int[] selectTopEvents(List<Event> events, User user, List<Event> userEventHistory, int limit){
+        ScoringProfile profile = contentBasedScorer.compile(user, userEventHistory);
+        Map<UUID, Double> collaborativeScores = coParticipationIndex.scoresFor(user.getId());
+        TopKSelector selector = new TopKSelector(Math.min(limit, events.size()));
+
+        for(int i = 0; i < events.size(); i++){
+            Event event = events.get(i);
+            selector.offer(i, coParticipationIndex.blend(profile.score(event), collaborativeScores.getOrDefault(event.getId(), 0.0)));
         }
-        return scores;
+        return selector.indicesByScoreDescending();
     }
 }
@@ -0,0 +1,232 @@
+package com.webapp.Eventified.service.recommendation;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import com.webapp.Eventified.model.Event;
+import com.webapp.Eventified.model.SportUser;
+import com.webapp.Eventified.model.User;
+
+/**
+ * A user's preferences and attendance history compiled into primitive lookup tables.
+ * Produces the same scores as {@link ContentBasedScorer#calculateScore}, but scores each candidate
+ * in constant time: the preferred skill per sport is a direct array lookup and the average similarity
+ * to the attended history is read from a table precomputed per sport and candidate skill level.
+ * Instances are immutable and may be shared between threads.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public final class ScoringProfile {
+
+    private static final int NO_PREFERENCE = -1;
+    private static final int SKILL_SIMILARITY_RANGE = 5;
+
+    private final boolean hasPreferences;
+    private final int[] preferredSkillBySport;
+    private final int historySize;
+    private final int[] historyCountBySport;
+    private final int[][] historySkillCounts;
+    private final double[][] historySimilaritySums;
+    private final LocalDateTime now;
+
+    /**
+     * Compiles the scoring tables from primitive arrays.
+     * preferredSports and preferredSkills are parallel arrays, as are historySports and historySkills.
+     *
+     * @param preferredSports the sports the user prefers
+     * @param preferredSkills the user's skill level in each preferred sport
+     * @param historySports the sport of each event the user has attended
+     * @param historySkills the skill level of each event the user has attended
+     * @param now the moment recency is measured from
+     */
+    ScoringProfile(int[] preferredSports, int[] preferredSkills, int[] historySports, int[] historySkills, LocalDateTime now) {
+        this.now = now;
+        this.hasPreferences = preferredSports.length > 0;
+
+        int maxPreferredSport = -1;
+        for (int sport : preferredSports) {
+            maxPreferredSport = Math.max(maxPreferredSport, sport);
+        }
+        this.preferredSkillBySport = new int[maxPreferredSport + 1];
+        Arrays.fill(preferredSkillBySport, NO_PREFERENCE);
+        for (int i = 0; i < preferredSports.length; i++) {
+            if (preferredSports[i] >= 0 && preferredSkillBySport[preferredSports[i]] == NO_PREFERENCE) {
+                preferredSkillBySport[preferredSports[i]] = preferredSkills[i];
+            }
+        }
+
+        this.historySize = historySports.length;
+
+        int maxHistorySport = -1;
+        int maxHistorySkill = -1;
+        for (int i = 0; i < historySize; i++) {
+            maxHistorySport = Math.max(maxHistorySport, historySports[i]);
+            maxHistorySkill = Math.max(maxHistorySkill, historySkills[i]);
+        }
+
+        this.historyCountBySport = new int[maxHistorySport + 1];
+        this.historySkillCounts = new int[maxHistorySport + 1][];
+        for (int i = 0; i < historySize; i++) {
+            int sport = historySports[i];
+            if (sport < 0 || historySkills[i] < 0) {
+                continue;
+            }
+            if (historySkillCounts[sport] == null) {
+                historySkillCounts[sport] = new int[maxHistorySkill + 1];
+            }
+            historyCountBySport[sport]++;
+            historySkillCounts[sport][historySkills[i]]++;
+        }
+
+        this.historySimilaritySums = new double[maxHistorySport + 1][];
+        for (int sport = 0; sport < historySkillCounts.length; sport++) {
+            if (historySkillCounts[sport] == null) {
+                continue;
+            }
+            double[] sums = new double[maxHistorySkill + SKILL_SIMILARITY_RANGE + 1];
+            for (int skill = 0; skill < sums.length; skill++) {
+                sums[skill] = similaritySum(historySkillCounts[sport], skill);
+            }
+            historySimilaritySums[sport] = sums;
+        }
+    }
+
+    /**
+     * Compiles the scoring tables for a user.
+     *
+     * @param user the user whose sport preferences to compile
+     * @param attendedEvents list of events the user has previously attended
+     * @param now the moment recency is measured from
+     * @return the compiled scoring profile
+     */
+    static ScoringProfile of(User user, List<Event> attendedEvents, LocalDateTime now) {
+        Set<SportUser> userSports = user.getSports() == null ? Set.of() : user.getSports();
+        int[] preferredSports = new int[userSports.size()];
+        int[] preferredSkills = new int[userSports.size()];
+        int i = 0;
+        for (SportUser sportUser : userSports) {
+            preferredSports[i] = sportUser.getSport();
+            preferredSkills[i] = sportUser.getSkillLevel();
+            i++;
+        }
+
+        int historySize = attendedEvents == null ? 0 : attendedEvents.size();
+        int[] historySports = new int[historySize];
+        int[] historySkills = new int[historySize];
+        for (int j = 0; j < historySize; j++) {
+            historySports[j] = attendedEvents.get(j).getSport();
+            historySkills[j] = attendedEvents.get(j).getSkillLevel();
+        }
+
+        return new ScoringProfile(preferredSports, preferredSkills, historySports, historySkills, now);
+    }
+
+    /**
+     * Calculates the recommendation score of an event for the compiled user.
+     * Allocates nothing and does not depend on the size of the user's history.
+     *
+     * @param event The event to score
+     * @return A score between 0.0 and 1.0 indicating recommendation strength
+     */
+    public double score(Event event) {
+        return score(event.getSport(), event.getSkillLevel(), event.getStartTime());
+    }
+
+    /**
+     * Calculates the recommendation score of an event described by its sport, skill level and start time.
+     *
+     * @param sport the sport of the scored event
+     * @param skillLevel the skill level of the scored event
+     * @param startTime the start time of the scored event
+     * @return A score between 0.0 and 1.0 indicating recommendation strength
+     */
+    public double score(int sport, int skillLevel, LocalDateTime startTime) {
+        double preferenceScore;
+        double skillScore;
+        int preferredSkill = sport >= 0 && sport < preferredSkillBySport.length ? preferredSkillBySport[sport] : NO_PREFERENCE;
+        if (!hasPreferences) {
+            preferenceScore = 0.0;
+            skillScore = 0.5;
+        } else if (preferredSkill == NO_PREFERENCE) {
+            preferenceScore = 0.0;
+            skillScore = 0.3;
+        } else {
+            int skillDifference = Math.abs(preferredSkill - skillLevel);
+            preferenceScore = Math.max(0.0, 1.0 - (skillDifference * 0.1));
+            skillScore = Math.max(0.0, 1.0 - (skillDifference * 0.2));
+        }
+
+        return (preferenceScore * ContentBasedScorer.PREFERENCE_WEIGHT) +
+               (historyScore(sport, skillLevel) * ContentBasedScorer.HISTORY_WEIGHT) +
+               (skillScore * ContentBasedScorer.SKILL_MATCH_WEIGHT) +
+               (recencyScore(startTime) * ContentBasedScorer.RECENCY_WEIGHT);
+    }
+
+    /**
+     * Returns the average similarity of an event with the given sport and skill level to the attended history.
+     *
+     * @param sport the sport of the scored event
+     * @param skillLevel the skill level of the scored event
+     * @return the history score, 0.5 if the user has no history
+     */
+    private double historyScore(int sport, int skillLevel) {
+        if (historySize == 0) {
+            return 0.5;
+        }
+        if (sport < 0 || sport >= historySimilaritySums.length || historySimilaritySums[sport] == null) {
+            return 0.0;
+        }
+
+        double[] sums = historySimilaritySums[sport];
+        double sum;
+        if (skillLevel >= 0 && skillLevel < sums.length) {
+            sum = sums[skillLevel];
+        } else if (skillLevel >= sums.length) {
+            sum = 0.6 * historyCountBySport[sport];
+        } else {
+            sum = similaritySum(historySkillCounts[sport], skillLevel);
+        }
+        return sum / historySize;
+    }
+
+    /**
+     * Sums the similarity of an event with the given skill level to every attended event of one sport.
+     *
+     * @param skillCounts number of attended events of the sport per skill level
+     * @param skillLevel the skill level of the scored event
+     * @return the summed similarity
+     */
+    private static double similaritySum(int[] skillCounts, int skillLevel) {
+        double sum = 0.0;
+        for (int attendedSkill = 0; attendedSkill < skillCounts.length; attendedSkill++) {
+            if (skillCounts[attendedSkill] == 0) {
+                continue;
+            }
+            int skillDiff = Math.abs(skillLevel - attendedSkill);
+            double skillSimilarity = Math.max(0.0, 1.0 - (skillDiff * 0.2));
+            sum += skillCounts[attendedSkill] * (0.6 + 0.4 * skillSimilarity);
+        }
+        return sum;
+    }
+
+    /**
+     * Calculates a recency score based on how soon the event is happening.
+     *
+     * @param startTime the start time of the scored event
+     * @return A score between 0.2 and 1.0 based on days until the event
+     */
+    private double recencyScore(LocalDateTime startTime) {
+        long daysUntilEvent = ChronoUnit.DAYS.between(now, startTime);
+
+        if (daysUntilEvent <= 7) return 1.0;
+        if (daysUntilEvent <= 14) return 0.8;
+        if (daysUntilEvent <= 30) return 0.6;
+        if (daysUntilEvent <= 60) return 0.4;
+
+        return 0.2;
+    }
+}
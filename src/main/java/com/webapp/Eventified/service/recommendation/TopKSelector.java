@@ -0,0 +1,130 @@
+package com.webapp.Eventified.service.recommendation;
+
+/**
+ * Streaming selector of the k highest scored candidates.
+ * Keeps a bounded binary min-heap of primitive (score, index) pairs, so selecting the best k of n candidates
+ * takes O(n log k) time and O(k) memory instead of scoring into a map and sorting everything.
+ * Candidates are identified by the index they were offered with; among equal scores the lower index ranks
+ * higher, which gives the same order as a stable descending sort of the candidates by index.
+ * Instances are not thread-safe.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public final class TopKSelector {
+
+    private final double[] scores;
+    private final int[] indices;
+    private int size;
+
+    /**
+     * Constructs a selector keeping at most k candidates.
+     *
+     * @param k the number of candidates to select
+     * @throws IllegalArgumentException if k is negative
+     */
+    public TopKSelector(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative");
+        }
+        this.scores = new double[k];
+        this.indices = new int[k];
+    }
+
+    /**
+     * Offers a candidate to the selector.
+     *
+     * @param index the index identifying the candidate
+     * @param score the candidate's score
+     */
+    public void offer(int index, double score) {
+        if (size < scores.length) {
+            scores[size] = score;
+            indices[size] = index;
+            siftUp(size++);
+        } else if (size > 0 && ranksBelow(scores[0], indices[0], score, index)) {
+            scores[0] = score;
+            indices[0] = index;
+            siftDown(0, size);
+        }
+    }
+
+    /**
+     * Returns the number of candidates currently held.
+     *
+     * @return the candidate count, at most k
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the indices of the selected candidates, best first.
+     * The selector can keep receiving candidates afterwards.
+     *
+     * @return array of candidate indices ordered by descending score
+     */
+    public int[] indicesByScoreDescending() {
+        double[] heapScores = scores.clone();
+        int[] heapIndices = indices.clone();
+        int[] result = new int[size];
+
+        for (int remaining = size; remaining > 0; remaining--) {
+            result[remaining - 1] = heapIndices[0];
+            heapScores[0] = heapScores[remaining - 1];
+            heapIndices[0] = heapIndices[remaining - 1];
+            siftDown(heapScores, heapIndices, 0, remaining - 1);
+        }
+        return result;
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!ranksBelow(scores[position], indices[position], scores[parent], indices[parent])) {
+                return;
+            }
+            swap(scores, indices, position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position, int heapSize) {
+        siftDown(scores, indices, position, heapSize);
+    }
+
+    private static void siftDown(double[] heapScores, int[] heapIndices, int position, int heapSize) {
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < heapSize && ranksBelow(heapScores[left], heapIndices[left], heapScores[smallest], heapIndices[smallest])) {
+                smallest = left;
+            }
+            if (right < heapSize && ranksBelow(heapScores[right], heapIndices[right], heapScores[smallest], heapIndices[smallest])) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(heapScores, heapIndices, position, smallest);
+            position = smallest;
+        }
+    }
+
+    /**
+     * Checks whether candidate a ranks below candidate b: a lower score, or an equal score and a higher index.
+     */
+    private static boolean ranksBelow(double scoreA, int indexA, double scoreB, int indexB) {
+        return scoreA < scoreB || (scoreA == scoreB && indexA > indexB);
+    }
+
+    private static void swap(double[] heapScores, int[] heapIndices, int a, int b) {
+        double score = heapScores[a];
+        heapScores[a] = heapScores[b];
+        heapScores[b] = score;
+        int index = heapIndices[a];
+        heapIndices[a] = heapIndices[b];
+        heapIndices[b] = index;
+    }
+}
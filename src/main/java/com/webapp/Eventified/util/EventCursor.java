@@ -0,0 +1,65 @@
+package com.webapp.Eventified.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import lombok.Getter;
+
+/**
+ * Keyset pagination cursor for event listings.
+ * Points at the (startTime, id) pair of the last event returned on a page and is
+ * exchanged with clients as an opaque URL-safe token.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+@Getter
+public class EventCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime startTime;
+    private final UUID id;
+
+    /**
+     * Constructs a cursor pointing at the given event position.
+     *
+     * @param startTime the start time of the last returned event
+     * @param id the unique identifier of the last returned event
+     */
+    public EventCursor(LocalDateTime startTime, UUID id) {
+        this.startTime = startTime;
+        this.id = id;
+    }
+
+    /**
+     * Encodes this cursor into an opaque token.
+     *
+     * @return URL-safe Base64 token representing this cursor
+     */
+    public String encode() {
+        String raw = startTime.toString() + SEPARATOR + id.toString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token the opaque cursor token
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static EventCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new EventCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    UUID.fromString(raw.substring(separatorIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.webapp.Eventified.util;
+
+/**
+ * Utility class for geographic calculations on latitude/longitude coordinates.
+ * Uses a spherical Earth model, which is accurate enough for radius searches of a few hundred kilometres.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public final class GeoUtil {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    private GeoUtil() {
+    }
+
+    /**
+     * Calculates the great-circle distance between two points using the haversine formula.
+     *
+     * @param latitude1 latitude of the first point in degrees
+     * @param longitude1 longitude of the first point in degrees
+     * @param latitude2 latitude of the second point in degrees
+     * @param longitude2 longitude of the second point in degrees
+     * @return the distance in kilometres
+     */
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLat = Math.toRadians(latitude2 - latitude1);
+        double dLon = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * Calculates how many degrees of latitude cover the given distance on the same sphere as {@link #distanceKm}.
+     *
+     * @param radiusKm the distance in kilometres
+     * @return the latitude span in degrees
+     */
+    public static double latitudeDelta(double radiusKm) {
+        return Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+    }
+
+    /**
+     * Calculates the longitude half-width of the smallest box enclosing a circle around a point.
+     * The widest point of the circle lies poleward of its centre, so the span is
+     * asin(sin(r / R) / cos(latitude)) rather than the span at the centre's latitude.
+     * Returns 180 when the circle reaches a pole, where every longitude is within reach.
+     *
+     * @param latitude the latitude in degrees of the circle's centre
+     * @param radiusKm the radius of the circle in kilometres
+     * @return the longitude span in degrees, at most 180
+     */
+    public static double longitudeDelta(double latitude, double radiusKm) {
+        double latitudeDelta = latitudeDelta(radiusKm);
+        if (latitude + latitudeDelta >= 90.0 || latitude - latitudeDelta <= -90.0) {
+            return 180.0;
+        }
+        double ratio = Math.sin(radiusKm / EARTH_RADIUS_KM) / Math.cos(Math.toRadians(latitude));
+        if (ratio >= 1.0) {
+            return 180.0;
+        }
+        return Math.toDegrees(Math.asin(ratio));
+    }
+
+    /**
+     * Checks whether the given coordinates are valid WGS84 degrees.
+     *
+     * @param latitude the latitude in degrees
+     * @param longitude the longitude in degrees
+     * @return true if latitude is within [-90, 90] and longitude within [-180, 180]
+     */
+    public static boolean isValidCoordinate(double latitude, double longitude) {
+        return latitude >= -90.0 && latitude <= 90.0 && longitude >= -180.0 && longitude <= 180.0;
+    }
+}
@@ -0,0 +1,36 @@
+package com.webapp.Eventified.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utility class for running side effects only once the surrounding transaction has committed.
+ * In-memory indexes, caches and timers must not observe writes that may still roll back.
+ *
+ * @author Eventified Team
+ * @version 1.0
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * Runs an action after the current transaction commits. The action is dropped if the transaction
+     * rolls back, and runs immediately when there is no transaction synchronization.
+     *
+     * @param action the side effect to run
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,2 @@
+CREATE INDEX idx_events_sport_skill_level_start_time ON events (sport, skill_level, start_time);
+CREATE INDEX idx_events_start_time ON events (start_time);
@@ -0,0 +1,4 @@
+DROP INDEX IF EXISTS idx_events_start_time;
+
+CREATE INDEX idx_events_start_time_id ON events (start_time, id);
+CREATE INDEX idx_events_organizer_start_time_id ON events (organizer_id, start_time, id);
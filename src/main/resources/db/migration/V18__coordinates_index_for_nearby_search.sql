@@ -0,0 +1 @@
+CREATE INDEX idx_events_latitude_longitude ON events (latitude, longitude);
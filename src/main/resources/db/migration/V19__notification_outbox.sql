@@ -0,0 +1,10 @@
+CREATE TABLE notification_outbox(
+    id BIGSERIAL PRIMARY KEY,
+    type_of_notification INT NOT NULL,
+    event_id UUID NOT NULL,
+    recipient_id UUID,
+    actor_username TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (event_id) REFERENCES events(id) ON DELETE CASCADE,
+    FOREIGN KEY (recipient_id) REFERENCES users(id) ON DELETE CASCADE
+);
@@ -0,0 +1,80 @@
+CREATE TABLE user_notification_counters(
+    user_id UUID PRIMARY KEY,
+    unread INT NOT NULL DEFAULT 0,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+INSERT INTO user_notification_counters (user_id, unread)
+SELECT user_id, COUNT(*)
+FROM notifications
+WHERE is_read = FALSE
+GROUP BY user_id;
+
+CREATE INDEX idx_notifications_user_unread ON notifications (user_id) WHERE is_read = FALSE;
+
+CREATE OR REPLACE FUNCTION count_inserted_unread_notifications()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO user_notification_counters (user_id, unread)
+    SELECT user_id, COUNT(*)
+    FROM inserted_rows
+    WHERE is_read = FALSE
+    GROUP BY user_id
+    ON CONFLICT (user_id) DO UPDATE
+    SET unread = user_notification_counters.unread + EXCLUDED.unread;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION count_updated_unread_notifications()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE user_notification_counters c
+    SET unread = c.unread + changes.delta
+    FROM (
+        SELECT new_rows.user_id,
+               SUM(CASE WHEN new_rows.is_read = FALSE THEN 1 ELSE 0 END
+                 - CASE WHEN old_rows.is_read = FALSE THEN 1 ELSE 0 END) AS delta
+        FROM new_rows
+        JOIN old_rows ON old_rows.id = new_rows.id
+        WHERE new_rows.is_read IS DISTINCT FROM old_rows.is_read
+        GROUP BY new_rows.user_id
+    ) changes
+    WHERE c.user_id = changes.user_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION count_deleted_unread_notifications()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE user_notification_counters c
+    SET unread = c.unread - changes.removed
+    FROM (
+        SELECT user_id, COUNT(*) AS removed
+        FROM deleted_rows
+        WHERE is_read = FALSE
+        GROUP BY user_id
+    ) changes
+    WHERE c.user_id = changes.user_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_count_inserted_unread
+    AFTER INSERT ON notifications
+    REFERENCING NEW TABLE AS inserted_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION count_inserted_unread_notifications();
+
+CREATE TRIGGER trigger_count_updated_unread
+    AFTER UPDATE ON notifications
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION count_updated_unread_notifications();
+
+CREATE TRIGGER trigger_count_deleted_unread
+    AFTER DELETE ON notifications
+    REFERENCING OLD TABLE AS deleted_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION count_deleted_unread_notifications();
@@ -0,0 +1 @@
+CREATE INDEX idx_notifications_user_created_at_id ON notifications (user_id, created_at DESC, id DESC);
@@ -0,0 +1 @@
+CREATE INDEX idx_notifications_type_created_at ON notifications (type_of_notification, created_at);
@@ -0,0 +1 @@
+CREATE INDEX idx_events_pending_reminder ON events (start_time) WHERE reminder_sent = FALSE AND status_of_event = 0;
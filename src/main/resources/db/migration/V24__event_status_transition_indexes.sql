@@ -0,0 +1,2 @@
+CREATE INDEX idx_events_open_end_time ON events (status_of_event, end_time) WHERE status_of_event IN (0, 1);
+CREATE INDEX idx_events_active_start_time ON events (status_of_event, start_time) WHERE status_of_event = 0;
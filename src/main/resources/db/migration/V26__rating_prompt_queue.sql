@@ -0,0 +1,35 @@
+CREATE TABLE rating_prompt_queue(
+    event_id UUID PRIMARY KEY,
+    due_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (event_id) REFERENCES events(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_rating_prompt_queue_due_at ON rating_prompt_queue (due_at);
+
+INSERT INTO rating_prompt_queue (event_id, due_at)
+SELECT e.id, e.end_time + INTERVAL '30 minutes'
+FROM events e
+WHERE e.status_of_event = 2
+  AND e.rated = FALSE
+  AND NOT EXISTS (
+      SELECT 1 FROM notifications n
+      WHERE n.event_id = e.id
+        AND n.user_id = e.organizer_id
+        AND n.type_of_notification = 3
+  );
+
+CREATE OR REPLACE FUNCTION enqueue_rating_prompt()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO rating_prompt_queue (event_id, due_at)
+    VALUES (NEW.id, NEW.end_time + INTERVAL '30 minutes')
+    ON CONFLICT (event_id) DO NOTHING;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_enqueue_rating_prompt
+    AFTER UPDATE OF status_of_event ON events
+    FOR EACH ROW
+    WHEN (NEW.status_of_event = 2 AND OLD.status_of_event IS DISTINCT FROM 2 AND NEW.rated = FALSE)
+    EXECUTE FUNCTION enqueue_rating_prompt();
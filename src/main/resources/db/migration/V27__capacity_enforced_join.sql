@@ -0,0 +1,7 @@
+DROP TRIGGER IF EXISTS trigger_increment_occupied ON event_participants;
+
+CREATE TRIGGER trigger_increment_occupied
+    AFTER INSERT ON event_participants
+    FOR EACH ROW
+    WHEN (NEW.role_of_participant = 0)
+    EXECUTE FUNCTION increment_occupied_count();
\ No newline at end of file
@@ -0,0 +1,13 @@
+CREATE TABLE user_recommendations(
+    user_id UUID PRIMARY KEY,
+    event_ids UUID[] NOT NULL DEFAULT '{}',
+    sports INTEGER[] NOT NULL DEFAULT '{}',
+    computed_at TIMESTAMP NOT NULL DEFAULT '-infinity',
+    invalidated_at TIMESTAMP NOT NULL DEFAULT '-infinity',
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE TABLE recommendation_sport_invalidations(
+    sport INTEGER PRIMARY KEY,
+    invalidated_at TIMESTAMP NOT NULL
+);
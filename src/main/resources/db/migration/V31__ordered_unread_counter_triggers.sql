@@ -0,0 +1,66 @@
+CREATE OR REPLACE FUNCTION count_inserted_unread_notifications()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO user_notification_counters (user_id, unread)
+    SELECT user_id, COUNT(*)
+    FROM inserted_rows
+    WHERE is_read = FALSE
+    GROUP BY user_id
+    ORDER BY user_id
+    ON CONFLICT (user_id) DO UPDATE
+    SET unread = user_notification_counters.unread + EXCLUDED.unread;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION count_updated_unread_notifications()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM 1
+    FROM user_notification_counters c
+    WHERE c.user_id IN (
+        SELECT new_rows.user_id
+        FROM new_rows
+        JOIN old_rows ON old_rows.id = new_rows.id
+        WHERE new_rows.is_read IS DISTINCT FROM old_rows.is_read
+    )
+    ORDER BY c.user_id
+    FOR UPDATE;
+
+    UPDATE user_notification_counters c
+    SET unread = c.unread + changes.delta
+    FROM (
+        SELECT new_rows.user_id,
+               SUM(CASE WHEN new_rows.is_read = FALSE THEN 1 ELSE 0 END
+                 - CASE WHEN old_rows.is_read = FALSE THEN 1 ELSE 0 END) AS delta
+        FROM new_rows
+        JOIN old_rows ON old_rows.id = new_rows.id
+        WHERE new_rows.is_read IS DISTINCT FROM old_rows.is_read
+        GROUP BY new_rows.user_id
+    ) changes
+    WHERE c.user_id = changes.user_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION count_deleted_unread_notifications()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM 1
+    FROM user_notification_counters c
+    WHERE c.user_id IN (SELECT user_id FROM deleted_rows WHERE is_read = FALSE)
+    ORDER BY c.user_id
+    FOR UPDATE;
+
+    UPDATE user_notification_counters c
+    SET unread = c.unread - changes.removed
+    FROM (
+        SELECT user_id, COUNT(*) AS removed
+        FROM deleted_rows
+        WHERE is_read = FALSE
+        GROUP BY user_id
+    ) changes
+    WHERE c.user_id = changes.user_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -23,6 +23,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.webapp.Eventified.controller.user.EventController;
 import com.webapp.Eventified.dto.user.EventDetailsDTO;
+import com.webapp.Eventified.dto.user.EventPageDTO;
 import com.webapp.Eventified.dto.user.EventPoolDTO;
 import com.webapp.Eventified.model.Event;
 import com.webapp.Eventified.service.EventService;
@@ -100,4 +101,30 @@ class EventControllerTest {
 		eq(new BigDecimal("21.2")));
     }
 
+    @Test
+    @DisplayName("GET /event/all: limit given -> returns page")
+    void getAllEvents_paged() throws Exception {
+	UUID id = UUID.randomUUID();
+	when(eventService.getAllEventsPage(null, 1)).thenReturn(new EventPageDTO(List.of(dto(id, "T")), "next"));
+
+	// Act + Assert
+	mockMvc.perform(get("/event/all").param("limit", "1"))
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.events[0].title").value("T"))
+		.andExpect(jsonPath("$.nextCursor").value("next"));
+
+	verify(eventService, never()).getAllEvents();
+    }
+
+    @Test
+    @DisplayName("GET /event/all: invalid cursor -> 400")
+    void getAllEvents_invalidCursor() throws Exception {
+	when(eventService.getAllEventsPage("bad", null)).thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+	// Act + Assert
+	mockMvc.perform(get("/event/all").param("cursor", "bad"))
+		.andExpect(status().isBadRequest())
+		.andExpect(content().string("Invalid cursor"));
+    }
+
 }
@@ -0,0 +1,137 @@
+package UnitTests.Controller;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.webapp.Eventified.controller.user.NotificationController;
+import com.webapp.Eventified.dto.user.NotificationPageDTO;
+import com.webapp.Eventified.service.NotificationService;
+
+class NotificationControllerTest {
+
+	private NotificationService notificationService;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		notificationService = mock(NotificationService.class);
+		NotificationController controller = new NotificationController(notificationService);
+		mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+	}
+
+	private static TestingAuthenticationToken auth(String username) {
+		return new TestingAuthenticationToken(username, "pw", "ROLE_USER");
+	}
+
+	@Test
+	@DisplayName("PUT /notifications/read/all: returns number marked -> 200")
+	void markAllAsRead_ok() throws Exception {
+		// Arrange
+		when(notificationService.markAllAsRead("alice")).thenReturn(4);
+
+		// Act + Assert
+		mockMvc.perform(put("/notifications/read/all").principal(auth("alice")))
+				.andExpect(status().isOk())
+				.andExpect(content().string("4"));
+	}
+
+	@Test
+	@DisplayName("PUT /notifications/read/all: user not found -> 400")
+	void markAllAsRead_userNotFound() throws Exception {
+		// Arrange
+		when(notificationService.markAllAsRead("ghost")).thenThrow(new IllegalArgumentException("User not found"));
+
+		// Act + Assert
+		mockMvc.perform(put("/notifications/read/all").principal(auth("ghost")))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().string("User not found"));
+	}
+
+	@Test
+	@DisplayName("PUT /notifications/read: marks the given ids -> 200 with count")
+	void markAsReadByIds_ok() throws Exception {
+		// Arrange
+		UUID first = UUID.randomUUID();
+		UUID second = UUID.randomUUID();
+		when(notificationService.markAsRead("alice", List.of(first, second))).thenReturn(2);
+
+		// Act + Assert
+		mockMvc.perform(put("/notifications/read")
+						.principal(auth("alice"))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("[\"" + first + "\",\"" + second + "\"]"))
+				.andExpect(status().isOk())
+				.andExpect(content().string("2"));
+	}
+
+	@Test
+	@DisplayName("DELETE /notifications?olderThan: returns number deleted -> 200")
+	void deleteOlderThan_ok() throws Exception {
+		// Arrange
+		LocalDateTime olderThan = LocalDateTime.of(2025, 1, 1, 0, 0);
+		when(notificationService.deleteNotificationsOlderThan(eq("alice"), eq(olderThan))).thenReturn(7);
+
+		// Act + Assert
+		mockMvc.perform(delete("/notifications")
+						.param("olderThan", "2025-01-01T00:00:00")
+						.principal(auth("alice")))
+				.andExpect(status().isOk())
+				.andExpect(content().string("7"));
+	}
+
+	@Test
+	@DisplayName("DELETE /notifications?olderThan: invalid date -> 400")
+	void deleteOlderThan_invalidDate() throws Exception {
+		// Act + Assert
+		mockMvc.perform(delete("/notifications")
+						.param("olderThan", "yesterday")
+						.principal(auth("alice")))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().string("Invalid date format"));
+
+		verifyNoInteractions(notificationService);
+	}
+
+	@Test
+	@DisplayName("GET /notifications/feed: returns the page -> 200")
+	void feed_ok() throws Exception {
+		// Arrange
+		when(notificationService.getNotificationFeed("alice", "abc", 10)).thenReturn(new NotificationPageDTO(List.of(), "next"));
+
+		// Act + Assert
+		mockMvc.perform(get("/notifications/feed")
+						.param("cursor", "abc")
+						.param("limit", "10")
+						.principal(auth("alice")))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.nextCursor").value("next"));
+	}
+
+	@Test
+	@DisplayName("GET /notifications/feed: invalid cursor -> 400")
+	void feed_invalidCursor() throws Exception {
+		// Arrange
+		when(notificationService.getNotificationFeed("alice", "bad", null)).thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+		// Act + Assert
+		mockMvc.perform(get("/notifications/feed")
+						.param("cursor", "bad")
+						.principal(auth("alice")))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().string("Invalid cursor"));
+	}
+}
@@ -0,0 +1,94 @@
+package UnitTests.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.webapp.Eventified.repository.SchedulerLockRepository;
+import com.webapp.Eventified.service.cluster.ClusterJobLock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ClusterJobLockTest {
+
+    private SchedulerLockRepository schedulerLockRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private ClusterJobLock clusterJobLock;
+
+    @BeforeEach
+    void setUp() {
+        schedulerLockRepository = mock(SchedulerLockRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        clusterJobLock = new ClusterJobLock(schedulerLockRepository, meterRegistry, "node-1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("callExclusively: lease taken runs the task and releases the lease")
+    void callExclusively_leaseTaken_runsAndReleases() {
+        // Arrange
+        when(schedulerLockRepository.tryLock("job", "node-1", 600_000L)).thenReturn(1);
+
+        // Act
+        Optional<Integer> result = clusterJobLock.callExclusively("job", Duration.ofMinutes(10), Duration.ofSeconds(30), () -> 7);
+
+        // Assert
+        assertAll(
+            () -> assertEquals(Optional.of(7), result),
+            () -> assertEquals(1.0, meterRegistry.get("eventified.scheduler.lock").tag("result", "acquired").counter().count())
+        );
+
+        // Verify
+        verify(schedulerLockRepository).unlock("job", "node-1", 30_000L);
+    }
+
+    @Test
+    @DisplayName("runExclusively: lease held by another node skips the task")
+    void runExclusively_leaseHeld_skips() {
+        // Arrange
+        when(schedulerLockRepository.tryLock("job", "node-1", 600_000L)).thenReturn(0);
+        Runnable task = mock(Runnable.class);
+
+        // Act
+        boolean ran = clusterJobLock.runExclusively("job", Duration.ofMinutes(10), Duration.ofSeconds(30), task);
+
+        // Assert
+        assertFalse(ran);
+
+        // Verify
+        verifyNoInteractions(task);
+        verify(schedulerLockRepository, never()).unlock("job", "node-1", 30_000L);
+    }
+
+    @Test
+    @DisplayName("runExclusively: inside a transaction the lease is released only after completion")
+    void runExclusively_transaction_releasesAfterCompletion() {
+        // Arrange
+        when(schedulerLockRepository.tryLock("job", "node-1", 600_000L)).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        clusterJobLock.runExclusively("job", Duration.ofMinutes(10), Duration.ofSeconds(30), () -> { });
+        verify(schedulerLockRepository, never()).unlock("job", "node-1", 30_000L);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Verify
+        verify(schedulerLockRepository).unlock("job", "node-1", 30_000L);
+    }
+}
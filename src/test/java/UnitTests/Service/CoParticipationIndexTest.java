@@ -0,0 +1,226 @@
+package UnitTests.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.webapp.Eventified.repository.EventParticipantRepository;
+import com.webapp.Eventified.repository.ParticipationRow;
+import com.webapp.Eventified.service.recommendation.CoParticipationIndex;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CoParticipationIndexTest {
+
+    private EventParticipantRepository eventParticipantRepository;
+    private CoParticipationIndex index;
+    private LocalDateTime startTime;
+
+    @BeforeEach
+    void setUp() {
+        eventParticipantRepository = mock(EventParticipantRepository.class);
+        index = new CoParticipationIndex(eventParticipantRepository, new SimpleMeterRegistry(), 0.2, 180);
+        startTime = LocalDateTime.now().plusDays(1);
+    }
+
+    @Test
+    @DisplayName("scoresFor: events joined by the same users score by cosine similarity")
+    void scoresFor_cosineSimilarity() {
+        // Arrange
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        UUID carol = UUID.randomUUID();
+        UUID football = UUID.randomUUID();
+        UUID tennis = UUID.randomUUID();
+        UUID chess = UUID.randomUUID();
+
+        index.join(alice, football, startTime);
+        index.join(bob, football, startTime);
+        index.join(bob, tennis, startTime);
+        index.join(carol, chess, startTime);
+
+        // Act
+        Map<UUID, Double> scores = index.scoresFor(alice);
+
+        // Assert
+        assertAll(
+            () -> assertEquals(1 / Math.sqrt(2), scores.get(tennis), 1e-12),
+            () -> assertFalse(scores.containsKey(football)),
+            () -> assertFalse(scores.containsKey(chess)),
+            () -> assertEquals(3, index.eventCount()),
+            () -> assertEquals(2, index.pairCount())
+        );
+    }
+
+    @Test
+    @DisplayName("leave: undoes a join")
+    void leave_undoesJoin() {
+        // Arrange
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        UUID football = UUID.randomUUID();
+        UUID tennis = UUID.randomUUID();
+
+        index.join(alice, football, startTime);
+        index.join(bob, football, startTime);
+        index.join(bob, tennis, startTime);
+
+        // Act
+        index.leave(bob, tennis);
+        index.leave(bob, tennis);
+
+        // Assert
+        assertAll(
+            () -> assertTrue(index.scoresFor(alice).isEmpty()),
+            () -> assertEquals(0, index.pairCount())
+        );
+    }
+
+    @Test
+    @DisplayName("removeEvent: removed event is no longer scored and is dropped by compaction")
+    void removeEvent_droppedByCompaction() {
+        // Arrange
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        UUID football = UUID.randomUUID();
+        UUID tennis = UUID.randomUUID();
+        UUID chess = UUID.randomUUID();
+
+        index.join(alice, football, startTime);
+        index.join(bob, football, startTime);
+        index.join(bob, tennis, startTime);
+        index.join(bob, chess, startTime);
+
+        // Act
+        index.removeEvent(tennis);
+        Map<UUID, Double> beforeCompaction = index.scoresFor(alice);
+        index.compact();
+        Map<UUID, Double> afterCompaction = index.scoresFor(alice);
+
+        // Assert
+        assertAll(
+            () -> assertFalse(beforeCompaction.containsKey(tennis)),
+            () -> assertEquals(beforeCompaction, afterCompaction),
+            () -> assertEquals(2, index.eventCount()),
+            () -> assertEquals(2, index.pairCount())
+        );
+    }
+
+    @Test
+    @DisplayName("compact: drops events that started before the window")
+    void compact_dropsEventsOutsideWindow() {
+        // Arrange
+        UUID alice = UUID.randomUUID();
+        UUID oldEvent = UUID.randomUUID();
+        UUID newEvent = UUID.randomUUID();
+
+        index.join(alice, oldEvent, LocalDateTime.now().minusDays(200));
+        index.join(alice, newEvent, startTime);
+
+        // Act
+        index.compact();
+
+        // Assert
+        assertAll(
+            () -> assertEquals(1, index.eventCount()),
+            () -> assertEquals(0, index.pairCount())
+        );
+    }
+
+    @Test
+    @DisplayName("rebuild: builds the matrix from participation rows")
+    void rebuild_fromParticipationRows() {
+        // Arrange
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        UUID football = UUID.randomUUID();
+        UUID tennis = UUID.randomUUID();
+
+        index.join(UUID.randomUUID(), UUID.randomUUID(), startTime);
+        when(eventParticipantRepository.findParticipationRowsForEventsStartingAfter(any(LocalDateTime.class), anyCollection()))
+            .thenReturn(List.of(
+                new ParticipationRow(alice, football, 1, 2, startTime),
+                new ParticipationRow(bob, football, 1, 2, startTime),
+                new ParticipationRow(bob, tennis, 2, 2, startTime)));
+
+        // Act
+        index.rebuild();
+
+        // Assert
+        assertAll(
+            () -> assertEquals(2, index.eventCount()),
+            () -> assertEquals(1 / Math.sqrt(2), index.scoresFor(alice).get(tennis), 1e-12)
+        );
+    }
+
+    @Test
+    @DisplayName("rebuild: joins, leaves and removals made while the database is read are replayed")
+    void rebuild_concurrentChanges_replayed() {
+        // Arrange
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        UUID football = UUID.randomUUID();
+        UUID tennis = UUID.randomUUID();
+        UUID chess = UUID.randomUUID();
+        when(eventParticipantRepository.findParticipationRowsForEventsStartingAfter(any(LocalDateTime.class), anyCollection()))
+            .thenAnswer(invocation -> {
+                index.join(bob, tennis, startTime);
+                index.leave(bob, chess);
+                index.removeEvent(chess);
+                return List.of(
+                    new ParticipationRow(alice, football, 1, 2, startTime),
+                    new ParticipationRow(bob, football, 1, 2, startTime),
+                    new ParticipationRow(bob, chess, 3, 2, startTime));
+            });
+
+        // Act
+        index.rebuild();
+
+        // Assert
+        Map<UUID, Double> scores = index.scoresFor(alice);
+        assertAll(
+            () -> assertEquals(1 / Math.sqrt(2), scores.get(tennis), 1e-12),
+            () -> assertFalse(scores.containsKey(chess)),
+            () -> assertEquals(2, index.pairCount())
+        );
+    }
+
+    @Test
+    @DisplayName("rebuild: changes after a failed rebuild are not journaled")
+    void rebuild_failure_keepsCurrentMatrix() {
+        // Arrange
+        UUID alice = UUID.randomUUID();
+        UUID football = UUID.randomUUID();
+        index.join(alice, football, startTime);
+        when(eventParticipantRepository.findParticipationRowsForEventsStartingAfter(any(LocalDateTime.class), anyCollection()))
+            .thenThrow(new IllegalStateException("boom"));
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> index.rebuild());
+        index.leave(alice, football);
+
+        // Assert
+        assertAll(
+            () -> assertEquals(1, index.eventCount()),
+            () -> assertTrue(index.scoresFor(alice).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("blend: weights collaborative score by the configured share")
+    void blend_weightedSum() {
+        // Act + Assert
+        assertEquals(0.8 * 0.5 + 0.2 * 1.0, index.blend(0.5, 1.0), 1e-12);
+    }
+}
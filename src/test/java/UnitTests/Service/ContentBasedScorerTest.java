@@ -0,0 +1,86 @@
+package UnitTests.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.webapp.Eventified.model.Event;
+import com.webapp.Eventified.model.SportUser;
+import com.webapp.Eventified.model.User;
+import com.webapp.Eventified.service.recommendation.ContentBasedScorer;
+import com.webapp.Eventified.service.recommendation.ScoringProfile;
+
+class ContentBasedScorerTest {
+
+    private final ContentBasedScorer scorer = new ContentBasedScorer();
+
+    @Test
+    @DisplayName("compile: profile scores match calculateScore for random users and events")
+    void compile_matchesCalculateScore() {
+        // Arrange
+        Random random = new Random(42);
+
+        for (int round = 0; round < 200; round++) {
+            User user = user(random);
+            List<Event> history = new ArrayList<>();
+            int historySize = random.nextInt(4) == 0 ? 0 : random.nextInt(30);
+            for (int i = 0; i < historySize; i++) {
+                history.add(event(1 + random.nextInt(8), random.nextInt(11), -random.nextInt(100)));
+            }
+
+            // Act
+            ScoringProfile profile = scorer.compile(user, history);
+
+            // Assert
+            for (int i = 0; i < 20; i++) {
+                Event candidate = event(1 + random.nextInt(8), random.nextInt(13), random.nextInt(90));
+                assertEquals(scorer.calculateScore(candidate, user, history), profile.score(candidate), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("compile: user without sports or history gets neutral scores")
+    void compile_emptyUser_neutralScores() {
+        // Arrange
+        User user = new User();
+        user.setSports(new HashSet<>());
+        Event candidate = event(3, 2, 1);
+
+        // Act
+        double score = scorer.compile(user, List.of()).score(candidate);
+
+        // Assert
+        assertEquals(0.5 * 0.3 + 0.5 * 0.15 + 1.0 * 0.05, score, 1e-12);
+    }
+
+    private User user(Random random) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        Set<SportUser> sports = new HashSet<>();
+        int count = random.nextInt(4);
+        for (int i = 0; i < count; i++) {
+            sports.add(new SportUser(user.getId(), 1 + random.nextInt(8), random.nextInt(11)));
+        }
+        user.setSports(sports);
+        return user;
+    }
+
+    private Event event(int sport, int skillLevel, int daysAhead) {
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setSport(sport);
+        event.setSkillLevel(skillLevel);
+        event.setStartTime(LocalDateTime.now().plusDays(daysAhead).plusHours(12));
+        return event;
+    }
+}
@@ -0,0 +1,100 @@
+package UnitTests.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.webapp.Eventified.dto.user.EventMarkerDTO;
+import com.webapp.Eventified.service.geo.EventGeoGrid;
+
+class EventGeoGridTest {
+
+    private EventGeoGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new EventGeoGrid(0.1);
+    }
+
+    @Test
+    @DisplayName("query: returns only events inside viewport")
+    void query_returnsEventsInsideViewport() {
+        // Arrange
+        UUID inside = UUID.randomUUID();
+        UUID outside = UUID.randomUUID();
+        grid.put(inside, 48.716, 21.261, 1);
+        grid.put(outside, 48.148, 17.107, 2);
+
+        // Act
+        List<EventMarkerDTO> result = grid.query(48.6, 21.1, 48.8, 21.4, 100);
+
+        // Assert
+        assertAll(
+            () -> assertEquals(1, result.size()),
+            () -> assertEquals(inside, result.get(0).getId()),
+            () -> assertEquals(1, result.get(0).getSport())
+        );
+    }
+
+    @Test
+    @DisplayName("put: existing event is moved, not duplicated")
+    void put_existingEvent_moves() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        grid.put(id, 48.716, 21.261, 1);
+
+        // Act
+        grid.put(id, 48.148, 17.107, 1);
+
+        // Assert
+        assertAll(
+            () -> assertEquals(1, grid.size()),
+            () -> assertTrue(grid.query(48.6, 21.1, 48.8, 21.4, 100).isEmpty()),
+            () -> assertEquals(1, grid.query(48.0, 17.0, 48.2, 17.2, 100).size())
+        );
+    }
+
+    @Test
+    @DisplayName("remove: keeps remaining events in the same cell")
+    void remove_keepsRemainingEvents() {
+        // Arrange
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        grid.put(first, 48.71, 21.26, 1);
+        grid.put(second, 48.72, 21.27, 1);
+        grid.put(third, 48.73, 21.28, 1);
+
+        // Act
+        boolean removed = grid.remove(first);
+
+        // Assert
+        assertAll(
+            () -> assertTrue(removed),
+            () -> assertFalse(grid.remove(first)),
+            () -> assertEquals(Set.of(second, third), grid.ids()),
+            () -> assertEquals(2, grid.query(48.7, 21.2, 48.8, 21.3, 100).size())
+        );
+    }
+
+    @Test
+    @DisplayName("query: viewport crossing antimeridian and limit")
+    void query_antimeridianAndLimit() {
+        // Arrange
+        grid.put(UUID.randomUUID(), -17.7, 179.9, 1);
+        grid.put(UUID.randomUUID(), -17.8, -179.9, 1);
+        grid.put(UUID.randomUUID(), -17.75, 179.95, 1);
+
+        // Act + Assert
+        assertAll(
+            () -> assertEquals(3, grid.query(-18.0, 179.5, -17.5, -179.5, 100).size()),
+            () -> assertEquals(2, grid.query(-18.0, 179.5, -17.5, -179.5, 2).size())
+        );
+    }
+}
@@ -0,0 +1,84 @@
+package UnitTests.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.webapp.Eventified.dto.user.EventMarkerDTO;
+import com.webapp.Eventified.model.Event;
+import com.webapp.Eventified.repository.EventRepository;
+import com.webapp.Eventified.service.geo.EventGeoIndex;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EventGeoIndexTest {
+
+    private EventRepository eventRepository;
+    private EventGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        index = new EventGeoIndex(eventRepository, new SimpleMeterRegistry(), 0.1);
+    }
+
+    @Test
+    @DisplayName("rebuild: changes made while the database is read are replayed onto the new grid")
+    void rebuild_concurrentChanges_replayed() {
+        // Arrange
+        UUID kept = UUID.randomUUID();
+        UUID removedDuringRebuild = UUID.randomUUID();
+        Event addedDuringRebuild = activeEvent(48.72, 21.26);
+        when(eventRepository.findMarkersByStatusOfEvent(0)).thenAnswer(invocation -> {
+            index.upsert(addedDuringRebuild);
+            index.remove(removedDuringRebuild);
+            return List.of(new EventMarkerDTO(kept, 48.71, 21.25, 1),
+                    new EventMarkerDTO(removedDuringRebuild, 48.73, 21.27, 1));
+        });
+
+        // Act
+        index.rebuild();
+
+        // Assert
+        List<UUID> ids = index.query(48.6, 21.1, 48.8, 21.4, 100).stream().map(EventMarkerDTO::getId).toList();
+        assertAll(
+            () -> assertEquals(2, index.size()),
+            () -> assertTrue(ids.contains(kept)),
+            () -> assertTrue(ids.contains(addedDuringRebuild.getId())),
+            () -> assertFalse(ids.contains(removedDuringRebuild))
+        );
+    }
+
+    @Test
+    @DisplayName("rebuild: changes after a failed rebuild are not journaled")
+    void rebuild_failure_keepsCurrentGrid() {
+        // Arrange
+        Event event = activeEvent(48.72, 21.26);
+        index.upsert(event);
+        when(eventRepository.findMarkersByStatusOfEvent(0)).thenThrow(new IllegalStateException("boom"));
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> index.rebuild());
+        index.remove(event.getId());
+
+        // Assert
+        assertEquals(0, index.size());
+    }
+
+    private static Event activeEvent(double latitude, double longitude) {
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setStatusOfEvent(0);
+        event.setLatitude(BigDecimal.valueOf(latitude));
+        event.setLongitude(BigDecimal.valueOf(longitude));
+        event.setSport(1);
+        return event;
+    }
+}
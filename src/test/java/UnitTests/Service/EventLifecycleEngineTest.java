@@ -0,0 +1,148 @@
+package UnitTests.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.webapp.Eventified.model.Event;
+import com.webapp.Eventified.repository.EventDeadline;
+import com.webapp.Eventified.repository.EventRepository;
+import com.webapp.Eventified.repository.EventTransition;
+import com.webapp.Eventified.service.geo.EventGeoIndex;
+import com.webapp.Eventified.service.lifecycle.EventLifecycleEngine;
+import com.webapp.Eventified.service.recommendation.RecommendationCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EventLifecycleEngineTest {
+
+    private EventRepository eventRepository;
+    private EventGeoIndex eventGeoIndex;
+    private RecommendationCache recommendationCache;
+    private SimpleMeterRegistry meterRegistry;
+    private EventLifecycleEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        eventGeoIndex = mock(EventGeoIndex.class);
+        recommendationCache = mock(RecommendationCache.class);
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new EventLifecycleEngine(eventRepository, eventGeoIndex, recommendationCache, mock(PlatformTransactionManager.class), meterRegistry, 1);
+    }
+
+    @Test
+    @DisplayName("tick: started active event is moved to ONGOING by the shared transition statement")
+    void tick_startedEvent_markedOngoing() throws InterruptedException {
+        // Arrange
+        Event event = event(0, LocalDateTime.now().minusSeconds(1), LocalDateTime.now().plusHours(2));
+        EventTransition transition = transition(event.getId(), 3);
+        when(eventRepository.markStartedEventsAsOngoing(any(LocalDateTime.class))).thenReturn(List.of(transition));
+        engine.schedule(event);
+        Thread.sleep(5);
+
+        // Act
+        int changed = engine.tick();
+
+        // Assert
+        assertAll(
+            () -> assertEquals(1, changed),
+            () -> assertEquals(1.0, meterRegistry.get("eventified.event.lifecycle.transitions").tag("to", "ongoing").counter().count()),
+            () -> assertEquals(1.0, meterRegistry.get("eventified.event.lifecycle.scheduled").gauge().value())
+        );
+
+        // Verify
+        verify(eventRepository, never()).markEndedEventsAsPast(any(LocalDateTime.class));
+        verify(eventGeoIndex).removeAll(List.of(event.getId()));
+        verify(recommendationCache).invalidateSport(3);
+    }
+
+    @Test
+    @DisplayName("tick: nothing due touches no rows")
+    void tick_nothingDue() {
+        // Arrange
+        engine.schedule(event(0, LocalDateTime.now().plusHours(1), LocalDateTime.now().plusHours(2)));
+
+        // Act
+        int changed = engine.tick();
+
+        // Assert
+        assertEquals(0, changed);
+
+        // Verify
+        verifyNoInteractions(eventRepository, eventGeoIndex, recommendationCache);
+    }
+
+    @Test
+    @DisplayName("unschedule: cancelled event never transitions")
+    void unschedule_cancelledEvent_noTransition() throws InterruptedException {
+        // Arrange
+        Event event = event(0, LocalDateTime.now().minusSeconds(1), LocalDateTime.now().minusNanos(1));
+        engine.schedule(event);
+        engine.unschedule(event.getId());
+        Thread.sleep(5);
+
+        // Act
+        int changed = engine.tick();
+
+        // Assert
+        assertEquals(0, changed);
+
+        // Verify
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("seed: ongoing events only get an end deadline, ended ones become PAST")
+    void seed_ongoingEvent_markedPast() throws InterruptedException {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        EventDeadline deadline = mock(EventDeadline.class);
+        when(deadline.getId()).thenReturn(eventId);
+        when(deadline.getStatusOfEvent()).thenReturn(1);
+        when(deadline.getStartTime()).thenReturn(LocalDateTime.now().minusHours(2));
+        when(deadline.getEndTime()).thenReturn(LocalDateTime.now().minusSeconds(1));
+        when(eventRepository.findDeadlinesByStatusOfEventIn(anyCollection())).thenReturn(List.of(deadline));
+        EventTransition transition = transition(eventId, 1);
+        when(eventRepository.markEndedEventsAsPast(any(LocalDateTime.class))).thenReturn(List.of(transition));
+        engine.seed();
+        Thread.sleep(5);
+
+        // Act
+        int changed = engine.tick();
+
+        // Assert
+        assertEquals(1, changed);
+
+        // Verify
+        verify(eventRepository, never()).markStartedEventsAsOngoing(any(LocalDateTime.class));
+        verify(eventGeoIndex).removeAll(List.of(eventId));
+        verify(recommendationCache).invalidateSport(1);
+    }
+
+    private EventTransition transition(UUID eventId, int sport) {
+        EventTransition transition = mock(EventTransition.class);
+        when(transition.getId()).thenReturn(eventId);
+        when(transition.getSport()).thenReturn(sport);
+        return transition;
+    }
+
+    private Event event(int status, LocalDateTime startTime, LocalDateTime endTime) {
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setStatusOfEvent(status);
+        event.setStartTime(startTime);
+        event.setEndTime(endTime);
+        return event;
+    }
+}
@@ -4,19 +4,31 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.webapp.Eventified.dto.user.EventDetailsDTO;
+import com.webapp.Eventified.dto.user.EventMarkerDTO;
+import com.webapp.Eventified.dto.user.EventPageDTO;
 import com.webapp.Eventified.dto.user.EventPoolDTO;
 import com.webapp.Eventified.dto.user.EventUpdateRequest;
+import com.webapp.Eventified.dto.user.NearbyEventDTO;
 import com.webapp.Eventified.model.Event;
 import com.webapp.Eventified.model.EventParticipant;
 import com.webapp.Eventified.model.User;
 import com.webapp.Eventified.repository.EventParticipantRepository;
+import com.webapp.Eventified.repository.EventPoolCriteria;
 import com.webapp.Eventified.repository.EventRepository;
 import com.webapp.Eventified.repository.UserRepository;
 import com.webapp.Eventified.service.EventService;
-import com.webapp.Eventified.service.NotificationService;
+import com.webapp.Eventified.service.geo.EventGeoIndex;
+import com.webapp.Eventified.service.lifecycle.EventLifecycleEngine;
+import com.webapp.Eventified.service.notification.NotificationOutbox;
+import com.webapp.Eventified.service.recommendation.CoParticipationIndex;
+import com.webapp.Eventified.service.recommendation.RecommendationCache;
+import com.webapp.Eventified.util.EventCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -29,7 +41,11 @@ class EventServiceTest {
     private EventRepository eventRepository;
     private UserRepository userRepository;
     private EventParticipantRepository eventParticipantRepository;
-    private NotificationService notificationService;
+    private NotificationOutbox notificationOutbox;
+    private EventGeoIndex eventGeoIndex;
+    private RecommendationCache recommendationCache;
+    private CoParticipationIndex coParticipationIndex;
+    private EventLifecycleEngine eventLifecycleEngine;
     private EventService eventService;
 
     @BeforeEach
@@ -37,8 +53,12 @@ class EventServiceTest {
         eventRepository = mock(EventRepository.class);
         userRepository = mock(UserRepository.class);
         eventParticipantRepository = mock(EventParticipantRepository.class);
-        notificationService = mock(NotificationService.class);
-        eventService = new EventService(eventRepository, userRepository, eventParticipantRepository, notificationService);
+        notificationOutbox = mock(NotificationOutbox.class);
+        eventGeoIndex = mock(EventGeoIndex.class);
+        recommendationCache = mock(RecommendationCache.class);
+        coParticipationIndex = mock(CoParticipationIndex.class);
+        eventLifecycleEngine = mock(EventLifecycleEngine.class);
+        eventService = new EventService(eventRepository, userRepository, eventParticipantRepository, notificationOutbox, eventGeoIndex, recommendationCache, coParticipationIndex, eventLifecycleEngine);
     }
 
     @Test
@@ -82,6 +102,37 @@ class EventServiceTest {
         verify(userRepository).findByUsername(username);
         verify(eventRepository).findByTitleAndOrganizer(title, organizer);
         verify(eventRepository).save(any(Event.class));
+        verify(eventGeoIndex).upsert(event);
+        verify(eventLifecycleEngine).schedule(event);
+        verify(recommendationCache).invalidateSport(sport);
+    }
+
+    @Test
+    @DisplayName("createEvent: in-memory indexes and timers are only updated after commit")
+    void createEvent_insideTransaction_appliesSideEffectsAfterCommit() {
+        // Arrange
+        User organizer = new User();
+        organizer.setId(UUID.randomUUID());
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(organizer));
+        when(eventRepository.findByTitleAndOrganizer("Soccer Match", organizer)).thenReturn(Optional.empty());
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            Event event = eventService.createEvent("testuser", "Soccer Match", 1, "address", 1, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(1).plusHours(2), 10, BigDecimal.ONE, BigDecimal.ONE);
+
+            // Assert
+            verifyNoInteractions(eventGeoIndex, eventLifecycleEngine, recommendationCache, coParticipationIndex);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Verify
+            verify(eventGeoIndex).upsert(event);
+            verify(eventLifecycleEngine).schedule(event);
+            verify(recommendationCache).invalidateSport(1);
+            verify(coParticipationIndex).join(organizer.getId(), event.getId(), event.getStartTime());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
@@ -401,67 +452,249 @@ class EventServiceTest {
         }
 
     @Test
-    @DisplayName("getFilteredEvents: all filters applied returns filtered")
-    void getFilteredEvents_withAllFilters_returnsFilteredEvents() {
+    @DisplayName("getFilteredEvents: all filters passed to query")
+    void getFilteredEvents_withAllFilters_delegatesToQuery() {
         // Arrange
-        User organizer = new User();
-        organizer.setId(UUID.randomUUID());
-
-        Event match = new Event(organizer, "Match", 1, 2, "Addr", BigDecimal.ONE, BigDecimal.ONE,
-            LocalDateTime.now().plusDays(2), LocalDateTime.now().plusDays(2).plusHours(2), 10);
-        match.setOccupied(2);
-
-        Event wrongSport = new Event(organizer, "WrongSport", 2, 2, "Addr", BigDecimal.ONE, BigDecimal.ONE,
-            LocalDateTime.now().plusDays(2), LocalDateTime.now().plusDays(2).plusHours(2), 10);
-        wrongSport.setOccupied(2);
-
-        Event tooFull = new Event(organizer, "TooFull", 1, 2, "Addr", BigDecimal.ONE, BigDecimal.ONE,
-            LocalDateTime.now().plusDays(2), LocalDateTime.now().plusDays(2).plusHours(2), 10);
-        tooFull.setOccupied(9);
+        UUID matchId = UUID.randomUUID();
+        LocalDateTime startTimeAfter = LocalDateTime.now().plusDays(1);
+        LocalDateTime endTimeBefore = LocalDateTime.now().plusDays(3);
+        EventPoolDTO match = new EventPoolDTO(matchId, "Match", 1, "Addr", LocalDateTime.now().plusDays(2), 10, 2, 2);
 
-        when(eventRepository.findAll()).thenReturn(List.of(match, wrongSport, tooFull));
+        when(eventRepository.findEventPool(List.of(1), List.of(2), startTimeAfter, endTimeBefore, 5))
+            .thenReturn(List.of(match));
 
         // Act
         List<EventPoolDTO> result = eventService.getFilteredEvents(
             List.of(1),
             List.of(2),
-            LocalDateTime.now().plusDays(1),
-            LocalDateTime.now().plusDays(3),
+            startTimeAfter,
+            endTimeBefore,
             5
         );
 
         // Assert
         assertAll(
             () -> assertEquals(1, result.size()),
-            () -> assertEquals("Match", result.get(0).getTitle())
+            () -> assertEquals("Match", result.get(0).getTitle()),
+            () -> assertEquals(matchId, result.get(0).getId())
         );
 
         // Verify
-        verify(eventRepository).findAll();
+        verify(eventRepository).findEventPool(List.of(1), List.of(2), startTimeAfter, endTimeBefore, 5);
+        verify(eventRepository, never()).findAll();
         }
 
     @Test
     @DisplayName("getFilteredEvents: no filters returns all")
     void getFilteredEvents_withNoFilters_returnsAllEvents() {
         // Arrange
+        EventPoolDTO e1 = new EventPoolDTO(UUID.randomUUID(), "E1", 1, "Addr", LocalDateTime.now().plusDays(1), 10, 0, 1);
+        EventPoolDTO e2 = new EventPoolDTO(UUID.randomUUID(), "E2", 2, "Addr", LocalDateTime.now().plusDays(2), 10, 0, 2);
+
+        when(eventRepository.findEventPool(null, null, null, null, null)).thenReturn(List.of(e1, e2));
+
+        // Act
+        List<EventPoolDTO> result = eventService.getFilteredEvents(null, null, null, null, null);
+
+        // Assert
+        assertEquals(2, result.size());
+
+        // Verify
+        verify(eventRepository).findEventPool(null, null, null, null, null);
+        verify(eventRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("getAllEventsPage: more rows than limit returns next cursor")
+    void getAllEventsPage_moreRows_returnsNextCursor() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        EventPoolDTO e1 = new EventPoolDTO(UUID.randomUUID(), "E1", 1, "Addr", start, 10, 0, 1);
+        EventPoolDTO e2 = new EventPoolDTO(UUID.randomUUID(), "E2", 1, "Addr", start.plusHours(1), 10, 0, 1);
+        EventPoolDTO e3 = new EventPoolDTO(UUID.randomUUID(), "E3", 1, "Addr", start.plusHours(2), 10, 0, 1);
+
+        when(eventRepository.findEventPoolPage(any(EventPoolCriteria.class), isNull(), eq(3))).thenReturn(List.of(e1, e2, e3));
+
+        // Act
+        EventPageDTO page = eventService.getAllEventsPage(null, 2);
+
+        // Assert
+        EventCursor next = EventCursor.decode(page.getNextCursor());
+        assertAll(
+            () -> assertEquals(2, page.getEvents().size()),
+            () -> assertEquals("E2", page.getEvents().get(1).getTitle()),
+            () -> assertEquals(e2.getId(), next.getId()),
+            () -> assertEquals(start.plusHours(1), next.getStartTime())
+        );
+    }
+
+    @Test
+    @DisplayName("getAllEventsPage: last page has no next cursor")
+    void getAllEventsPage_lastPage_noNextCursor() {
+        // Arrange
+        EventCursor cursor = new EventCursor(LocalDateTime.now(), UUID.randomUUID());
+        EventPoolDTO e1 = new EventPoolDTO(UUID.randomUUID(), "E1", 1, "Addr", LocalDateTime.now().plusDays(1), 10, 0, 1);
+
+        when(eventRepository.findEventPoolPage(any(EventPoolCriteria.class), any(EventCursor.class), eq(EventService.DEFAULT_PAGE_SIZE + 1)))
+            .thenReturn(List.of(e1));
+
+        // Act
+        EventPageDTO page = eventService.getAllEventsPage(cursor.encode(), null);
+
+        // Assert
+        assertAll(
+            () -> assertEquals(1, page.getEvents().size()),
+            () -> assertNull(page.getNextCursor())
+        );
+    }
+
+    @Test
+    @DisplayName("getAllEventsPage: limit is capped")
+    void getAllEventsPage_limitCapped() {
+        // Arrange
+        when(eventRepository.findEventPoolPage(any(EventPoolCriteria.class), isNull(), anyInt())).thenReturn(List.of());
+
+        // Act
+        eventService.getAllEventsPage(null, 10_000);
+
+        // Verify
+        verify(eventRepository).findEventPoolPage(any(EventPoolCriteria.class), isNull(), eq(EventService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("getAllEventsPage: invalid cursor throws")
+    void getAllEventsPage_invalidCursor_throwsException() {
+        // Act
+        Exception exception = assertThrows(IllegalArgumentException.class, () ->
+            eventService.getAllEventsPage("%%%", 10)
+        );
+
+        // Assert
+        assertEquals("Invalid cursor", exception.getMessage());
+
+        // Verify
+        verify(eventRepository, never()).findEventPoolPage(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("getHostedEventsUpcomingPage: filters by organizer")
+    void getHostedEventsUpcomingPage_filtersByOrganizer() {
+        // Arrange
+        String username = "testuser";
         User organizer = new User();
         organizer.setId(UUID.randomUUID());
 
-        Event e1 = new Event(organizer, "E1", 1, 1, "Addr", BigDecimal.ONE, BigDecimal.ONE,
-            LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(1).plusHours(2), 10);
-        Event e2 = new Event(organizer, "E2", 2, 2, "Addr", BigDecimal.ONE, BigDecimal.ONE,
-            LocalDateTime.now().plusDays(2), LocalDateTime.now().plusDays(2).plusHours(2), 10);
+        when(userRepository.findByUsername(username)).thenReturn(Optional.of(organizer));
+        when(eventRepository.findEventPoolPage(any(EventPoolCriteria.class), isNull(), anyInt())).thenReturn(List.of());
 
-        when(eventRepository.findAll()).thenReturn(List.of(e1, e2));
+        // Act
+        eventService.getHostedEventsUpcomingPage(username, null, 5);
+
+        // Verify
+        ArgumentCaptor<EventPoolCriteria> captor = ArgumentCaptor.forClass(EventPoolCriteria.class);
+        verify(eventRepository).findEventPoolPage(captor.capture(), isNull(), eq(6));
+        assertAll(
+            () -> assertEquals(organizer.getId(), captor.getValue().getOrganizerId()),
+            () -> assertNotNull(captor.getValue().getStartTimeAfter())
+        );
+    }
+
+    @Test
+    @DisplayName("getMyAttendedPastEventsPage: filters by participant")
+    void getMyAttendedPastEventsPage_filtersByParticipant() {
+        // Arrange
+        String username = "testuser";
+        User user = new User();
+        user.setId(UUID.randomUUID());
+
+        when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+        when(eventRepository.findEventPoolPage(any(EventPoolCriteria.class), isNull(), anyInt())).thenReturn(List.of());
 
         // Act
-        List<EventPoolDTO> result = eventService.getFilteredEvents(null, null, null, null, null);
+        eventService.getMyAttendedPastEventsPage(username, null, 5);
+
+        // Verify
+        ArgumentCaptor<EventPoolCriteria> captor = ArgumentCaptor.forClass(EventPoolCriteria.class);
+        verify(eventRepository).findEventPoolPage(captor.capture(), isNull(), eq(6));
+        assertAll(
+            () -> assertEquals(user.getId(), captor.getValue().getParticipantId()),
+            () -> assertEquals(1, captor.getValue().getParticipantRole()),
+            () -> assertNotNull(captor.getValue().getEndTimeBefore())
+        );
+    }
+
+    @Test
+    @DisplayName("getNearbyEvents: upcoming active events with filters")
+    void getNearbyEvents_success() {
+        // Arrange
+        NearbyEventDTO nearby = new NearbyEventDTO(UUID.randomUUID(), "Near", 1, "Addr", LocalDateTime.now().plusDays(1),
+            10, 2, 2, BigDecimal.valueOf(48.72), BigDecimal.valueOf(21.26), 1.5);
+
+        when(eventRepository.findNearbyEvents(any(EventPoolCriteria.class), eq(48.7), eq(21.2), eq(5.0), eq(EventService.DEFAULT_PAGE_SIZE)))
+            .thenReturn(List.of(nearby));
+
+        // Act
+        List<NearbyEventDTO> result = eventService.getNearbyEvents(48.7, 21.2, 5.0, List.of(1), List.of(2), null);
 
         // Assert
-        assertEquals(2, result.size());
+        assertEquals(List.of(nearby), result);
 
         // Verify
-        verify(eventRepository).findAll();
+        ArgumentCaptor<EventPoolCriteria> captor = ArgumentCaptor.forClass(EventPoolCriteria.class);
+        verify(eventRepository).findNearbyEvents(captor.capture(), eq(48.7), eq(21.2), eq(5.0), eq(EventService.DEFAULT_PAGE_SIZE));
+        assertAll(
+            () -> assertEquals(List.of(1), captor.getValue().getSports()),
+            () -> assertEquals(List.of(2), captor.getValue().getSkillLevels()),
+            () -> assertEquals(0, captor.getValue().getStatusOfEvent()),
+            () -> assertNotNull(captor.getValue().getStartTimeAfter())
+        );
+    }
+
+    @Test
+    @DisplayName("getNearbyEvents: invalid coordinates or radius throws")
+    void getNearbyEvents_invalidInput_throwsException() {
+        // Act + Assert
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> eventService.getNearbyEvents(95.0, 21.2, 5.0, null, null, null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> eventService.getNearbyEvents(48.7, 21.2, 0.0, null, null, null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> eventService.getNearbyEvents(48.7, 21.2, EventService.MAX_NEARBY_RADIUS_KM + 1, null, null, null))
+        );
+
+        // Verify
+        verify(eventRepository, never()).findNearbyEvents(any(), anyDouble(), anyDouble(), anyDouble(), anyInt());
+    }
+
+    @Test
+    @DisplayName("getEventsInViewport: served from geo index")
+    void getEventsInViewport_success() {
+        // Arrange
+        EventMarkerDTO marker = new EventMarkerDTO(UUID.randomUUID(), 48.7, 21.2, 1);
+        when(eventGeoIndex.query(48.0, 21.0, 49.0, 22.0, 50)).thenReturn(List.of(marker));
+
+        // Act
+        List<EventMarkerDTO> result = eventService.getEventsInViewport(48.0, 21.0, 49.0, 22.0, 50);
+
+        // Assert
+        assertEquals(List.of(marker), result);
+
+        // Verify
+        verify(eventGeoIndex).query(48.0, 21.0, 49.0, 22.0, 50);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("getEventsInViewport: invalid viewport throws")
+    void getEventsInViewport_invalidViewport_throwsException() {
+        // Act
+        Exception exception = assertThrows(IllegalArgumentException.class, () ->
+            eventService.getEventsInViewport(49.0, 21.0, 48.0, 22.0, null)
+        );
+
+        // Assert
+        assertEquals("Invalid viewport", exception.getMessage());
+
+        // Verify
+        verify(eventGeoIndex, never()).query(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt());
     }
 
     @Test
@@ -564,7 +797,11 @@ class EventServiceTest {
         verify(userRepository).findByUsername(username);
         verify(eventRepository).findById(eventId);
         verify(eventRepository).save(event);
-        verify(notificationService).notifyEventCancelled(event);
+        verify(eventGeoIndex).upsert(event);
+        verify(recommendationCache).invalidateSport(event.getSport());
+        verify(coParticipationIndex).removeEvent(eventId);
+        verify(eventLifecycleEngine).unschedule(eventId);
+        verify(notificationOutbox).notifyEventCancelled(event);
         }
 
     @Test
@@ -598,7 +835,7 @@ class EventServiceTest {
         verify(userRepository).findByUsername(username);
         verify(eventRepository).findById(eventId);
         verify(eventRepository, never()).save(any(Event.class));
-        verify(notificationService, never()).notifyEventCancelled(any(Event.class));
+        verify(notificationOutbox, never()).notifyEventCancelled(any(Event.class));
     }
 
     @Test
@@ -640,7 +877,9 @@ class EventServiceTest {
         verify(userRepository).findByUsername(username);
         verify(eventRepository).findById(eventId);
         verify(eventRepository).save(event);
-        verify(notificationService).notifyEventUpdate(event);
+        verify(eventLifecycleEngine).schedule(event);
+        verify(recommendationCache).invalidateSport(1);
+        verify(notificationOutbox).notifyEventUpdate(event);
         }
 
     @Test
@@ -676,7 +915,7 @@ class EventServiceTest {
         verify(userRepository).findByUsername(username);
         verify(eventRepository).findById(eventId);
         verify(eventRepository, never()).save(any(Event.class));
-        verify(notificationService, never()).notifyEventUpdate(any(Event.class));
+        verify(notificationOutbox, never()).notifyEventUpdate(any(Event.class));
     }
 
     @Test
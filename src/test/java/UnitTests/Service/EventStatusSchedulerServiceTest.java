@@ -0,0 +1,195 @@
+package UnitTests.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.webapp.Eventified.model.Event;
+import com.webapp.Eventified.model.User;
+import com.webapp.Eventified.repository.EventRepository;
+import com.webapp.Eventified.repository.EventTransition;
+import com.webapp.Eventified.repository.RatingPromptQueueRepository;
+import com.webapp.Eventified.repository.SchedulerLockRepository;
+import com.webapp.Eventified.service.EventStatusSchedulerService;
+import com.webapp.Eventified.service.NotificationService;
+import com.webapp.Eventified.service.cluster.ClusterJobLock;
+import com.webapp.Eventified.service.geo.EventGeoIndex;
+import com.webapp.Eventified.service.recommendation.RecommendationCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EventStatusSchedulerServiceTest {
+
+    private EventRepository eventRepository;
+    private NotificationService notificationService;
+    private EventGeoIndex eventGeoIndex;
+    private SchedulerLockRepository schedulerLockRepository;
+    private RatingPromptQueueRepository ratingPromptQueueRepository;
+    private RecommendationCache recommendationCache;
+    private EventStatusSchedulerService schedulerService;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        notificationService = mock(NotificationService.class);
+        eventGeoIndex = mock(EventGeoIndex.class);
+        schedulerLockRepository = mock(SchedulerLockRepository.class);
+        when(schedulerLockRepository.tryLock(anyString(), anyString(), anyLong())).thenReturn(1);
+        ratingPromptQueueRepository = mock(RatingPromptQueueRepository.class);
+        recommendationCache = mock(RecommendationCache.class);
+        schedulerService = new EventStatusSchedulerService(eventRepository, notificationService, eventGeoIndex,
+            new ClusterJobLock(schedulerLockRepository, new SimpleMeterRegistry(), "node-1"),
+            ratingPromptQueueRepository, mock(PlatformTransactionManager.class), recommendationCache);
+    }
+
+    @Test
+    @DisplayName("sendEventReminders: reminds every event claimed in the next hour without saving events")
+    void sendEventReminders_claimedEventsReminded() throws Exception {
+        // Arrange
+        Event first = new Event();
+        first.setId(UUID.randomUUID());
+        Event second = new Event();
+        second.setId(UUID.randomUUID());
+        List<UUID> ids = List.of(first.getId(), second.getId());
+        when(eventRepository.claimEventsForReminder(any(LocalDateTime.class), any(LocalDateTime.class), eq(0))).thenReturn(ids);
+        when(eventRepository.findAllById(ids)).thenReturn(List.of(first, second));
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        int reminded = schedulerService.sendEventReminders();
+
+        // Assert
+        assertEquals(2, reminded);
+
+        // Verify
+        verify(eventRepository).claimEventsForReminder(
+            argThat((LocalDateTime from) -> !from.isBefore(before)),
+            argThat((LocalDateTime until) -> !until.isBefore(before.plusHours(1))),
+            eq(0));
+        verify(notificationService).notifyEventReminder(first);
+        verify(notificationService).notifyEventReminder(second);
+        verify(eventRepository, never()).save(any(Event.class));
+    }
+
+    @Test
+    @DisplayName("sendEventReminders: nothing claimed sends nothing")
+    void sendEventReminders_nothingClaimed() throws Exception {
+        // Arrange
+        when(eventRepository.claimEventsForReminder(any(LocalDateTime.class), any(LocalDateTime.class), eq(0))).thenReturn(List.of());
+
+        // Act
+        int reminded = schedulerService.sendEventReminders();
+
+        // Assert
+        assertEquals(0, reminded);
+
+        // Verify
+        verify(eventRepository, never()).findAllById(any());
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    @DisplayName("updateEventStatuses: set-based transitions drop only the returned events from the geo index and their sports from the cache")
+    void updateEventStatuses_setBasedTransitions() throws Exception {
+        // Arrange
+        EventTransition ended = transition(UUID.randomUUID(), 1);
+        EventTransition firstStarted = transition(UUID.randomUUID(), 2);
+        EventTransition secondStarted = transition(UUID.randomUUID(), 2);
+        when(eventRepository.markEndedEventsAsPast(any(LocalDateTime.class))).thenReturn(List.of(ended));
+        when(eventRepository.markStartedEventsAsOngoing(any(LocalDateTime.class))).thenReturn(List.of(firstStarted, secondStarted));
+
+        // Act
+        schedulerService.updateEventStatuses();
+
+        // Verify
+        verify(eventGeoIndex).removeAll(List.of(ended.getId()));
+        verify(eventGeoIndex).removeAll(List.of(firstStarted.getId(), secondStarted.getId()));
+        verify(recommendationCache).invalidateSport(1);
+        verify(recommendationCache).invalidateSport(2);
+        verify(eventRepository, never()).saveAll(any());
+        verify(schedulerLockRepository).unlock("event-status-sweep", "node-1", 60_000L);
+    }
+
+    @Test
+    @DisplayName("updateEventStatuses: skipped while another node holds the sweep lease")
+    void updateEventStatuses_leaseHeldElsewhere_skipped() throws Exception {
+        // Arrange
+        when(schedulerLockRepository.tryLock(eq("event-status-sweep"), anyString(), anyLong())).thenReturn(0);
+
+        // Act
+        schedulerService.updateEventStatuses();
+
+        // Verify
+        verify(eventRepository, never()).markEndedEventsAsPast(any(LocalDateTime.class));
+        verify(eventRepository, never()).markStartedEventsAsOngoing(any(LocalDateTime.class));
+        verify(schedulerLockRepository, never()).unlock(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("sendRatingReminders: prompts organizers of claimed unrated events without existence checks")
+    void sendRatingReminders_claimedEventsPrompted() throws Exception {
+        // Arrange
+        User organizer = new User();
+        Event unrated = new Event();
+        unrated.setId(UUID.randomUUID());
+        unrated.setOrganizer(organizer);
+        unrated.setRated(false);
+        Event rated = new Event();
+        rated.setId(UUID.randomUUID());
+        rated.setOrganizer(organizer);
+        rated.setRated(true);
+        List<UUID> ids = List.of(unrated.getId(), rated.getId());
+        when(ratingPromptQueueRepository.claimDue(any(LocalDateTime.class), anyInt())).thenReturn(ids);
+        when(eventRepository.findAllById(ids)).thenReturn(List.of(unrated, rated));
+
+        // Act
+        int processed = schedulerService.sendRatingReminders();
+
+        // Assert
+        assertEquals(2, processed);
+
+        // Verify
+        verify(ratingPromptQueueRepository, times(1)).claimDue(any(LocalDateTime.class), anyInt());
+        verify(notificationService).notifyRateParticipants(unrated, organizer);
+        verify(notificationService, never()).notifyRateParticipants(rated, organizer);
+    }
+
+    @Test
+    @DisplayName("sendRatingReminders: keeps claiming while batches are full")
+    void sendRatingReminders_fullBatch_claimsAgain() throws Exception {
+        // Arrange
+        List<UUID> fullBatch = IntStream.range(0, 100).mapToObj(i -> UUID.randomUUID()).toList();
+        when(ratingPromptQueueRepository.claimDue(any(LocalDateTime.class), eq(100))).thenReturn(fullBatch).thenReturn(List.of());
+        when(eventRepository.findAllById(fullBatch)).thenReturn(List.of());
+
+        // Act
+        int processed = schedulerService.sendRatingReminders();
+
+        // Assert
+        assertEquals(100, processed);
+
+        // Verify
+        verify(ratingPromptQueueRepository, times(2)).claimDue(any(LocalDateTime.class), eq(100));
+    }
+
+    private EventTransition transition(UUID eventId, int sport) {
+        EventTransition transition = mock(EventTransition.class);
+        when(transition.getId()).thenReturn(eventId);
+        when(transition.getSport()).thenReturn(sport);
+        return transition;
+    }
+}
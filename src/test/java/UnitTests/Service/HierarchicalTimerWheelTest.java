@@ -0,0 +1,128 @@
+package UnitTests.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.webapp.Eventified.service.lifecycle.HierarchicalTimerWheel;
+
+class HierarchicalTimerWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("advance: fires a deadline on the first tick at or after it, never early")
+    void advance_firesOnDeadline() {
+        // Arrange
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(1000, START);
+        wheel.schedule("a", START + 2500);
+
+        // Act + Assert
+        assertAll(
+            () -> assertTrue(wheel.advance(START + 2999).isEmpty()),
+            () -> assertEquals(List.of("a"), wheel.advance(START + 3000)),
+            () -> assertEquals(0, wheel.size())
+        );
+    }
+
+    @Test
+    @DisplayName("advance: deadlines on higher levels cascade down and fire in order")
+    void advance_cascadesFarDeadlines() {
+        // Arrange
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(1000, START);
+        wheel.schedule("days", START + 3L * 24 * 3600 * 1000);
+        wheel.schedule("hour", START + 3600 * 1000);
+        wheel.schedule("minute", START + 90 * 1000);
+
+        // Act
+        List<String> fired = wheel.advance(START + 4L * 24 * 3600 * 1000);
+
+        // Assert
+        assertEquals(List.of("minute", "hour", "days"), fired);
+    }
+
+    @Test
+    @DisplayName("schedule/cancel: rescheduling replaces the deadline and cancelled keys never fire")
+    void scheduleCancel_replacesAndCancels() {
+        // Arrange
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(1000, START);
+        wheel.schedule("moved", START + 5000);
+        wheel.schedule("moved", START + 120_000);
+        wheel.schedule("cancelled", START + 5000);
+        wheel.cancel("cancelled");
+
+        // Act
+        List<String> early = wheel.advance(START + 60_000);
+        List<String> late = wheel.advance(START + 120_000);
+
+        // Assert
+        assertAll(
+            () -> assertTrue(early.isEmpty()),
+            () -> assertEquals(List.of("moved"), late),
+            () -> assertFalse(wheel.cancel("cancelled"))
+        );
+    }
+
+    @Test
+    @DisplayName("schedule: a deadline in the past fires on the next tick")
+    void schedule_pastDeadline_firesNextTick() {
+        // Arrange
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(1000, START);
+        wheel.schedule("late", START - 60_000);
+
+        // Act + Assert
+        assertEquals(List.of("late"), wheel.advance(START + 1000));
+    }
+
+    @Test
+    @DisplayName("advance: random schedules, cancels and jumps fire every deadline exactly once and on time")
+    void advance_randomized_matchesExpected() {
+        // Arrange
+        Random random = new Random(7);
+        long now = START + 123;
+        HierarchicalTimerWheel<Integer> wheel = new HierarchicalTimerWheel<>(1000, now);
+        Map<Integer, Long> expected = new HashMap<>();
+        long[] horizons = {5_000L, 300_000L, 20_000_000L, 400_000_000L, 20_000_000_000L};
+        List<Integer> unexpected = new ArrayList<>();
+
+        // Act
+        for (int step = 0; step < 50_000; step++) {
+            int key = random.nextInt(1000);
+            int operation = random.nextInt(10);
+            if (operation < 4) {
+                long deadline = now + (long) (random.nextDouble() * horizons[random.nextInt(horizons.length)]);
+                wheel.schedule(key, deadline);
+                expected.put(key, deadline);
+            } else if (operation < 5) {
+                wheel.cancel(key);
+                expected.remove(key);
+            }
+
+            now += random.nextInt(20) == 0 ? (long) (random.nextDouble() * 50_000_000L) : random.nextInt(3000);
+            for (Integer fired : wheel.advance(now)) {
+                Long deadline = expected.remove(fired);
+                if (deadline == null || deadline > now) {
+                    unexpected.add(fired);
+                }
+            }
+            for (Long deadline : expected.values()) {
+                if (deadline + 1000 <= now) {
+                    unexpected.add(-1);
+                }
+            }
+        }
+
+        // Assert
+        assertAll(
+            () -> assertTrue(unexpected.isEmpty()),
+            () -> assertEquals(expected.size(), wheel.size())
+        );
+    }
+}
@@ -0,0 +1,172 @@
+package UnitTests.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.webapp.Eventified.model.Event;
+import com.webapp.Eventified.model.NotificationOutboxEntry;
+import com.webapp.Eventified.model.User;
+import com.webapp.Eventified.repository.EventRepository;
+import com.webapp.Eventified.repository.NotificationOutboxRepository;
+import com.webapp.Eventified.repository.OutboxCoalescingKey;
+import com.webapp.Eventified.repository.UserRepository;
+import com.webapp.Eventified.service.NotificationService;
+import com.webapp.Eventified.service.notification.NotificationCoalescer;
+import com.webapp.Eventified.service.notification.NotificationOutbox;
+import com.webapp.Eventified.service.notification.OutboxRetryPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NotificationCoalescerTest {
+
+    private NotificationOutboxRepository notificationOutboxRepository;
+    private NotificationService notificationService;
+    private EventRepository eventRepository;
+    private UserRepository userRepository;
+    private OutboxRetryPolicy outboxRetryPolicy;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationCoalescer coalescer;
+
+    private Event event;
+    private User organizer;
+
+    @BeforeEach
+    void setUp() {
+        notificationOutboxRepository = mock(NotificationOutboxRepository.class);
+        notificationService = mock(NotificationService.class);
+        eventRepository = mock(EventRepository.class);
+        userRepository = mock(UserRepository.class);
+        outboxRetryPolicy = mock(OutboxRetryPolicy.class);
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new NotificationCoalescer(notificationOutboxRepository, notificationService, eventRepository, userRepository,
+            outboxRetryPolicy, mock(PlatformTransactionManager.class), meterRegistry, 60_000);
+
+        event = new Event();
+        event.setId(UUID.randomUUID());
+        organizer = new User();
+        organizer.setId(UUID.randomUUID());
+        when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(userRepository.getReferenceById(organizer.getId())).thenReturn(organizer);
+    }
+
+    @Test
+    @DisplayName("flush: merges the outbox entries of each due key into one notification and deletes them")
+    void flush_mergesSameKey() {
+        // Arrange
+        OutboxCoalescingKey joinedKey = key(NotificationOutbox.NEW_PLAYER_JOINED);
+        OutboxCoalescingKey leftKey = key(NotificationOutbox.PLAYER_LEFT);
+        List<NotificationOutboxEntry> joined = List.of(entry(1L, NotificationOutbox.NEW_PLAYER_JOINED, "alice"),
+            entry(2L, NotificationOutbox.NEW_PLAYER_JOINED, "bob"));
+        List<NotificationOutboxEntry> left = List.of(entry(3L, NotificationOutbox.PLAYER_LEFT, "carol"));
+        when(notificationOutboxRepository.findDueCoalescingKeys(any())).thenReturn(List.of(joinedKey, leftKey));
+        when(notificationOutboxRepository.claimCoalescingKey(NotificationOutbox.NEW_PLAYER_JOINED, event.getId(), organizer.getId())).thenReturn(joined);
+        when(notificationOutboxRepository.claimCoalescingKey(NotificationOutbox.PLAYER_LEFT, event.getId(), organizer.getId())).thenReturn(left);
+
+        // Act
+        int written = coalescer.flush();
+
+        // Assert
+        assertAll(
+            () -> assertEquals(2, written),
+            () -> assertEquals(3.0, meterRegistry.get("eventified.notification.coalescing.buffered").counter().count()),
+            () -> assertEquals(2.0, meterRegistry.get("eventified.notification.coalescing.written").counter().count())
+        );
+
+        // Verify
+        verify(notificationService).notifyPlayersJoined(event, organizer, List.of("alice", "bob"));
+        verify(notificationService).notifyPlayersLeft(event, organizer, List.of("carol"));
+        verify(notificationOutboxRepository).deleteAllInBatch(joined);
+        verify(notificationOutboxRepository).deleteAllInBatch(left);
+    }
+
+    @Test
+    @DisplayName("flush: key claimed by another node in the meantime writes nothing")
+    void flush_keyClaimedElsewhere_writesNothing() {
+        // Arrange
+        OutboxCoalescingKey joinedKey = key(NotificationOutbox.NEW_PLAYER_JOINED);
+        when(notificationOutboxRepository.findDueCoalescingKeys(any())).thenReturn(List.of(joinedKey));
+        when(notificationOutboxRepository.claimCoalescingKey(NotificationOutbox.NEW_PLAYER_JOINED, event.getId(), organizer.getId())).thenReturn(List.of());
+
+        // Act
+        int written = coalescer.flush();
+
+        // Assert
+        assertEquals(0, written);
+
+        // Verify
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    @DisplayName("flush: entries of deleted events are removed without a notification")
+    void flush_missingEventDropped() {
+        // Arrange
+        OutboxCoalescingKey leftKey = key(NotificationOutbox.PLAYER_LEFT);
+        List<NotificationOutboxEntry> left = List.of(entry(1L, NotificationOutbox.PLAYER_LEFT, "alice"));
+        when(notificationOutboxRepository.findDueCoalescingKeys(any())).thenReturn(List.of(leftKey));
+        when(notificationOutboxRepository.claimCoalescingKey(NotificationOutbox.PLAYER_LEFT, event.getId(), organizer.getId())).thenReturn(left);
+        when(eventRepository.findById(event.getId())).thenReturn(Optional.empty());
+
+        // Act
+        int written = coalescer.flush();
+
+        // Assert
+        assertEquals(0, written);
+
+        // Verify
+        verifyNoInteractions(notificationService);
+        verify(notificationOutboxRepository).deleteAllInBatch(left);
+    }
+
+    @Test
+    @DisplayName("flush: failing key keeps its entries for a retry and does not block other keys")
+    void flush_failingKey_recordsFailure() {
+        // Arrange
+        OutboxCoalescingKey joinedKey = key(NotificationOutbox.NEW_PLAYER_JOINED);
+        OutboxCoalescingKey leftKey = key(NotificationOutbox.PLAYER_LEFT);
+        List<NotificationOutboxEntry> joined = List.of(entry(1L, NotificationOutbox.NEW_PLAYER_JOINED, "alice"),
+            entry(2L, NotificationOutbox.NEW_PLAYER_JOINED, "bob"));
+        List<NotificationOutboxEntry> left = List.of(entry(3L, NotificationOutbox.PLAYER_LEFT, "carol"));
+        when(notificationOutboxRepository.findDueCoalescingKeys(any())).thenReturn(List.of(joinedKey, leftKey));
+        when(notificationOutboxRepository.claimCoalescingKey(NotificationOutbox.NEW_PLAYER_JOINED, event.getId(), organizer.getId())).thenReturn(joined);
+        when(notificationOutboxRepository.claimCoalescingKey(NotificationOutbox.PLAYER_LEFT, event.getId(), organizer.getId())).thenReturn(left);
+        IllegalStateException failure = new IllegalStateException("boom");
+        when(notificationService.notifyPlayersJoined(event, organizer, List.of("alice", "bob"))).thenThrow(failure);
+
+        // Act
+        int written = coalescer.flush();
+
+        // Assert
+        assertEquals(1, written);
+
+        // Verify
+        verify(outboxRetryPolicy).recordFailure(1L, failure);
+        verify(outboxRetryPolicy).recordFailure(2L, failure);
+        verify(notificationOutboxRepository, never()).deleteAllInBatch(joined);
+        verify(notificationOutboxRepository).deleteAllInBatch(left);
+    }
+
+    private OutboxCoalescingKey key(int type) {
+        OutboxCoalescingKey key = mock(OutboxCoalescingKey.class);
+        when(key.getTypeOfNotification()).thenReturn(type);
+        when(key.getEventId()).thenReturn(event.getId());
+        when(key.getRecipientId()).thenReturn(organizer.getId());
+        return key;
+    }
+
+    private NotificationOutboxEntry entry(Long id, int type, String playerUsername) {
+        NotificationOutboxEntry entry = new NotificationOutboxEntry(type, event.getId(), organizer.getId(), playerUsername);
+        entry.setId(id);
+        return entry;
+    }
+}
@@ -0,0 +1,172 @@
+package UnitTests.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.webapp.Eventified.model.Event;
+import com.webapp.Eventified.model.NotificationOutboxEntry;
+import com.webapp.Eventified.repository.EventRepository;
+import com.webapp.Eventified.repository.NotificationOutboxRepository;
+import com.webapp.Eventified.service.NotificationService;
+import com.webapp.Eventified.service.notification.NotificationDispatcher;
+import com.webapp.Eventified.service.notification.NotificationOutbox;
+import com.webapp.Eventified.service.notification.OutboxRetryPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NotificationDispatcherTest {
+
+    private NotificationOutboxRepository notificationOutboxRepository;
+    private EventRepository eventRepository;
+    private NotificationService notificationService;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationDispatcher dispatcher;
+
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        notificationOutboxRepository = mock(NotificationOutboxRepository.class);
+        eventRepository = mock(EventRepository.class);
+        notificationService = mock(NotificationService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new NotificationDispatcher(notificationOutboxRepository, eventRepository,
+            notificationService, new OutboxRetryPolicy(notificationOutboxRepository, mock(PlatformTransactionManager.class), meterRegistry, 3, 1000L),
+            mock(PlatformTransactionManager.class), meterRegistry, 10, 1);
+
+        event = new Event();
+        event.setId(UUID.randomUUID());
+        when(eventRepository.findAllById(any())).thenReturn(List.of(event));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("dispatchBatch: routes entries by type and deletes them")
+    void dispatchBatch_routesAndDeletes() {
+        // Arrange
+        NotificationOutboxEntry newEvent = entry(1L, NotificationOutbox.NEW_EVENT_RECOMMENDATION, null, null);
+        NotificationOutboxEntry updated = entry(2L, NotificationOutbox.EVENT_UPDATE, null, null);
+        List<NotificationOutboxEntry> batch = List.of(newEvent, updated);
+        when(notificationOutboxRepository.claimBatch(10)).thenReturn(batch);
+
+        // Act
+        int dispatched = dispatcher.dispatchBatch();
+
+        // Assert
+        assertAll(
+            () -> assertEquals(2, dispatched),
+            () -> assertEquals(2.0, meterRegistry.get("eventified.notification.outbox.dispatched").counter().count()),
+            () -> assertEquals(2, meterRegistry.get("eventified.notification.outbox.lag").timer().count())
+        );
+
+        // Verify
+        verify(notificationService).notifyUsersOfNewEvent(event);
+        verify(notificationService).notifyEventUpdate(event);
+        verify(notificationOutboxRepository).deleteAllInBatch(batch);
+    }
+
+    @Test
+    @DisplayName("dispatchBatch: waitlist promotions notify the promoted user")
+    void dispatchBatch_waitlistPromoted() {
+        // Arrange
+        NotificationOutboxEntry promoted = entry(1L, NotificationOutbox.WAITLIST_PROMOTED, UUID.randomUUID(), null);
+        when(notificationOutboxRepository.claimBatch(10)).thenReturn(List.of(promoted));
+
+        // Act
+        int dispatched = dispatcher.dispatchBatch();
+
+        // Assert
+        assertEquals(1, dispatched);
+
+        // Verify
+        verify(notificationService).notifyWaitlistPromoted(event, promoted.getRecipientId());
+    }
+
+    @Test
+    @DisplayName("dispatchBatch: failing entry is postponed without blocking the rest of the batch")
+    void dispatchBatch_failingEntryPostponed() {
+        // Arrange
+        NotificationOutboxEntry cancelled = entry(1L, NotificationOutbox.EVENT_CANCELLED, null, null);
+        NotificationOutboxEntry updated = entry(2L, NotificationOutbox.EVENT_UPDATE, null, null);
+        when(notificationOutboxRepository.claimBatch(10)).thenReturn(List.of(cancelled, updated));
+        when(notificationOutboxRepository.claimById(1L)).thenReturn(Optional.of(cancelled));
+        when(notificationOutboxRepository.claimById(2L)).thenReturn(Optional.of(updated));
+        when(notificationOutboxRepository.recordFailedAttempt(1L, 1000L)).thenReturn(Optional.of(1));
+        when(notificationService.notifyEventCancelled(event)).thenThrow(new IllegalStateException("boom"));
+
+        // Act
+        int dispatched = dispatcher.dispatchBatch();
+
+        // Assert
+        assertAll(
+            () -> assertEquals(2, dispatched),
+            () -> assertEquals(0.0, meterRegistry.get("eventified.notification.outbox.failed").counter().count())
+        );
+
+        // Verify
+        verify(notificationService).notifyEventUpdate(event);
+        verify(notificationOutboxRepository).recordFailedAttempt(1L, 1000L);
+        verify(notificationOutboxRepository, never()).deleteById(1L);
+        verify(notificationOutboxRepository).deleteAllInBatch(List.of(updated));
+    }
+
+    @Test
+    @DisplayName("dispatchBatch: entry is dropped once it has failed the maximum number of times")
+    void dispatchBatch_failingEntryDroppedAfterMaxAttempts() {
+        // Arrange
+        NotificationOutboxEntry cancelled = entry(1L, NotificationOutbox.EVENT_CANCELLED, null, null);
+        when(notificationOutboxRepository.claimBatch(10)).thenReturn(List.of(cancelled));
+        when(notificationOutboxRepository.claimById(1L)).thenReturn(Optional.of(cancelled));
+        when(notificationOutboxRepository.recordFailedAttempt(1L, 1000L)).thenReturn(Optional.of(3));
+        when(notificationService.notifyEventCancelled(event)).thenThrow(new IllegalStateException("boom"));
+
+        // Act
+        dispatcher.dispatchBatch();
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("eventified.notification.outbox.failed").counter().count());
+
+        // Verify
+        verify(notificationOutboxRepository).deleteById(1L);
+    }
+
+    @Test
+    @DisplayName("poll: records outbox depth and does nothing when empty")
+    void poll_emptyOutbox() {
+        // Arrange
+        when(notificationOutboxRepository.countDispatchable()).thenReturn(0L);
+
+        // Act
+        dispatcher.poll();
+
+        // Assert
+        assertEquals(0.0, meterRegistry.get("eventified.notification.outbox.depth").gauge().value());
+
+        // Verify
+        verify(notificationOutboxRepository, never()).claimBatch(anyInt());
+    }
+
+    private NotificationOutboxEntry entry(Long id, int type, UUID recipientId, String actorUsername) {
+        NotificationOutboxEntry entry = new NotificationOutboxEntry(type, event.getId(), recipientId, actorUsername);
+        entry.setId(id);
+        entry.setCreatedAt(LocalDateTime.now().minusSeconds(1));
+        return entry;
+    }
+}
@@ -0,0 +1,87 @@
+package UnitTests.Service;
+
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.webapp.Eventified.dto.user.NotificationPushDTO;
+import com.webapp.Eventified.service.notification.NotificationPushService;
+import com.webapp.Eventified.service.notification.UnreadNotificationCounter;
+
+class NotificationPushServiceTest {
+
+    private SimpMessagingTemplate messagingTemplate;
+    private UnreadNotificationCounter unreadNotificationCounter;
+    private NotificationPushService notificationPushService;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        unreadNotificationCounter = mock(UnreadNotificationCounter.class);
+        notificationPushService = new NotificationPushService(messagingTemplate, unreadNotificationCounter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("pushNotification: without a transaction sends the notification and a +1 delta immediately")
+    void pushNotification_noTransaction_sendsImmediately() {
+        // Arrange
+        NotificationPushDTO notification = dto();
+
+        // Act
+        notificationPushService.pushNotification("user", notification);
+
+        // Verify
+        verify(messagingTemplate).convertAndSendToUser("user", NotificationPushService.NOTIFICATIONS_DESTINATION, notification);
+        verify(messagingTemplate).convertAndSendToUser("user", NotificationPushService.UNREAD_DELTA_DESTINATION, 1);
+        verify(unreadNotificationCounter).adjust("user", 1);
+    }
+
+    @Test
+    @DisplayName("pushNotification: inside a transaction sends only after commit")
+    void pushNotification_transaction_sendsAfterCommit() {
+        // Arrange
+        NotificationPushDTO notification = dto();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        notificationPushService.pushNotification("user", notification);
+        verifyNoInteractions(messagingTemplate, unreadNotificationCounter);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Verify
+        verify(messagingTemplate).convertAndSendToUser("user", NotificationPushService.NOTIFICATIONS_DESTINATION, notification);
+    }
+
+    @Test
+    @DisplayName("pushUnreadDelta: zero delta is not sent")
+    void pushUnreadDelta_zero_notSent() {
+        // Act
+        notificationPushService.pushUnreadDelta("user", 0);
+        notificationPushService.pushUnreadDelta("user", -3);
+
+        // Verify
+        verify(messagingTemplate).convertAndSendToUser("user", NotificationPushService.UNREAD_DELTA_DESTINATION, -3);
+        verify(unreadNotificationCounter).adjust("user", -3);
+        verifyNoMoreInteractions(messagingTemplate, unreadNotificationCounter);
+    }
+
+    private NotificationPushDTO dto() {
+        return new NotificationPushDTO(UUID.randomUUID(), 1, "Title", "Message", UUID.randomUUID(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,110 @@
+package UnitTests.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.webapp.Eventified.repository.ExpiredNotifications;
+import com.webapp.Eventified.repository.NotificationRepository;
+import com.webapp.Eventified.service.notification.NotificationPushService;
+import com.webapp.Eventified.service.notification.NotificationRetentionJob;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NotificationRetentionJobTest {
+
+    private NotificationRepository notificationRepository;
+    private NotificationPushService notificationPushService;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationRetentionJob job;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        notificationPushService = mock(NotificationPushService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        job = new NotificationRetentionJob(notificationRepository, notificationPushService,
+            mock(PlatformTransactionManager.class), meterRegistry, "4:7, 5:30", 2);
+    }
+
+    @Test
+    @DisplayName("constructor: parses per-type TTLs")
+    void constructor_parsesTtls() {
+        // Assert
+        assertAll(
+            () -> assertEquals(2, job.getTtls().size()),
+            () -> assertEquals(Duration.ofDays(7), job.getTtls().get(4)),
+            () -> assertEquals(Duration.ofDays(30), job.getTtls().get(5))
+        );
+    }
+
+    @Test
+    @DisplayName("constructor: malformed TTL throws")
+    void constructor_malformedTtl_throws() {
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> new NotificationRetentionJob(notificationRepository,
+            notificationPushService, mock(PlatformTransactionManager.class), meterRegistry, "4=7", 2));
+    }
+
+    @Test
+    @DisplayName("purgeExpired: deletes in chunks until a short chunk and records metrics per type")
+    void purgeExpired_chunkedDeletes() {
+        // Arrange
+        ExpiredNotifications full = expired("alice", 2L, 1L);
+        ExpiredNotifications partial = expired("bob", 1L, 0L);
+        when(notificationRepository.deleteExpiredChunk(eq(4), any(LocalDateTime.class), eq(2)))
+            .thenReturn(List.of(full), List.of(partial));
+        when(notificationRepository.deleteExpiredChunk(eq(5), any(LocalDateTime.class), eq(2))).thenReturn(List.of());
+
+        // Act
+        int deleted = job.purgeExpired();
+
+        // Assert
+        assertAll(
+            () -> assertEquals(3, deleted),
+            () -> assertEquals(3.0, meterRegistry.get("eventified.notification.retention.deleted").tag("type", "4").counter().count()),
+            () -> assertEquals(0.0, meterRegistry.get("eventified.notification.retention.deleted").tag("type", "5").counter().count())
+        );
+
+        // Verify
+        verify(notificationRepository, times(2)).deleteExpiredChunk(eq(4), any(LocalDateTime.class), eq(2));
+        verify(notificationPushService).pushUnreadDelta("alice", -1);
+        verify(notificationPushService, never()).pushUnreadDelta(eq("bob"), anyInt());
+    }
+
+    @Test
+    @DisplayName("purgeExpired: cutoff is the TTL before now")
+    void purgeExpired_cutoffFromTtl() {
+        // Arrange
+        when(notificationRepository.deleteExpiredChunk(anyInt(), any(LocalDateTime.class), anyInt())).thenReturn(List.of());
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        job.purgeExpired();
+
+        // Verify
+        verify(notificationRepository).deleteExpiredChunk(eq(4), argThat((LocalDateTime cutoff) ->
+            !cutoff.isBefore(before.minusDays(7)) && !cutoff.isAfter(LocalDateTime.now().minusDays(7))), eq(2));
+        verify(notificationPushService, never()).pushUnreadDelta(anyString(), anyInt());
+    }
+
+    private ExpiredNotifications expired(String username, Long deleted, Long unread) {
+        ExpiredNotifications expired = mock(ExpiredNotifications.class);
+        when(expired.getUsername()).thenReturn(username);
+        when(expired.getDeleted()).thenReturn(deleted);
+        when(expired.getUnread()).thenReturn(unread);
+        return expired;
+    }
+}
@@ -0,0 +1,342 @@
+package UnitTests.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import com.webapp.Eventified.dto.user.NotificationFeedItemDTO;
+import com.webapp.Eventified.dto.user.NotificationPageDTO;
+import com.webapp.Eventified.dto.user.NotificationPushDTO;
+import com.webapp.Eventified.model.Event;
+import com.webapp.Eventified.model.Notification;
+import com.webapp.Eventified.model.User;
+import com.webapp.Eventified.repository.DeletedNotifications;
+import com.webapp.Eventified.repository.NotificationRecipient;
+import com.webapp.Eventified.repository.NotificationRepository;
+import com.webapp.Eventified.repository.UserRepository;
+import com.webapp.Eventified.service.NotificationService;
+import com.webapp.Eventified.service.notification.NotificationPushService;
+import com.webapp.Eventified.service.notification.UnreadNotificationCounter;
+import com.webapp.Eventified.util.NotificationCursor;
+
+class NotificationServiceTest {
+
+    private NotificationRepository notificationRepository;
+    private UserRepository userRepository;
+    private NotificationPushService notificationPushService;
+    private UnreadNotificationCounter unreadNotificationCounter;
+    private NotificationService notificationService;
+
+    private User organizer;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        userRepository = mock(UserRepository.class);
+        notificationPushService = mock(NotificationPushService.class);
+        unreadNotificationCounter = mock(UnreadNotificationCounter.class);
+        notificationService = new NotificationService(notificationRepository, userRepository, notificationPushService, unreadNotificationCounter);
+
+        organizer = new User();
+        organizer.setId(UUID.randomUUID());
+        organizer.setUsername("organizer");
+        event = new Event(organizer, "Title", 1, 2, "Addr", BigDecimal.ONE, BigDecimal.ONE,
+            LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(1).plusHours(2), 10);
+        event.setId(UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("notifyUsersOfNewEvent: one set-based insert excluding the organizer")
+    void notifyUsersOfNewEvent_singleInsert() {
+        // Act
+        boolean result = notificationService.notifyUsersOfNewEvent(event);
+
+        // Assert
+        assertTrue(result);
+
+        // Verify
+        verify(notificationRepository).insertForUsersWithSportAndSkillLevel(eq(event.getId()), eq(1), eq(2),
+            eq(organizer.getId()), eq(1), eq("New Event"), anyString(), any(LocalDateTime.class));
+        verify(notificationRepository, never()).save(any(Notification.class));
+    }
+
+    @Test
+    @DisplayName("notifyEventCancelled, notifyEventReminder, notifyEventUpdate: one set-based insert each")
+    void notifyParticipants_singleInsertEach() {
+        // Act
+        notificationService.notifyEventCancelled(event);
+        notificationService.notifyEventReminder(event);
+        notificationService.notifyEventUpdate(event);
+
+        // Verify
+        verify(notificationRepository).insertForEventParticipants(eq(event.getId()), eq(2), eq("Event Cancelled"), anyString(), any(LocalDateTime.class));
+        verify(notificationRepository).insertForEventParticipants(eq(event.getId()), eq(4), eq("Event Reminder"), anyString(), any(LocalDateTime.class));
+        verify(notificationRepository).insertForEventParticipants(eq(event.getId()), eq(6), eq("Event Updated"), anyString(), any(LocalDateTime.class));
+        verify(notificationRepository, never()).save(any(Notification.class));
+    }
+
+    @Test
+    @DisplayName("notifyNewPlayerJoined: saves a single notification for the organizer")
+    void notifyNewPlayerJoined_savesNotification() {
+        // Act
+        notificationService.notifyNewPlayerJoined(event, organizer, "player");
+
+        // Verify
+        verify(notificationRepository).save(argThat((Notification notification) ->
+            notification.getUser() == organizer
+                && notification.getTypeOfNotification() == 5
+                && notification.getMessageOfNotification().startsWith("player")));
+    }
+
+    @Test
+    @DisplayName("notifyWaitlistPromoted: saves a notification for the promoted user")
+    void notifyWaitlistPromoted_savesNotification() {
+        // Arrange
+        User player = new User();
+        player.setId(UUID.randomUUID());
+        player.setUsername("player");
+        when(userRepository.findById(player.getId())).thenReturn(Optional.of(player));
+
+        // Act
+        boolean result = notificationService.notifyWaitlistPromoted(event, player.getId());
+
+        // Assert
+        assertTrue(result);
+
+        // Verify
+        verify(notificationRepository).save(argThat((Notification notification) ->
+            notification.getUser() == player
+                && notification.getTypeOfNotification() == 9));
+    }
+
+    @Test
+    @DisplayName("notifyPlayersJoined: saves one aggregated notification for several players")
+    void notifyPlayersJoined_savesAggregatedNotification() {
+        // Act
+        notificationService.notifyPlayersJoined(event, organizer, List.of("a", "b", "c", "d", "e"));
+
+        // Verify
+        verify(notificationRepository).save(argThat((Notification notification) ->
+            notification.getUser() == organizer
+                && notification.getTypeOfNotification() == 5
+                && notification.getMessageOfNotification().startsWith("5 players (a, b, c and 2 more) have joined")));
+    }
+
+    @Test
+    @DisplayName("notifyPlayersLeft: a single player keeps the per-player message")
+    void notifyPlayersLeft_singlePlayer() {
+        // Act
+        notificationService.notifyPlayersLeft(event, organizer, List.of("player"));
+
+        // Verify
+        verify(notificationRepository).save(argThat((Notification notification) ->
+            notification.getTypeOfNotification() == 7
+                && notification.getMessageOfNotification().equals("player has left the event you are participating in")));
+    }
+
+    @Test
+    @DisplayName("notifyEventUpdate: pushes each created notification to its recipient")
+    void notifyEventUpdate_pushesToRecipients() {
+        // Arrange
+        NotificationRecipient recipient = mock(NotificationRecipient.class);
+        UUID notificationId = UUID.randomUUID();
+        when(recipient.getId()).thenReturn(notificationId);
+        when(recipient.getUsername()).thenReturn("player");
+        when(notificationRepository.insertForEventParticipants(eq(event.getId()), eq(6), anyString(), anyString(), any(LocalDateTime.class)))
+            .thenReturn(List.of(recipient));
+
+        // Act
+        notificationService.notifyEventUpdate(event);
+
+        // Verify
+        verify(notificationPushService).pushNotification(eq("player"), argThat((NotificationPushDTO dto) ->
+            dto.getId().equals(notificationId) && dto.getEventId().equals(event.getId()) && dto.getTypeOfNotification() == 6));
+    }
+
+    @Test
+    @DisplayName("markAllAsRead: one set-based update, returns the count and pushes a negative unread delta")
+    void markAllAsRead_setBasedUpdate() {
+        // Arrange
+        when(userRepository.findByUsername("organizer")).thenReturn(Optional.of(organizer));
+        when(notificationRepository.markAllAsReadByUserId(organizer.getId())).thenReturn(3);
+
+        // Act
+        int marked = notificationService.markAllAsRead("organizer");
+
+        // Assert
+        assertEquals(3, marked);
+
+        // Verify
+        verify(notificationRepository, never()).findByUserId(any(UUID.class));
+        verify(notificationRepository, never()).save(any(Notification.class));
+        verify(notificationPushService).pushUnreadDelta("organizer", -3);
+    }
+
+    @Test
+    @DisplayName("markAsRead: marks the given ids of the user and returns the count")
+    void markAsRead_byIds() {
+        // Arrange
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(userRepository.findByUsername("organizer")).thenReturn(Optional.of(organizer));
+        when(notificationRepository.markAsReadByUserIdAndIdIn(organizer.getId(), ids)).thenReturn(1);
+
+        // Act
+        int marked = notificationService.markAsRead("organizer", ids);
+
+        // Assert
+        assertEquals(1, marked);
+
+        // Verify
+        verify(notificationPushService).pushUnreadDelta("organizer", -1);
+    }
+
+    @Test
+    @DisplayName("markAsRead: empty id list updates nothing")
+    void markAsRead_emptyIds() {
+        // Arrange
+        when(userRepository.findByUsername("organizer")).thenReturn(Optional.of(organizer));
+
+        // Act
+        int marked = notificationService.markAsRead("organizer", List.of());
+
+        // Assert
+        assertEquals(0, marked);
+
+        // Verify
+        verify(notificationRepository, never()).markAsReadByUserIdAndIdIn(any(UUID.class), anyCollection());
+    }
+
+    @Test
+    @DisplayName("deleteNotificationsOlderThan: one set-based delete, unread delta from deleted unread rows")
+    void deleteNotificationsOlderThan_setBasedDelete() {
+        // Arrange
+        LocalDateTime before = LocalDateTime.now().minusDays(30);
+        when(userRepository.findByUsername("organizer")).thenReturn(Optional.of(organizer));
+        DeletedNotifications removed = mock(DeletedNotifications.class);
+        when(removed.getDeleted()).thenReturn(5);
+        when(removed.getUnread()).thenReturn(2);
+        when(notificationRepository.deleteByUserIdCreatedBefore(organizer.getId(), before)).thenReturn(removed);
+
+        // Act
+        int deleted = notificationService.deleteNotificationsOlderThan("organizer", before);
+
+        // Assert
+        assertEquals(5, deleted);
+
+        // Verify
+        verify(notificationPushService).pushUnreadDelta("organizer", -2);
+    }
+
+    @Test
+    @DisplayName("markAllAsRead: user not found throws")
+    void markAllAsRead_userNotFound_throws() {
+        // Arrange
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> notificationService.markAllAsRead("ghost"));
+    }
+
+    @Test
+    @DisplayName("getUnreadCount: served by the unread counter without counting notifications")
+    void getUnreadCount_fromCounter() {
+        // Arrange
+        when(unreadNotificationCounter.get("organizer")).thenReturn(7);
+
+        // Act
+        int count = notificationService.getUnreadCount("organizer");
+
+        // Assert
+        assertEquals(7, count);
+
+        // Verify
+        verifyNoInteractions(userRepository);
+        verify(notificationRepository, never()).countByUserIdAndIsRead(any(UUID.class), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("getNotificationFeed: first page fetches one extra row and returns a cursor to the last item")
+    void getNotificationFeed_firstPage_returnsNextCursor() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        NotificationFeedItemDTO first = feedItem(now);
+        NotificationFeedItemDTO second = feedItem(now.minusMinutes(1));
+        NotificationFeedItemDTO extra = feedItem(now.minusMinutes(2));
+        when(userRepository.findByUsername("organizer")).thenReturn(Optional.of(organizer));
+        when(notificationRepository.findFeedPage(eq(organizer.getId()), any(Pageable.class))).thenReturn(List.of(first, second, extra));
+
+        // Act
+        NotificationPageDTO page = notificationService.getNotificationFeed("organizer", null, 2);
+
+        // Assert
+        NotificationCursor next = NotificationCursor.decode(page.getNextCursor());
+        assertAll(
+            () -> assertEquals(List.of(first, second), page.getNotifications()),
+            () -> assertEquals(second.getCreatedAt(), next.getCreatedAt()),
+            () -> assertEquals(second.getId(), next.getId())
+        );
+
+        // Verify
+        verify(notificationRepository).findFeedPage(eq(organizer.getId()), argThat((Pageable pageable) -> pageable.getPageSize() == 3));
+        verify(notificationRepository, never()).findByUserId(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("getNotificationFeed: cursor page continues after the cursor and ends without a next cursor")
+    void getNotificationFeed_cursorPage_lastPage() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.now().minusHours(1);
+        UUID lastId = UUID.randomUUID();
+        NotificationFeedItemDTO item = feedItem(createdAt.minusMinutes(1));
+        when(userRepository.findByUsername("organizer")).thenReturn(Optional.of(organizer));
+        when(notificationRepository.findFeedPageAfter(eq(organizer.getId()), eq(createdAt), eq(lastId), any(Pageable.class)))
+            .thenReturn(List.of(item));
+
+        // Act
+        NotificationPageDTO page = notificationService.getNotificationFeed("organizer",
+            new NotificationCursor(createdAt, lastId).encode(), null);
+
+        // Assert
+        assertAll(
+            () -> assertEquals(List.of(item), page.getNotifications()),
+            () -> assertNull(page.getNextCursor())
+        );
+
+        // Verify
+        verify(notificationRepository).findFeedPageAfter(eq(organizer.getId()), eq(createdAt), eq(lastId),
+            argThat((Pageable pageable) -> pageable.getPageSize() == NotificationService.DEFAULT_FEED_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("getNotificationFeed: malformed cursor throws")
+    void getNotificationFeed_invalidCursor_throws() {
+        // Arrange
+        when(userRepository.findByUsername("organizer")).thenReturn(Optional.of(organizer));
+
+        // Act
+        Exception exception = assertThrows(IllegalArgumentException.class,
+            () -> notificationService.getNotificationFeed("organizer", "not-a-cursor", 10));
+
+        // Assert
+        assertEquals("Invalid cursor", exception.getMessage());
+    }
+
+    private NotificationFeedItemDTO feedItem(LocalDateTime createdAt) {
+        return new NotificationFeedItemDTO(UUID.randomUUID(), 5, "Title", "Message", false, createdAt, event.getId());
+    }
+}
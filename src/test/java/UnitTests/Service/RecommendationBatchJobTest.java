@@ -0,0 +1,140 @@
+package UnitTests.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.webapp.Eventified.dto.user.EventPoolDTO;
+import com.webapp.Eventified.model.SportUser;
+import com.webapp.Eventified.repository.EventParticipantRepository;
+import com.webapp.Eventified.repository.EventRepository;
+import com.webapp.Eventified.repository.ParticipationRow;
+import com.webapp.Eventified.repository.SportUserRepository;
+import com.webapp.Eventified.repository.SchedulerLockRepository;
+import com.webapp.Eventified.repository.UserRecommendationRepository;
+import com.webapp.Eventified.repository.UserRepository;
+import com.webapp.Eventified.service.cluster.ClusterJobLock;
+import com.webapp.Eventified.service.recommendation.CoParticipationIndex;
+import com.webapp.Eventified.service.recommendation.RecommendationBatchJob;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RecommendationBatchJobTest {
+
+    private UserRepository userRepository;
+    private SportUserRepository sportUserRepository;
+    private EventParticipantRepository eventParticipantRepository;
+    private EventRepository eventRepository;
+    private UserRecommendationRepository userRecommendationRepository;
+    private SchedulerLockRepository schedulerLockRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private RecommendationBatchJob job;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        sportUserRepository = mock(SportUserRepository.class);
+        eventParticipantRepository = mock(EventParticipantRepository.class);
+        eventRepository = mock(EventRepository.class);
+        userRecommendationRepository = mock(UserRecommendationRepository.class);
+        schedulerLockRepository = mock(SchedulerLockRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        job = new RecommendationBatchJob(userRepository, sportUserRepository, eventParticipantRepository,
+            eventRepository, userRecommendationRepository,
+            new CoParticipationIndex(eventParticipantRepository, new SimpleMeterRegistry(), 0.2, 180),
+            new ClusterJobLock(schedulerLockRepository, new SimpleMeterRegistry(), "node-1"),
+            mock(PlatformTransactionManager.class), meterRegistry, 1, 2);
+    }
+
+    @Test
+    @DisplayName("generateAll: stores ranked recommendations for every page of users with the run's start time")
+    void generateAll_precomputesForAllUsers() {
+        // Arrange
+        UUID football = UUID.randomUUID();
+        UUID anything = UUID.randomUUID();
+        LocalDateTime computedAt = LocalDateTime.now();
+        EventPoolDTO footballBeginner = dto(1, 1, 2);
+        EventPoolDTO footballExpert = dto(1, 5, 2);
+        EventPoolDTO joinedFootball = dto(1, 1, 1);
+        EventPoolDTO tennis = dto(2, 3, 2);
+
+        when(userRecommendationRepository.currentTimestamp()).thenReturn(computedAt);
+        when(userRecommendationRepository.store(any(), any(), any(), any())).thenReturn(1);
+        when(eventRepository.findEventPoolPage(any(), any(), anyInt()))
+            .thenReturn(List.of(joinedFootball, footballBeginner, footballExpert, tennis));
+        when(userRepository.findVerifiedUserIdsAfter(any(), any()))
+            .thenReturn(List.of(football))
+            .thenReturn(List.of(anything))
+            .thenReturn(List.of());
+        when(sportUserRepository.findByUserIdIn(List.of(football))).thenReturn(List.of(new SportUser(football, 1, 1)));
+        when(sportUserRepository.findByUserIdIn(List.of(anything))).thenReturn(List.of());
+        when(eventParticipantRepository.findParticipationRowsByUserIdIn(List.of(football)))
+            .thenReturn(List.of(new ParticipationRow(football, joinedFootball.getId(), 1, 1, LocalDateTime.now().plusDays(1))));
+        when(eventParticipantRepository.findParticipationRowsByUserIdIn(List.of(anything))).thenReturn(List.of());
+
+        // Act
+        int processed = job.generateAll();
+
+        // Assert
+        assertEquals(2, processed);
+
+        // Verify
+        InOrder inOrder = inOrder(userRecommendationRepository, eventRepository);
+        inOrder.verify(userRecommendationRepository).currentTimestamp();
+        inOrder.verify(eventRepository).findEventPoolPage(any(), any(), anyInt());
+        verify(userRecommendationRepository).store(eq(football),
+            aryEq(new UUID[] { footballBeginner.getId(), footballExpert.getId() }), aryEq(new Integer[] { 1 }), eq(computedAt));
+        verify(userRecommendationRepository).store(eq(anything),
+            argThat((UUID[] ids) -> ids.length == 4), aryEq(new Integer[0]), eq(computedAt));
+        verify(userRepository, times(3)).findVerifiedUserIdsAfter(any(), any());
+    }
+
+    @Test
+    @DisplayName("generateAll: lists invalidated during the run are counted as stale")
+    void generateAll_invalidatedDuringRun_countedStale() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        when(userRecommendationRepository.store(any(), any(), any(), any())).thenReturn(0);
+        when(eventRepository.findEventPoolPage(any(), any(), anyInt())).thenReturn(List.of(dto(1, 1, 2)));
+        when(userRepository.findVerifiedUserIdsAfter(any(), any())).thenReturn(List.of(userId)).thenReturn(List.of());
+        when(sportUserRepository.findByUserIdIn(List.of(userId))).thenReturn(List.of(new SportUser(userId, 1, 1)));
+        when(eventParticipantRepository.findParticipationRowsByUserIdIn(List.of(userId))).thenReturn(List.of());
+
+        // Act
+        job.generateAll();
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("eventified.recommendation.batch.stale").counter().count());
+    }
+
+    @Test
+    @DisplayName("run: skipped while another node holds the batch lease")
+    void run_leaseHeldElsewhere_skipped() {
+        // Arrange
+        when(schedulerLockRepository.tryLock(eq("recommendation-batch"), anyString(), anyLong())).thenReturn(0);
+
+        // Act
+        job.run();
+
+        // Verify
+        verifyNoInteractions(eventRepository, userRepository, userRecommendationRepository);
+    }
+
+    private EventPoolDTO dto(int sport, int skillLevel, int daysAhead) {
+        return new EventPoolDTO(UUID.randomUUID(), "event", sport, "address",
+            LocalDateTime.now().plusDays(daysAhead), 10, 1, skillLevel);
+    }
+}
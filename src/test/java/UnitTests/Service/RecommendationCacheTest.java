@@ -0,0 +1,225 @@
+package UnitTests.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.webapp.Eventified.dto.user.EventPoolDTO;
+import com.webapp.Eventified.repository.UserRecommendationRepository;
+import com.webapp.Eventified.service.recommendation.RecommendationCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RecommendationCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserRecommendationRepository userRecommendationRepository;
+    private RecommendationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userRecommendationRepository = mock(UserRecommendationRepository.class);
+        cache = new RecommendationCache(meterRegistry, userRecommendationRepository, 2, 300);
+    }
+
+    @Test
+    @DisplayName("get: hit returns first entries and counts hits and misses")
+    void get_hitAndMiss() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        List<EventPoolDTO> recommendations = List.of(dto(), dto(), dto());
+
+        // Act
+        boolean missBeforePut = cache.get(userId, 2).isEmpty();
+        cache.put(userId, recommendations, Set.of(1), cache.generation());
+        List<EventPoolDTO> hit = cache.get(userId, 2).orElseThrow();
+
+        // Assert
+        assertAll(
+            () -> assertTrue(missBeforePut),
+            () -> assertEquals(recommendations.subList(0, 2), hit),
+            () -> assertEquals(1.0, meterRegistry.get("eventified.recommendation.cache.requests").tag("result", "hit").counter().count()),
+            () -> assertEquals(1.0, meterRegistry.get("eventified.recommendation.cache.requests").tag("result", "miss").counter().count())
+        );
+    }
+
+    @Test
+    @DisplayName("get: limit above cached depth is a miss")
+    void get_limitAboveCachedDepth_miss() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        cache.put(userId, List.of(dto()), Set.of(1), cache.generation());
+
+        // Act + Assert
+        assertTrue(cache.get(userId, RecommendationCache.CACHED_RECOMMENDATIONS + 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("put: least recently used entry is evicted when full")
+    void put_evictsLeastRecentlyUsed() {
+        // Arrange
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        cache.put(first, List.of(dto()), Set.of(1), cache.generation());
+        cache.put(second, List.of(dto()), Set.of(1), cache.generation());
+        cache.get(first, 1);
+
+        // Act
+        cache.put(third, List.of(dto()), Set.of(1), cache.generation());
+
+        // Assert
+        assertAll(
+            () -> assertEquals(2, cache.size()),
+            () -> assertTrue(cache.get(first, 1).isPresent()),
+            () -> assertTrue(cache.get(second, 1).isEmpty()),
+            () -> assertEquals(1.0, meterRegistry.get("eventified.recommendation.cache.evictions").counter().count())
+        );
+    }
+
+    @Test
+    @DisplayName("get: expired entry is a miss")
+    void get_expiredEntry_miss() {
+        // Arrange
+        RecommendationCache expiring = new RecommendationCache(new SimpleMeterRegistry(), userRecommendationRepository, 10, 0);
+        UUID userId = UUID.randomUUID();
+        expiring.put(userId, List.of(dto()), Set.of(1), expiring.generation());
+
+        // Act + Assert
+        assertAll(
+            () -> assertTrue(expiring.get(userId, 1).isEmpty()),
+            () -> assertEquals(0, expiring.size())
+        );
+    }
+
+    @Test
+    @DisplayName("invalidateSport: drops only users drawing candidates from that sport")
+    void invalidateSport_dropsAffectedUsers() {
+        // Arrange
+        cache = new RecommendationCache(meterRegistry, userRecommendationRepository, 10, 300);
+        UUID football = UUID.randomUUID();
+        UUID tennis = UUID.randomUUID();
+        UUID anySport = UUID.randomUUID();
+        cache.put(football, List.of(dto()), Set.of(1), cache.generation());
+        cache.put(tennis, List.of(dto()), Set.of(2), cache.generation());
+        cache.put(anySport, List.of(dto()), null, cache.generation());
+
+        // Act
+        cache.invalidateSport(1);
+
+        // Assert
+        assertAll(
+            () -> assertTrue(cache.get(football, 1).isEmpty()),
+            () -> assertTrue(cache.get(tennis, 1).isPresent()),
+            () -> assertTrue(cache.get(anySport, 1).isEmpty())
+        );
+
+        // Verify
+        verify(userRecommendationRepository).invalidateSport(1);
+    }
+
+    @Test
+    @DisplayName("invalidateUser: drops the user's entry")
+    void invalidateUser_dropsEntry() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        cache.put(userId, List.of(dto()), Set.of(1), cache.generation());
+
+        // Act
+        cache.invalidateUser(userId);
+
+        // Assert
+        assertTrue(cache.get(userId, 1).isEmpty());
+
+        // Verify
+        verify(userRecommendationRepository).invalidateUser(userId);
+    }
+
+    @Test
+    @DisplayName("invalidateUser: failing to stamp the precomputed store still drops the local entry")
+    void invalidateUser_storeFails_dropsEntry() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        cache.put(userId, List.of(dto()), Set.of(1), cache.generation());
+        when(userRecommendationRepository.invalidateUser(userId)).thenThrow(new IllegalStateException("database down"));
+
+        // Act
+        cache.invalidateUser(userId);
+
+        // Assert
+        assertTrue(cache.get(userId, 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("put: entry computed before the user was invalidated is discarded")
+    void put_userInvalidatedDuringCompute_discarded() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        long computedAt = cache.generation();
+        cache.invalidateUser(userId);
+
+        // Act
+        boolean stored = cache.put(userId, List.of(dto()), Set.of(1), computedAt);
+
+        // Assert
+        assertAll(
+            () -> assertFalse(stored),
+            () -> assertTrue(cache.get(userId, 1).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("put: entry computed before one of its sports was invalidated is discarded, other sports are kept")
+    void put_sportInvalidatedDuringCompute_discardsOnlyAffected() {
+        // Arrange
+        cache = new RecommendationCache(meterRegistry, userRecommendationRepository, 10, 300);
+        UUID football = UUID.randomUUID();
+        UUID tennis = UUID.randomUUID();
+        UUID anySport = UUID.randomUUID();
+        long computedAt = cache.generation();
+        cache.invalidateSport(1);
+
+        // Act
+        boolean footballStored = cache.put(football, List.of(dto()), Set.of(1, 3), computedAt);
+        boolean tennisStored = cache.put(tennis, List.of(dto()), Set.of(2), computedAt);
+        boolean anySportStored = cache.put(anySport, List.of(dto()), null, computedAt);
+
+        // Assert
+        assertAll(
+            () -> assertFalse(footballStored),
+            () -> assertTrue(tennisStored),
+            () -> assertFalse(anySportStored),
+            () -> assertTrue(cache.get(tennis, 1).isPresent())
+        );
+    }
+
+    @Test
+    @DisplayName("put: invalidations forgotten to stay bounded still discard older entries")
+    void put_forgottenUserInvalidation_stillDiscarded() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        long computedAt = cache.generation();
+        cache.invalidateUser(userId);
+        cache.invalidateUser(UUID.randomUUID());
+        cache.invalidateUser(UUID.randomUUID());
+
+        // Act
+        boolean stored = cache.put(userId, List.of(dto()), Set.of(1), computedAt);
+
+        // Assert
+        assertFalse(stored);
+    }
+
+    private EventPoolDTO dto() {
+        return new EventPoolDTO(UUID.randomUUID(), "event", 1, "address", LocalDateTime.now().plusDays(1), 10, 1, 2);
+    }
+}
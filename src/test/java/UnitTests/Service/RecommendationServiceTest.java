@@ -0,0 +1,286 @@
+package UnitTests.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.webapp.Eventified.dto.user.EventPoolDTO;
+import com.webapp.Eventified.model.Event;
+import com.webapp.Eventified.model.SportUser;
+import com.webapp.Eventified.model.User;
+import com.webapp.Eventified.model.UserRecommendation;
+import com.webapp.Eventified.repository.EventParticipantRepository;
+import com.webapp.Eventified.repository.EventRepository;
+import com.webapp.Eventified.repository.UserRecommendationRepository;
+import com.webapp.Eventified.repository.UserRepository;
+import com.webapp.Eventified.service.recommendation.CoParticipationIndex;
+import com.webapp.Eventified.service.recommendation.ContentBasedScorer;
+import com.webapp.Eventified.service.recommendation.RecommendationCache;
+import com.webapp.Eventified.service.recommendation.RecommendationService;
+
+class RecommendationServiceTest {
+
+    private UserRepository userRepository;
+    private EventRepository eventRepository;
+    private EventParticipantRepository eventParticipantRepository;
+    private RecommendationCache recommendationCache;
+    private CoParticipationIndex coParticipationIndex;
+    private UserRecommendationRepository userRecommendationRepository;
+    private RecommendationService recommendationService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        eventRepository = mock(EventRepository.class);
+        eventParticipantRepository = mock(EventParticipantRepository.class);
+        userRecommendationRepository = mock(UserRecommendationRepository.class);
+        recommendationCache = new RecommendationCache(new SimpleMeterRegistry(), userRecommendationRepository, 100, 300);
+        coParticipationIndex = new CoParticipationIndex(mock(EventParticipantRepository.class), new SimpleMeterRegistry(), 0.2, 180);
+        recommendationService = new RecommendationService(userRepository, eventRepository, eventParticipantRepository, new ContentBasedScorer(), recommendationCache, coParticipationIndex, userRecommendationRepository);
+
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("user");
+        user.setSports(Set.of(new SportUser(user.getId(), 1, 3)));
+    }
+
+    @Test
+    @DisplayName("getRecommendedEvents: candidates come from one set-based query")
+    void getRecommendedEvents_usesSingleCandidateQuery() {
+        // Arrange
+        Event preferred = event(1, 3, 2);
+        Event other = event(2, 1, 40);
+        when(userRepository.findByUsername("user")).thenReturn(Optional.of(user));
+        when(eventParticipantRepository.findAllEventsByUserId(user.getId())).thenReturn(List.of());
+        when(eventRepository.findRecommendationCandidates(eq(user.getId()), eq(Set.of(1)), any(LocalDateTime.class)))
+            .thenReturn(new ArrayList<>(List.of(other, preferred)));
+
+        // Act
+        List<EventPoolDTO> result = recommendationService.getRecommendedEvents("user", 10);
+
+        // Assert
+        assertAll(
+            () -> assertEquals(2, result.size()),
+            () -> assertEquals(preferred.getId(), result.get(0).getId())
+        );
+
+        // Verify
+        verify(eventRepository, never()).findEventsBySports(any(), any());
+        verify(eventParticipantRepository, never()).findSportsFromUserHistory(any());
+        verify(eventParticipantRepository, never()).findByUserIdAndEventId(any(), any());
+    }
+
+    @Test
+    @DisplayName("getRecommendedEvents: user without sports falls back to all unattended events")
+    void getRecommendedEvents_noSports_fallsBack() {
+        // Arrange
+        user.setSports(Set.of());
+        Event event = event(2, 1, 1);
+        when(userRepository.findByUsername("user")).thenReturn(Optional.of(user));
+        when(eventParticipantRepository.findAllEventsByUserId(user.getId())).thenReturn(List.of());
+        when(eventRepository.findUpcomingEventsNotAttendedByUser(eq(user.getId()), any(LocalDateTime.class)))
+            .thenReturn(List.of(event));
+
+        // Act
+        List<EventPoolDTO> result = recommendationService.getRecommendedEvents("user", 10);
+
+        // Assert
+        assertEquals(1, result.size());
+
+        // Verify
+        verify(eventRepository, never()).findRecommendationCandidates(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("getRecommendedEvents: repeat request is served from cache")
+    void getRecommendedEvents_repeatRequest_servedFromCache() {
+        // Arrange
+        when(userRepository.findByUsername("user")).thenReturn(Optional.of(user));
+        when(eventParticipantRepository.findAllEventsByUserId(user.getId())).thenReturn(List.of());
+        when(eventRepository.findRecommendationCandidates(any(), any(), any()))
+            .thenReturn(new ArrayList<>(List.of(event(1, 3, 1), event(1, 2, 3), event(1, 1, 5))));
+
+        // Act
+        List<EventPoolDTO> first = recommendationService.getRecommendedEvents("user", 3);
+        List<EventPoolDTO> second = recommendationService.getRecommendedEvents("user", 2);
+
+        // Assert
+        assertAll(
+            () -> assertEquals(3, first.size()),
+            () -> assertEquals(first.subList(0, 2), second)
+        );
+
+        // Verify
+        verify(eventRepository, times(1)).findRecommendationCandidates(any(), any(), any());
+        verify(eventParticipantRepository, times(1)).findAllEventsByUserId(user.getId());
+    }
+
+    @Test
+    @DisplayName("getRecommendedEvents: invalidated entry is recomputed")
+    void getRecommendedEvents_invalidated_recomputes() {
+        // Arrange
+        when(userRepository.findByUsername("user")).thenReturn(Optional.of(user));
+        when(eventParticipantRepository.findAllEventsByUserId(user.getId())).thenReturn(List.of());
+        when(eventRepository.findRecommendationCandidates(any(), any(), any())).thenReturn(new ArrayList<>(List.of(event(1, 3, 1))));
+        recommendationService.getRecommendedEvents("user", 10);
+
+        // Act
+        recommendationCache.invalidateSport(1);
+        recommendationService.getRecommendedEvents("user", 10);
+
+        // Verify
+        verify(eventRepository, times(2)).findRecommendationCandidates(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("getRecommendedEvents: empty result is not cached")
+    void getRecommendedEvents_noCandidates_notCached() {
+        // Arrange
+        when(userRepository.findByUsername("user")).thenReturn(Optional.of(user));
+        when(eventParticipantRepository.findAllEventsByUserId(user.getId())).thenReturn(List.of());
+        when(eventRepository.findRecommendationCandidates(any(), any(), any())).thenReturn(new ArrayList<>());
+
+        // Act
+        recommendationService.getRecommendedEvents("user", 10);
+        recommendationService.getRecommendedEvents("user", 10);
+
+        // Assert
+        assertEquals(0, recommendationCache.size());
+
+        // Verify
+        verify(eventRepository, times(2)).findRecommendationCandidates(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("getRecommendedEvents: result computed across an invalidation is not cached")
+    void getRecommendedEvents_invalidatedDuringCompute_notCached() {
+        // Arrange
+        when(userRepository.findByUsername("user")).thenReturn(Optional.of(user));
+        when(eventParticipantRepository.findAllEventsByUserId(user.getId())).thenReturn(List.of());
+        when(eventRepository.findRecommendationCandidates(any(), any(), any())).thenAnswer(invocation -> {
+            recommendationCache.invalidateSport(1);
+            return new ArrayList<>(List.of(event(1, 3, 1)));
+        });
+
+        // Act
+        List<EventPoolDTO> result = recommendationService.getRecommendedEvents("user", 10);
+
+        // Assert
+        assertAll(
+            () -> assertEquals(1, result.size()),
+            () -> assertEquals(0, recommendationCache.size())
+        );
+    }
+
+    @Test
+    @DisplayName("getRecommendedEvents: valid precomputed list is served in rank order without computing")
+    void getRecommendedEvents_precomputed_servedWithoutComputing() {
+        // Arrange
+        EventPoolDTO first = new EventPoolDTO(event(1, 3, 1));
+        EventPoolDTO second = new EventPoolDTO(event(1, 2, 2));
+        UUID started = UUID.randomUUID();
+        UserRecommendation stored = new UserRecommendation();
+        stored.setUserId(user.getId());
+        stored.setEventIds(new UUID[] { first.getId(), started, second.getId() });
+        stored.setSports(new Integer[] { 1 });
+        when(userRepository.findByUsername("user")).thenReturn(Optional.of(user));
+        when(userRecommendationRepository.findValidByUserId(user.getId())).thenReturn(Optional.of(stored));
+        when(eventRepository.findUpcomingPoolEntriesByIdIn(eq(List.of(first.getId(), started, second.getId())), any(LocalDateTime.class)))
+            .thenReturn(List.of(second, first));
+
+        // Act
+        List<EventPoolDTO> result = recommendationService.getRecommendedEvents("user", 10);
+        recommendationService.getRecommendedEvents("user", 10);
+
+        // Assert
+        assertEquals(List.of(first, second), result);
+
+        // Verify
+        verify(userRecommendationRepository, times(1)).findValidByUserId(user.getId());
+        verify(eventRepository, never()).findRecommendationCandidates(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("getRecommendedEvents: user not found throws")
+    void getRecommendedEvents_userNotFound_throwsException() {
+        // Arrange
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        // Act
+        Exception exception = assertThrows(IllegalArgumentException.class, () ->
+            recommendationService.getRecommendedEvents("ghost", 10)
+        );
+
+        // Assert
+        assertEquals("User not found", exception.getMessage());
+    }
+
+    /**
+     * Query-count benchmark: every repository call is one SQL statement, so the number of
+     * repository invocations per request is the number of queries issued. Before the
+     * set-based candidate query this was 4 + N (N = number of candidates); now it is constant.
+     */
+    @Test
+    @DisplayName("getRecommendedEvents: queries per request do not grow with candidates")
+    void getRecommendedEvents_queryCountIsConstant() {
+        // Arrange
+        int[] candidateCounts = {1, 10, 100, 1000};
+        int[] queryCounts = new int[candidateCounts.length];
+
+        for (int i = 0; i < candidateCounts.length; i++) {
+            setUp();
+            List<Event> candidates = new ArrayList<>();
+            for (int n = 0; n < candidateCounts[i]; n++) {
+                candidates.add(event(1 + n % 3, 1 + n % 5, 1 + n % 60));
+            }
+            when(userRepository.findByUsername("user")).thenReturn(Optional.of(user));
+            when(eventParticipantRepository.findAllEventsByUserId(user.getId())).thenReturn(List.of());
+            when(eventRepository.findRecommendationCandidates(any(), any(), any())).thenReturn(candidates);
+
+            // Act
+            recommendationService.getRecommendedEvents("user", 10);
+            queryCounts[i] = queryCount();
+        }
+
+        // Assert
+        for (int queryCount : queryCounts) {
+            assertEquals(3, queryCount);
+        }
+    }
+
+    private int queryCount() {
+        return mockingDetails(userRepository).getInvocations().size()
+            + mockingDetails(eventRepository).getInvocations().size()
+            + mockingDetails(eventParticipantRepository).getInvocations().size();
+    }
+
+    private Event event(int sport, int skillLevel, int daysAhead) {
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setTitle("event");
+        event.setSport(sport);
+        event.setSkillLevel(skillLevel);
+        event.setAddress("address");
+        event.setStartTime(LocalDateTime.now().plusDays(daysAhead));
+        event.setCapacity(10);
+        event.setOccupied(1);
+        event.setStatusOfEvent(0);
+        return event;
+    }
+}
@@ -0,0 +1,84 @@
+package UnitTests.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.security.Principal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.webapp.Eventified.config.StompJwtChannelInterceptor;
+import com.webapp.Eventified.util.JWTutil;
+
+class StompJwtChannelInterceptorTest {
+
+    private StompJwtChannelInterceptor interceptor;
+    private MessageChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new StompJwtChannelInterceptor(mock(JWTutil.class), mock(UserDetailsService.class));
+        channel = mock(MessageChannel.class);
+    }
+
+    @Test
+    @DisplayName("preSend: subscription to the user's own queue is allowed")
+    void preSend_subscribeUserQueue_allowed() {
+        // Arrange
+        Message<byte[]> message = frame(StompCommand.SUBSCRIBE, "/user/queue/notifications", () -> "user");
+
+        // Act + Assert
+        assertSame(message, interceptor.preSend(message, channel));
+    }
+
+    @Test
+    @DisplayName("preSend: subscription to a broker queue is refused")
+    void preSend_subscribeBrokerQueue_refused() {
+        // Arrange
+        Message<byte[]> message = frame(StompCommand.SUBSCRIBE, "/queue/notifications-user1234", () -> "user");
+
+        // Act + Assert
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, channel));
+    }
+
+    @Test
+    @DisplayName("preSend: subscription without an authenticated session is refused")
+    void preSend_subscribeWithoutUser_refused() {
+        // Arrange
+        Message<byte[]> message = frame(StompCommand.SUBSCRIBE, "/user/queue/notifications", null);
+
+        // Act + Assert
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, channel));
+    }
+
+    @Test
+    @DisplayName("preSend: client SEND to a broker destination is refused")
+    void preSend_sendToBroker_refused() {
+        // Arrange
+        Message<byte[]> toQueue = frame(StompCommand.SEND, "/queue/notifications", () -> "user");
+        Message<byte[]> toUser = frame(StompCommand.SEND, "/user/other/queue/notifications", () -> "user");
+
+        // Act + Assert
+        assertAll(
+            () -> assertThrows(AccessDeniedException.class, () -> interceptor.preSend(toQueue, channel)),
+            () -> assertThrows(AccessDeniedException.class, () -> interceptor.preSend(toUser, channel))
+        );
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String destination, Principal user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        accessor.setUser(user);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,150 @@
+package UnitTests.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.webapp.Eventified.service.recommendation.TopKSelector;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+class TopKSelectorTest {
+
+    @Test
+    @DisplayName("indicesByScoreDescending: matches a stable full sort")
+    void indicesByScoreDescending_matchesFullSort() {
+        // Arrange
+        Random random = new Random(7);
+
+        for (int round = 0; round < 500; round++) {
+            int n = random.nextInt(300);
+            int k = random.nextInt(60);
+            double[] scores = new double[n];
+            for (int i = 0; i < n; i++) {
+                scores[i] = random.nextInt(20) / 20.0;
+            }
+            TopKSelector selector = new TopKSelector(k);
+
+            // Act
+            for (int i = 0; i < n; i++) {
+                selector.offer(i, scores[i]);
+            }
+            int[] selected = selector.indicesByScoreDescending();
+
+            // Assert
+            int[] expected = IntStream.range(0, n).boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> scores[i]).reversed())
+                .limit(k)
+                .mapToInt(Integer::intValue)
+                .toArray();
+            assertArrayEquals(expected, selected);
+        }
+    }
+
+    @Test
+    @DisplayName("offer: selector with k = 0 keeps nothing")
+    void offer_zeroK_keepsNothing() {
+        // Arrange
+        TopKSelector selector = new TopKSelector(0);
+
+        // Act
+        selector.offer(0, 1.0);
+
+        // Assert
+        assertAll(
+            () -> assertEquals(0, selector.size()),
+            () -> assertEquals(0, selector.indicesByScoreDescending().length)
+        );
+    }
+
+    @Test
+    @DisplayName("constructor: negative k throws")
+    void constructor_negativeK_throws() {
+        // Act
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new TopKSelector(-1));
+
+        // Assert
+        assertEquals("k must not be negative", exception.getMessage());
+    }
+
+    /**
+     * Benchmark comparing the previous selection (score map plus full sort with two map lookups per compare)
+     * with the bounded heap, at 10k, 100k and 1M candidates and k = 50. Both must select the same events;
+     * the timings are only logged, since wall-clock time depends on the machine.
+     * Disabled by default; run with {@code mvn test -Dtest=TopKSelectorTest -Dbenchmarks=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    @DisplayName("benchmark: top-k heap vs map and full sort")
+    void benchmark_topKVersusFullSort() {
+        int k = 50;
+        for (int n : new int[] {10_000, 100_000, 1_000_000}) {
+            // Arrange
+            Random random = new Random(n);
+            UUID[] ids = new UUID[n];
+            double[] scores = new double[n];
+            for (int i = 0; i < n; i++) {
+                ids[i] = UUID.randomUUID();
+                scores[i] = random.nextDouble();
+            }
+            List<UUID> candidates = Arrays.asList(ids);
+            Supplier<List<UUID>> mapAndSort = () -> {
+                Map<UUID, Double> scoreMap = new HashMap<>();
+                for (int i = 0; i < n; i++) {
+                    scoreMap.put(ids[i], scores[i]);
+                }
+                return candidates.stream()
+                    .sorted((a, b) -> Double.compare(scoreMap.getOrDefault(b, 0.0), scoreMap.getOrDefault(a, 0.0)))
+                    .limit(k)
+                    .collect(Collectors.toList());
+            };
+            Supplier<List<UUID>> topKHeap = () -> {
+                TopKSelector selector = new TopKSelector(k);
+                for (int i = 0; i < n; i++) {
+                    selector.offer(i, scores[i]);
+                }
+                return Arrays.stream(selector.indicesByScoreDescending()).mapToObj(i -> ids[i]).toList();
+            };
+
+            // Act
+            long sortNanos = measure(() -> mapAndSort.get().size());
+            long heapNanos = measure(() -> topKHeap.get().size());
+            log.info("n={} k={}: map+sort {} ms/op, top-k heap {} ms/op",
+                n, k, String.format("%.3f", sortNanos / 1e6), String.format("%.3f", heapNanos / 1e6));
+
+            // Assert
+            assertEquals(mapAndSort.get(), topKHeap.get());
+        }
+    }
+
+    private static long measure(IntSupplier operation) {
+        int warmup = 5;
+        int iterations = 10;
+        long sink = 0;
+        for (int i = 0; i < warmup; i++) {
+            sink += operation.getAsInt();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += operation.getAsInt();
+        }
+        long elapsed = (System.nanoTime() - start) / iterations;
+        assertTrue(sink > 0);
+        return elapsed;
+    }
+}
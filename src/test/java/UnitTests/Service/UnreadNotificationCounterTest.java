@@ -0,0 +1,171 @@
+package UnitTests.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.webapp.Eventified.repository.NotificationRepository;
+import com.webapp.Eventified.repository.SchedulerLockRepository;
+import com.webapp.Eventified.service.cluster.ClusterJobLock;
+import com.webapp.Eventified.service.notification.UnreadNotificationCounter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UnreadNotificationCounterTest {
+
+    private NotificationRepository notificationRepository;
+    private SchedulerLockRepository schedulerLockRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private UnreadNotificationCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        schedulerLockRepository = mock(SchedulerLockRepository.class);
+        when(schedulerLockRepository.tryLock(anyString(), anyString(), anyLong())).thenReturn(1);
+        meterRegistry = new SimpleMeterRegistry();
+        counter = new UnreadNotificationCounter(notificationRepository,
+            new ClusterJobLock(schedulerLockRepository, meterRegistry, "node-1"), mock(PlatformTransactionManager.class), meterRegistry, 2, 60);
+    }
+
+    @Test
+    @DisplayName("get: loads once, then serves from memory and applies deltas")
+    void get_loadsOnceAndAppliesDeltas() {
+        // Arrange
+        when(notificationRepository.findUnreadCountByUsername("user")).thenReturn(Optional.of(3));
+
+        // Act
+        int first = counter.get("user");
+        counter.adjust("user", 2);
+        counter.adjust("user", -1);
+        int second = counter.get("user");
+
+        // Assert
+        assertAll(
+            () -> assertEquals(3, first),
+            () -> assertEquals(4, second),
+            () -> assertEquals(1.0, meterRegistry.get("eventified.notification.unread.requests").tag("result", "hit").counter().count())
+        );
+
+        // Verify
+        verify(notificationRepository, times(1)).findUnreadCountByUsername("user");
+    }
+
+    @Test
+    @DisplayName("adjust: ignored for users that are not cached")
+    void adjust_notCached_ignored() {
+        // Arrange
+        when(notificationRepository.findUnreadCountByUsername("user")).thenReturn(Optional.of(5));
+
+        // Act
+        counter.adjust("user", 1);
+
+        // Assert
+        assertEquals(5, counter.get("user"));
+    }
+
+    @Test
+    @DisplayName("get: unknown user throws")
+    void get_userNotFound_throws() {
+        // Arrange
+        when(notificationRepository.findUnreadCountByUsername("ghost")).thenReturn(Optional.empty());
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> counter.get("ghost"));
+    }
+
+    @Test
+    @DisplayName("get: cache stays within its maximum size")
+    void get_boundedSize() {
+        // Arrange
+        when(notificationRepository.findUnreadCountByUsername(anyString())).thenReturn(Optional.of(0));
+
+        // Act
+        counter.get("a");
+        counter.get("b");
+        counter.get("c");
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("eventified.notification.unread.cached").gauge().value());
+    }
+
+    @Test
+    @DisplayName("get: expired counter is reloaded from the database")
+    void get_expired_reloads() {
+        // Arrange
+        counter = new UnreadNotificationCounter(notificationRepository,
+            new ClusterJobLock(schedulerLockRepository, meterRegistry, "node-1"), mock(PlatformTransactionManager.class), meterRegistry, 2, 0);
+        when(notificationRepository.findUnreadCountByUsername("user")).thenReturn(Optional.of(1)).thenReturn(Optional.of(4));
+
+        // Act
+        int first = counter.get("user");
+        int second = counter.get("user");
+
+        // Assert
+        assertAll(
+            () -> assertEquals(1, first),
+            () -> assertEquals(4, second)
+        );
+    }
+
+    @Test
+    @DisplayName("reconcile: locks each drifted counter before recounting it and reloads cached ones")
+    void reconcile_repairsAndClearsCache() {
+        // Arrange
+        UUID drifted = UUID.randomUUID();
+        UUID stale = UUID.randomUUID();
+        when(notificationRepository.findUnreadCountByUsername("user")).thenReturn(Optional.of(1)).thenReturn(Optional.of(4));
+        when(notificationRepository.findDriftedUnreadCounterUserIds()).thenReturn(List.of(drifted, stale));
+        when(notificationRepository.recountUnreadCounter(drifted)).thenReturn(1);
+        when(notificationRepository.recountUnreadCounter(stale)).thenReturn(1);
+        counter.get("user");
+
+        // Act
+        int repaired = counter.reconcile();
+
+        // Assert
+        assertAll(
+            () -> assertEquals(2, repaired),
+            () -> assertEquals(4, counter.get("user")),
+            () -> assertEquals(2.0, meterRegistry.get("eventified.notification.unread.repaired").counter().count())
+        );
+
+        // Verify
+        InOrder order = inOrder(notificationRepository);
+        order.verify(notificationRepository).createUnreadCounter(drifted);
+        order.verify(notificationRepository).lockUnreadCounter(drifted);
+        order.verify(notificationRepository).recountUnreadCounter(drifted);
+    }
+
+    @Test
+    @DisplayName("reconcile: another node holding the repair lease skips the repair but still clears the cache")
+    void reconcile_leaseHeldElsewhere_onlyClearsCache() {
+        // Arrange
+        when(schedulerLockRepository.tryLock(anyString(), anyString(), anyLong())).thenReturn(0);
+        when(notificationRepository.findUnreadCountByUsername("user")).thenReturn(Optional.of(1)).thenReturn(Optional.of(4));
+        counter.get("user");
+
+        // Act
+        int repaired = counter.reconcile();
+
+        // Assert
+        assertAll(
+            () -> assertEquals(0, repaired),
+            () -> assertEquals(4, counter.get("user"))
+        );
+
+        // Verify
+        verify(notificationRepository, never()).findDriftedUnreadCounterUserIds();
+    }
+}
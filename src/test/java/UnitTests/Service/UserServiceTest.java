@@ -2,26 +2,35 @@ package UnitTests.Service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.webapp.Eventified.dto.admin.UserInfoAdmin;
 import com.webapp.Eventified.dto.user.SportDTO;
 import com.webapp.Eventified.dto.user.UserProfileDTO;
+import com.webapp.Eventified.model.Event;
 import com.webapp.Eventified.model.EventParticipant;
 import com.webapp.Eventified.model.SportUser;
 import com.webapp.Eventified.model.User;
 import com.webapp.Eventified.repository.EventRepository;
+import com.webapp.Eventified.repository.EventWaitlistRepository;
+import com.webapp.Eventified.repository.PromotedParticipant;
+import com.webapp.Eventified.repository.ReservedSpot;
 import com.webapp.Eventified.repository.SportUserRepository;
 import com.webapp.Eventified.repository.UserRepository;
 import com.webapp.Eventified.repository.EventParticipantRepository;
-import com.webapp.Eventified.service.NotificationService;
 import com.webapp.Eventified.service.UserService;
+import com.webapp.Eventified.service.geo.EventGeoIndex;
+import com.webapp.Eventified.service.notification.NotificationOutbox;
+import com.webapp.Eventified.service.recommendation.CoParticipationIndex;
+import com.webapp.Eventified.service.recommendation.RecommendationCache;
 import org.junit.jupiter.api.*;
+import org.mockito.InOrder;
 
 
+import java.time.LocalDateTime;
 import java.util.*;
 
-
 class UserServiceTest {
 
     private UserRepository userRepository;
@@ -29,7 +38,11 @@ class UserServiceTest {
     private UserService userService;
     private SportUserRepository sportUserRepository;
     private EventRepository eventRepository;
-    private NotificationService notificationService;
+    private NotificationOutbox notificationOutbox;
+    private EventGeoIndex eventGeoIndex;
+    private RecommendationCache recommendationCache;
+    private CoParticipationIndex coParticipationIndex;
+    private EventWaitlistRepository eventWaitlistRepository;
 
     @BeforeEach
     void setUp() {
@@ -37,8 +50,12 @@ class UserServiceTest {
         eventParticipantRepository = mock(EventParticipantRepository.class);
         sportUserRepository = mock(SportUserRepository.class);
         eventRepository = mock(EventRepository.class);
-        notificationService = mock(NotificationService.class);
-        userService = new UserService(userRepository, eventParticipantRepository, sportUserRepository, eventRepository, notificationService);
+        notificationOutbox = mock(NotificationOutbox.class);
+        eventGeoIndex = mock(EventGeoIndex.class);
+        recommendationCache = mock(RecommendationCache.class);
+        coParticipationIndex = mock(CoParticipationIndex.class);
+        eventWaitlistRepository = mock(EventWaitlistRepository.class);
+        userService = new UserService(userRepository, eventParticipantRepository, sportUserRepository, eventRepository, notificationOutbox, eventGeoIndex, recommendationCache, coParticipationIndex, eventWaitlistRepository);
     }
 
     @Test
@@ -134,13 +151,15 @@ class UserServiceTest {
         User user = new User();
         user.setId(UUID.randomUUID());
         when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
-        when(eventParticipantRepository.findByUserIdAndEventId(user.getId(), eventId)).thenReturn(Optional.empty());
 
         User organizer = new User();
         organizer.setId(UUID.randomUUID());
-        com.webapp.Eventified.model.Event event = new com.webapp.Eventified.model.Event();
-        event.setOrganizer(organizer);
-        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        Event event = new Event();
+        event.setId(eventId);
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+        when(eventRepository.reserveSpotAndJoin(eventId, user.getId())).thenReturn(Optional.of(reservedSpot(organizer.getId(), startTime)));
+        when(eventRepository.getReferenceById(eventId)).thenReturn(event);
+        when(userRepository.getReferenceById(organizer.getId())).thenReturn(organizer);
 
         // Act
         boolean result = userService.joinEvent(username, eventId);
@@ -150,9 +169,13 @@ class UserServiceTest {
 
         // Verify
         verify(userRepository).findByUsername(username);
-        verify(eventParticipantRepository).findByUserIdAndEventId(user.getId(), eventId);
-        verify(eventParticipantRepository).save(any(EventParticipant.class));
-        verify(eventRepository).findById(eventId);
+        verify(eventRepository).reserveSpotAndJoin(eventId, user.getId());
+        verify(eventParticipantRepository, never()).save(any(EventParticipant.class));
+        verify(eventParticipantRepository, never()).findByUserIdAndEventId(any(), any());
+        verify(eventRepository, never()).findById(any());
+        verify(recommendationCache).invalidateUser(user.getId());
+        verify(coParticipationIndex).join(user.getId(), eventId, startTime);
+        verify(notificationOutbox).notifyNewPlayerJoined(event, organizer, username);
     }
 
     @Test
@@ -179,6 +202,7 @@ class UserServiceTest {
         User user = new User();
         user.setId(UUID.randomUUID());
         when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+        when(eventRepository.reserveSpotAndJoin(eventId, user.getId())).thenReturn(Optional.empty());
         when(eventParticipantRepository.findByUserIdAndEventId(user.getId(), eventId)).thenReturn(Optional.of(new EventParticipant()));
 
         // Act
@@ -190,7 +214,84 @@ class UserServiceTest {
         // Verify
         verify(userRepository).findByUsername(username);
         verify(eventParticipantRepository).findByUserIdAndEventId(user.getId(), eventId);
-        verify(eventParticipantRepository, never()).save(any(EventParticipant.class));
+        verify(recommendationCache, never()).invalidateUser(any());
+        verify(notificationOutbox, never()).notifyNewPlayerJoined(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("joinEvent: full event throws")
+    void joinEvent_fullEvent_throwsException() {
+        // Arrange
+        String username = "testuser";
+        UUID eventId = UUID.randomUUID();
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        Event event = new Event();
+        event.setStatusOfEvent(0);
+        when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+        when(eventRepository.reserveSpotAndJoin(eventId, user.getId())).thenReturn(Optional.empty());
+        when(eventParticipantRepository.findByUserIdAndEventId(user.getId(), eventId)).thenReturn(Optional.empty());
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+
+        // Act + Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> userService.joinEvent(username, eventId));
+        assertEquals("Event is full", exception.getMessage());
+
+        // Verify
+        verify(notificationOutbox, never()).notifyNewPlayerJoined(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("joinEvent: event not active throws")
+    void joinEvent_eventNotActive_throwsException() {
+        // Arrange
+        String username = "testuser";
+        UUID eventId = UUID.randomUUID();
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        Event event = new Event();
+        event.setStatusOfEvent(4);
+        when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+        when(eventRepository.reserveSpotAndJoin(eventId, user.getId())).thenReturn(Optional.empty());
+        when(eventParticipantRepository.findByUserIdAndEventId(user.getId(), eventId)).thenReturn(Optional.empty());
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+
+        // Act + Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> userService.joinEvent(username, eventId));
+        assertEquals("Event is not open for joining", exception.getMessage());
+    }
+
+    private static PromotedParticipant promotedParticipant(UUID userId, String username, LocalDateTime startTime) {
+        return new PromotedParticipant() {
+            @Override
+            public UUID getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getUsername() {
+                return username;
+            }
+
+            @Override
+            public LocalDateTime getStartTime() {
+                return startTime;
+            }
+        };
+    }
+
+    private static ReservedSpot reservedSpot(UUID organizerId, LocalDateTime startTime) {
+        return new ReservedSpot() {
+            @Override
+            public UUID getOrganizerId() {
+                return organizerId;
+            }
+
+            @Override
+            public LocalDateTime getStartTime() {
+                return startTime;
+            }
+        };
     }
 
     @Test
@@ -259,6 +360,142 @@ class UserServiceTest {
         verify(eventParticipantRepository).findByUserIdAndEventId(userId, eventId);
         verify(eventParticipantRepository).delete(eventParticipant);
         verify(eventRepository, atLeastOnce()).findById(eventId);
+        verify(eventWaitlistRepository).promoteNext(eventId);
+        verify(notificationOutbox, never()).notifyWaitlistPromoted(any(), any());
+    }
+
+    @Test
+    @DisplayName("leaveEvent: freed spot promotes the head of the waitlist")
+    void leaveEvent_promotesFromWaitlist() {
+        // Arrange
+        String username = "testUser";
+        UUID eventId = UUID.randomUUID();
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        EventParticipant eventParticipant = new EventParticipant(user.getId(), eventId);
+        when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+        when(eventParticipantRepository.findByUserIdAndEventId(user.getId(), eventId)).thenReturn(Optional.of(eventParticipant));
+
+        User organizer = new User();
+        organizer.setId(UUID.randomUUID());
+        Event event = new Event();
+        event.setId(eventId);
+        event.setOrganizer(organizer);
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+
+        User waiting = new User();
+        waiting.setId(UUID.randomUUID());
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+        when(eventWaitlistRepository.promoteNext(eventId)).thenReturn(Optional.of(promotedParticipant(waiting.getId(), "waiting", startTime)));
+        when(userRepository.getReferenceById(waiting.getId())).thenReturn(waiting);
+        when(eventParticipantRepository.findByEventId(eventId)).thenReturn(List.of(new EventParticipant(waiting.getId(), eventId)));
+
+        // Act
+        boolean result = userService.leaveEvent(username, eventId);
+
+        // Assert
+        assertTrue(result);
+
+        // Verify
+        InOrder inOrder = inOrder(eventParticipantRepository, eventWaitlistRepository);
+        inOrder.verify(eventParticipantRepository).delete(eventParticipant);
+        inOrder.verify(eventParticipantRepository).flush();
+        inOrder.verify(eventWaitlistRepository).promoteNext(eventId);
+        verify(recommendationCache).invalidateUser(waiting.getId());
+        verify(coParticipationIndex).join(waiting.getId(), eventId, startTime);
+        verify(notificationOutbox).notifyWaitlistPromoted(event, waiting);
+        verify(notificationOutbox).notifyNewPlayerJoined(event, organizer, "waiting");
+        verify(notificationOutbox).notifyPlayerLeft(event, organizer, username);
+        verify(eventRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("joinWaitlist: full event queues the user and returns the position")
+    void joinWaitlist_fullEvent_returnsPosition() {
+        // Arrange
+        String username = "testuser";
+        UUID eventId = UUID.randomUUID();
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+        when(eventWaitlistRepository.enqueue(eventId, user.getId())).thenReturn(1);
+        when(eventWaitlistRepository.findPosition(eventId, user.getId())).thenReturn(3L);
+
+        // Act
+        int position = userService.joinWaitlist(username, eventId);
+
+        // Assert
+        assertEquals(3, position);
+
+        // Verify
+        verify(eventWaitlistRepository).enqueue(eventId, user.getId());
+        verify(eventRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("joinWaitlist: already waitlisted keeps the existing position")
+    void joinWaitlist_alreadyWaitlisted_keepsPosition() {
+        // Arrange
+        String username = "testuser";
+        UUID eventId = UUID.randomUUID();
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+        when(eventWaitlistRepository.enqueue(eventId, user.getId())).thenReturn(0);
+        when(eventWaitlistRepository.findPosition(eventId, user.getId())).thenReturn(1L);
+
+        // Act
+        int position = userService.joinWaitlist(username, eventId);
+
+        // Assert
+        assertEquals(1, position);
+
+        // Verify
+        verify(eventRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("joinWaitlist: event with free spots throws")
+    void joinWaitlist_freeSpots_throwsException() {
+        // Arrange
+        String username = "testuser";
+        UUID eventId = UUID.randomUUID();
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        Event event = new Event();
+        event.setStatusOfEvent(0);
+        when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+        when(eventWaitlistRepository.enqueue(eventId, user.getId())).thenReturn(0);
+        when(eventWaitlistRepository.findPosition(eventId, user.getId())).thenReturn(0L);
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(eventParticipantRepository.findByUserIdAndEventId(user.getId(), eventId)).thenReturn(Optional.empty());
+
+        // Act + Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> userService.joinWaitlist(username, eventId));
+        assertEquals("Event has free spots, join it directly", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("leaveWaitlist: returns whether the user was on the waitlist")
+    void leaveWaitlist_removesEntry() {
+        // Arrange
+        String username = "testuser";
+        UUID eventId = UUID.randomUUID();
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+        when(eventWaitlistRepository.removeByEventIdAndUserId(eventId, user.getId())).thenReturn(1, 0);
+
+        // Act
+        boolean first = userService.leaveWaitlist(username, eventId);
+        boolean second = userService.leaveWaitlist(username, eventId);
+
+        // Assert
+        assertTrue(first);
+        assertFalse(second);
+
+        // Verify
+        verify(eventWaitlistRepository, times(2)).removeByEventIdAndUserId(eventId, user.getId());
     }
 
     @Test
@@ -326,6 +563,7 @@ class UserServiceTest {
         // Verify
         verify(userRepository).findByUsername(username);
         verify(sportUserRepository).save(any(SportUser.class));
+        verify(recommendationCache).invalidateUser(user.getId());
     }
 
     @Test
@@ -372,6 +610,7 @@ class UserServiceTest {
         verify(userRepository).findByUsername(username);
         verify(sportUserRepository).findByUserIdAndSport(userId, 1);
         verify(sportUserRepository).delete(sportUser);
+        verify(recommendationCache).invalidateUser(userId);
     }
 
     @Test
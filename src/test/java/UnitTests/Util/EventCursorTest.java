@@ -0,0 +1,51 @@
+package UnitTests.Util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.webapp.Eventified.util.EventCursor;
+
+class EventCursorTest {
+
+    @Test
+    @DisplayName("encode/decode: round trip keeps start time and id")
+    void encodeDecode_roundTrip() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2026, 3, 1, 18, 30, 15, 123_000_000);
+        UUID id = UUID.randomUUID();
+
+        // Act
+        EventCursor decoded = EventCursor.decode(new EventCursor(startTime, id).encode());
+
+        // Assert
+        assertAll(
+            () -> assertEquals(startTime, decoded.getStartTime()),
+            () -> assertEquals(id, decoded.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("encode: token is URL safe")
+    void encode_isUrlSafe() {
+        // Act
+        String token = new EventCursor(LocalDateTime.of(2026, 1, 1, 10, 0), UUID.randomUUID()).encode();
+
+        // Assert
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    @DisplayName("decode: malformed token throws")
+    void decode_malformed_throwsException() {
+        // Act
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> EventCursor.decode("not-a-cursor"));
+
+        // Assert
+        assertEquals("Invalid cursor", exception.getMessage());
+    }
+}
@@ -0,0 +1,68 @@
+package UnitTests.Util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.webapp.Eventified.util.GeoUtil;
+
+class GeoUtilTest {
+
+    private static final double CENTER_LATITUDE = 60.0;
+    private static final double CENTER_LONGITUDE = 10.0;
+    private static final double RADIUS_KM = 50.0;
+
+    @Test
+    @DisplayName("longitudeDelta: event inside the radius at the circle's widest point stays inside the box")
+    void boundingBox_widestPointInsideRadius_isInsideBox() {
+        // Arrange: the widest point of a slightly smaller circle lies poleward of the centre
+        double angle = 49.99 / GeoUtil.EARTH_RADIUS_KM;
+        double centerLatitude = Math.toRadians(CENTER_LATITUDE);
+        double eventLatitude = Math.asin(Math.sin(centerLatitude) / Math.cos(angle));
+        double eventLongitude = CENTER_LONGITUDE + Math.toDegrees(Math.asin(Math.sin(angle) / Math.cos(centerLatitude)));
+
+        // Act
+        double distance = GeoUtil.distanceKm(CENTER_LATITUDE, CENTER_LONGITUDE, Math.toDegrees(eventLatitude), eventLongitude);
+        double latitudeDelta = GeoUtil.latitudeDelta(RADIUS_KM);
+        double longitudeDelta = GeoUtil.longitudeDelta(CENTER_LATITUDE, RADIUS_KM);
+
+        // Assert
+        assertAll(
+            () -> assertTrue(distance < RADIUS_KM),
+            () -> assertTrue(Math.abs(Math.toDegrees(eventLatitude) - CENTER_LATITUDE) <= latitudeDelta),
+            () -> assertTrue(eventLongitude - CENTER_LONGITUDE <= longitudeDelta),
+            () -> assertTrue(eventLongitude - CENTER_LONGITUDE > RADIUS_KM / (111.32 * Math.cos(centerLatitude)))
+        );
+    }
+
+    @Test
+    @DisplayName("latitudeDelta/longitudeDelta: every point on the circle lies inside the box")
+    void boundingBox_pointsOnCircle_areInsideBox() {
+        // Arrange
+        double latitudeDelta = GeoUtil.latitudeDelta(RADIUS_KM);
+        double longitudeDelta = GeoUtil.longitudeDelta(CENTER_LATITUDE, RADIUS_KM);
+        double angle = RADIUS_KM / GeoUtil.EARTH_RADIUS_KM;
+        double centerLatitude = Math.toRadians(CENTER_LATITUDE);
+
+        for (int degrees = 0; degrees < 360; degrees++) {
+            // Act
+            double bearing = Math.toRadians(degrees);
+            double latitude = Math.asin(Math.sin(centerLatitude) * Math.cos(angle)
+                    + Math.cos(centerLatitude) * Math.sin(angle) * Math.cos(bearing));
+            double longitudeOffset = Math.atan2(Math.sin(bearing) * Math.sin(angle) * Math.cos(centerLatitude),
+                    Math.cos(angle) - Math.sin(centerLatitude) * Math.sin(latitude));
+
+            // Assert
+            assertTrue(Math.abs(Math.toDegrees(latitude) - CENTER_LATITUDE) <= latitudeDelta + 1e-9, "bearing " + degrees);
+            assertTrue(Math.abs(Math.toDegrees(longitudeOffset)) <= longitudeDelta + 1e-9, "bearing " + degrees);
+        }
+    }
+
+    @Test
+    @DisplayName("longitudeDelta: circle reaching a pole spans every longitude")
+    void longitudeDelta_circleReachesPole_returns180() {
+        // Act + Assert
+        assertEquals(180.0, GeoUtil.longitudeDelta(89.9, RADIUS_KM));
+    }
+}
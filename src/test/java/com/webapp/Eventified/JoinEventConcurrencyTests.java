@@ -0,0 +1,174 @@
+package com.webapp.Eventified;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.webapp.Eventified.model.Event;
+import com.webapp.Eventified.model.User;
+import com.webapp.Eventified.repository.UserRepository;
+import com.webapp.Eventified.service.EventService;
+import com.webapp.Eventified.service.UserService;
+
+/**
+ * Load test of the capacity-enforced join against a real Postgres database, so the conditional insert,
+ * the event row lock and the ON CONFLICT handling of reserveSpotAndJoin are exercised as they run in production.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class JoinEventConcurrencyTests {
+
+    private static final int JOINERS = 1000;
+    private static final int CAPACITY = 25;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("joinEvent: 1000 concurrent joiners fill the event exactly to its capacity")
+    void joinEvent_concurrentJoiners_neverOverbook() throws Exception {
+        // Arrange
+        String prefix = "load-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        Event event = createEvent(prefix, CAPACITY);
+        int initiallyOccupied = occupied(event.getId());
+        List<String> joiners = new ArrayList<>();
+        for (int i = 0; i < JOINERS; i++) {
+            joiners.add(createUser(prefix + i));
+        }
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // Act
+        runConcurrently(joiners.stream().<Callable<Void>>map(username -> () -> {
+            try {
+                if (userService.joinEvent(username, event.getId())) {
+                    joined.incrementAndGet();
+                }
+            } catch (IllegalArgumentException e) {
+                rejected.incrementAndGet();
+            }
+            return null;
+        }).toList());
+
+        // Assert
+        String firstJoined = jdbcTemplate.queryForObject("SELECT u.username FROM event_participants ep " +
+                "JOIN users u ON u.id = ep.user_id WHERE ep.event_id = ? AND ep.role_of_participant = 1 LIMIT 1",
+                String.class, event.getId());
+        assertAll(
+            () -> assertEquals(CAPACITY - initiallyOccupied, joined.get()),
+            () -> assertEquals(JOINERS - joined.get(), rejected.get()),
+            () -> assertEquals(CAPACITY, participants(event.getId())),
+            () -> assertEquals(CAPACITY, occupied(event.getId())),
+            () -> assertFalse(userService.joinEvent(firstJoined, event.getId()))
+        );
+    }
+
+    @Test
+    @DisplayName("joinEvent: concurrent joins of the same user add them once and return false for the others")
+    void joinEvent_concurrentDuplicateJoins_joinOnce() throws Exception {
+        // Arrange
+        String prefix = "dup-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        Event event = createEvent(prefix, CAPACITY);
+        int initiallyOccupied = occupied(event.getId());
+        String username = createUser(prefix + "player");
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+        List<Callable<Void>> attempts = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            attempts.add(() -> {
+                if (userService.joinEvent(username, event.getId())) {
+                    joined.incrementAndGet();
+                } else {
+                    duplicates.incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        // Act
+        runConcurrently(attempts);
+
+        // Assert
+        assertAll(
+            () -> assertEquals(1, joined.get()),
+            () -> assertEquals(49, duplicates.get()),
+            () -> assertEquals(initiallyOccupied + 1, participants(event.getId())),
+            () -> assertEquals(initiallyOccupied + 1, occupied(event.getId()))
+        );
+    }
+
+    private Event createEvent(String prefix, int capacity) {
+        String organizer = createUser(prefix + "organizer");
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+        return eventService.createEvent(organizer, prefix + "event", 1, "Main Street 1", 1, startTime, startTime.plusHours(2),
+                capacity, BigDecimal.valueOf(48.72), BigDecimal.valueOf(21.26));
+    }
+
+    private String createUser(String username) {
+        userRepository.save(new User(username, username + "@example.com", "hash"));
+        return username;
+    }
+
+    private int occupied(UUID eventId) {
+        return jdbcTemplate.queryForObject("SELECT occupied FROM events WHERE id = ?", Integer.class, eventId);
+    }
+
+    private int participants(UUID eventId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_participants WHERE event_id = ?", Integer.class, eventId);
+    }
+
+    private static void runConcurrently(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (Callable<Void> task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        try {
+            for (Future<Void> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}